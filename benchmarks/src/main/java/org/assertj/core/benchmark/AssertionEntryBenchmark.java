@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of entering an assertion: {@code assertThat} call, {@link AbstractAssert} construction and a trivial check.
+ * <p>
+ * Run with {@code -prof gc} to check the allocations of passing assertions, {@code gc.alloc.rate.norm} should only
+ * account for the assert object and its {@code WritableAssertionInfo}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertionEntryBenchmark {
+
+  private String string = "Frodo";
+  private Integer integer = 42;
+  private Object object = new Object();
+
+  @Benchmark
+  public Object assertThat_object() {
+    return assertThat(object);
+  }
+
+  @Benchmark
+  public Object assertThat_object_isNotNull() {
+    return assertThat(object).isNotNull();
+  }
+
+  @Benchmark
+  public Object assertThat_string_isEqualTo() {
+    return assertThat(string).isEqualTo("Frodo");
+  }
+
+  @Benchmark
+  public Object assertThat_integer_isPositive() {
+    return assertThat(integer).isPositive();
+  }
+
+  @Benchmark
+  public Object assertThat_integer_isEqualTo() {
+    return assertThat(integer).isEqualTo(42);
+  }
+
+  @Benchmark
+  public Object assertThat_integer_isGreaterThan() {
+    return assertThat(integer).isGreaterThan(0);
+  }
+
+  @Benchmark
+  public Object assertThat_with_description() {
+    return assertThat(integer).as("answer").isEqualTo(42);
+  }
+
+}
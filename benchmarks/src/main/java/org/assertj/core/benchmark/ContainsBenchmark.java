@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contains family assertions on iterables ({@code Iterables}) and object arrays ({@code ObjectArrays}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContainsBenchmark {
+
+  @Param({ "100", "10000" })
+  private int size;
+
+  private List<String> actual;
+  private String[] actualArray;
+  private String[] expected;
+  private String[] expectedInReverseOrder;
+  private String[] someExpected;
+
+  @Setup
+  public void setup() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add("element" + i);
+    }
+    actualArray = actual.toArray(new String[0]);
+    expected = actualArray.clone();
+    List<String> reversed = new ArrayList<>(actual);
+    Collections.reverse(reversed);
+    expectedInReverseOrder = reversed.toArray(new String[0]);
+    someExpected = new String[] { actual.get(0), actual.get(size / 2), actual.get(size - 1) };
+  }
+
+  @Benchmark
+  public Object iterable_contains() {
+    return assertThat(actual).contains(someExpected);
+  }
+
+  @Benchmark
+  public Object iterable_containsOnly() {
+    return assertThat(actual).containsOnly(expectedInReverseOrder);
+  }
+
+  @Benchmark
+  public Object iterable_containsExactly() {
+    return assertThat(actual).containsExactly(expected);
+  }
+
+  @Benchmark
+  public Object iterable_containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(expectedInReverseOrder);
+  }
+
+  @Benchmark
+  public Object iterable_doesNotHaveDuplicates() {
+    return assertThat(actual).doesNotHaveDuplicates();
+  }
+
+  @Benchmark
+  public Object array_contains() {
+    return assertThat(actualArray).contains(someExpected);
+  }
+
+  @Benchmark
+  public Object array_containsOnly() {
+    return assertThat(actualArray).containsOnly(expectedInReverseOrder);
+  }
+
+  @Benchmark
+  public Object array_containsExactlyInAnyOrder() {
+    return assertThat(actualArray).containsExactlyInAnyOrder(expectedInReverseOrder);
+  }
+
+}
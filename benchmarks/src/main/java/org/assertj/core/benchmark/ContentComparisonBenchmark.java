@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Text and binary content comparison of files, paths and input streams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentComparisonBenchmark {
+
+  @Param({ "1000", "100000" })
+  private int lines;
+
+  private byte[] content;
+  private Path actual;
+  private Path expected;
+
+  @Setup
+  public void setup() throws IOException {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      text.append("line number ").append(i).append(System.lineSeparator());
+    }
+    content = text.toString().getBytes(UTF_8);
+    actual = Files.write(Files.createTempFile("assertj-benchmark-actual", ".txt"), content);
+    expected = Files.write(Files.createTempFile("assertj-benchmark-expected", ".txt"), content);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(actual);
+    Files.deleteIfExists(expected);
+  }
+
+  @Benchmark
+  public Object file_hasSameTextualContentAs() {
+    return assertThat(actual.toFile()).hasSameTextualContentAs(expected.toFile());
+  }
+
+  @Benchmark
+  public Object file_hasSameBinaryContentAs() {
+    return assertThat(actual.toFile()).hasSameBinaryContentAs(expected.toFile());
+  }
+
+  @Benchmark
+  public Object path_hasSameTextualContentAs() {
+    return assertThat(actual).hasSameTextualContentAs(expected);
+  }
+
+  @Benchmark
+  public Object path_hasSameBinaryContentAs() {
+    return assertThat(actual).hasSameBinaryContentAs(expected);
+  }
+
+  @Benchmark
+  public Object path_hasBinaryContent() {
+    return assertThat(actual).hasBinaryContent(content);
+  }
+
+  @Benchmark
+  public Object inputStream_hasSameContentAs() {
+    return assertThat(new ByteArrayInputStream(content)).hasSameContentAs(new ByteArrayInputStream(content));
+  }
+
+  @Benchmark
+  public Object inputStream_hasContent() {
+    return assertThat(new ByteArrayInputStream(content)).hasContent(new String(content, UTF_8));
+  }
+
+}
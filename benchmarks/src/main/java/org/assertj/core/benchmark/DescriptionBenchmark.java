@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the descriptions of passing assertions, {@code as("row %s col %s", i, j)} and {@code asLazy(Supplier)}
+ * should cost about the same as no description at all since passing assertions never format their description.
+ * <p>
+ * The description arguments count how many times they are rendered, the benchmark fails if a passing assertion
+ * rendered one. The failing assertion benchmark gives the cost of the formatting for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescriptionBenchmark {
+
+  private final Integer actual = 42;
+  private final RenderingCounter row = new RenderingCounter(12);
+  private final RenderingCounter column = new RenderingCounter(7);
+
+  @Benchmark
+  public Object passing_without_description() {
+    return assertThat(actual).isEqualTo(42);
+  }
+
+  @Benchmark
+  public Object passing_with_formatted_description() {
+    return assertThat(actual).as("row %s col %s", row, column).isEqualTo(42);
+  }
+
+  @Benchmark
+  public Object passing_with_supplied_description() {
+    return assertThat(actual).asLazy(() -> format("row %s col %s", row, column)).isEqualTo(42);
+  }
+
+  @TearDown
+  public void checkPassingAssertionsDidNotRenderTheirDescription() {
+    long renderings = row.renderings + column.renderings;
+    if (renderings > 0) throw new IllegalStateException("passing assertions rendered their description " + renderings
+                                                        + " times");
+  }
+
+  @State(Scope.Benchmark)
+  public static class FailingAssertion {
+
+    private final Integer actual = 42;
+    private final RenderingCounter row = new RenderingCounter(12);
+    private final RenderingCounter column = new RenderingCounter(7);
+  }
+
+  @Benchmark
+  public Object failing_with_formatted_description(FailingAssertion failing) {
+    try {
+      assertThat(failing.actual).as("row %s col %s", failing.row, failing.column).isEqualTo(43);
+      throw new IllegalStateException("the assertion should have failed");
+    } catch (AssertionError e) {
+      return e.getMessage();
+    }
+  }
+
+  private static final class RenderingCounter {
+
+    private final int value;
+    private long renderings;
+
+    private RenderingCounter(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      renderings++;
+      return Integer.toString(value);
+    }
+  }
+
+}
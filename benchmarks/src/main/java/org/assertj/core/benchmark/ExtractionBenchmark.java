@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Property/field extraction from iterables elements, by name (introspection) and by function.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtractionBenchmark {
+
+  @Param({ "100", "10000" })
+  private int size;
+
+  private List<Person> people;
+
+  @Setup
+  public void setup() {
+    people = Person.people(size);
+  }
+
+  @Benchmark
+  public Object extracting_property_by_name() {
+    return assertThat(people).extracting("name");
+  }
+
+  @Benchmark
+  public Object extracting_nested_property_by_name() {
+    return assertThat(people).extracting("address.city");
+  }
+
+  @Benchmark
+  public Object extracting_multiple_properties_by_name() {
+    return assertThat(people).extracting("name", "age", "address.city");
+  }
+
+  @Benchmark
+  public Object extracting_private_field_by_name() {
+    return assertThat(people).extracting("nicknames");
+  }
+
+  @Benchmark
+  public Object extracting_by_function() {
+    return assertThat(people).extracting(Person::getName);
+  }
+
+  @Benchmark
+  public Object flatExtracting_property_by_name() {
+    return assertThat(people).flatExtracting("nicknames");
+  }
+
+  @Benchmark
+  public Object flatExtracting_multiple_properties_by_name() {
+    return assertThat(people).flatExtracting("name", "age", "address.city");
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Object graph used by the benchmarks.
+ */
+public class Person {
+
+  private final String name;
+  private final int age;
+  private final Address address;
+  private final List<String> nicknames = new ArrayList<>();
+
+  public Person(String name, int age, Address address) {
+    this.name = name;
+    this.age = age;
+    this.address = address;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public List<String> getNicknames() {
+    return nicknames;
+  }
+
+  static List<Person> people(int count) {
+    List<Person> people = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Person person = new Person("person" + i, i % 100, new Address(i + " Baker Street", "London"));
+      person.nicknames.add("nickname" + i);
+      people.add(person);
+    }
+    return people;
+  }
+
+  @Override
+  public String toString() {
+    return "Person [name=" + name + ", age=" + age + "]";
+  }
+
+  public static class Address {
+
+    private final String street;
+    private final String city;
+
+    public Address(String street, String city) {
+      this.street = street;
+      this.city = city;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+
+    public String getCity() {
+      return city;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recursive comparison of collections of objects graphs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecursiveComparisonBenchmark {
+
+  @Param({ "100", "5000" })
+  private int size;
+
+  private List<Person> actual;
+  private List<Person> expected;
+  private List<Person> expectedInReverseOrder;
+  private Set<Person> actualSet;
+  private Set<Person> expectedSet;
+
+  @Setup
+  public void setup() {
+    actual = Person.people(size);
+    expected = Person.people(size);
+    expectedInReverseOrder = new ArrayList<>(expected);
+    Collections.reverse(expectedInReverseOrder);
+    actualSet = new HashSet<>(actual);
+    expectedSet = new HashSet<>(expected);
+  }
+
+  @Benchmark
+  public Object ordered_collection() {
+    return assertThat(actual).usingRecursiveComparison()
+                             .isEqualTo(expected);
+  }
+
+  @Benchmark
+  public Object ordered_collection_ignoring_collection_order() {
+    return assertThat(actual).usingRecursiveComparison()
+                             .ignoringCollectionOrder()
+                             .isEqualTo(expectedInReverseOrder);
+  }
+
+  @Benchmark
+  public Object unordered_collection() {
+    return assertThat(actualSet).usingRecursiveComparison()
+                                .isEqualTo(expectedSet);
+  }
+
+  @Benchmark
+  public Object ordered_collection_ignoring_fields() {
+    return assertThat(actual).usingRecursiveComparison()
+                             .ignoringFields("address.street")
+                             .isEqualTo(expected);
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link StandardRepresentation#toStringOf(Object)} of large collections, maps and arrays as done in error messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepresentationBenchmark {
+
+  @Param({ "100", "100000" })
+  private int size;
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+  private List<Person> list;
+  private Map<String, Person> map;
+  private int[] intArray;
+  private List<List<String>> nestedList;
+
+  @Setup
+  public void setup() {
+    list = Person.people(size);
+    map = new LinkedHashMap<>();
+    list.forEach(person -> map.put(person.getName(), person));
+    intArray = new int[size];
+    for (int i = 0; i < size; i++) {
+      intArray[i] = i;
+    }
+    nestedList = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      nestedList.add(list.get(i).getNicknames());
+    }
+  }
+
+  @Benchmark
+  public String list_toStringOf() {
+    return representation.toStringOf(list);
+  }
+
+  @Benchmark
+  public String map_toStringOf() {
+    return representation.toStringOf(map);
+  }
+
+  @Benchmark
+  public String primitive_array_toStringOf() {
+    return representation.toStringOf(intArray);
+  }
+
+  @Benchmark
+  public String nested_list_toStringOf() {
+    return representation.toStringOf(nestedList);
+  }
+
+  @Benchmark
+  public String list_unambiguousToStringOf() {
+    return representation.unambiguousToStringOf(list);
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Soft assertions going through the generated proxies, with passing and failing assertions, the latter being collected.
+ * <p>
+ * {@link #first_soft_assertion_in_a_new_jvm()} measures the proxy classes loading or generation cost paid by each JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoftAssertionsBenchmark {
+
+  private List<Person> people = Person.people(10);
+
+  @Benchmark
+  public Object passing_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("Frodo").startsWith("Fro").endsWith("do");
+    softly.assertThat(42).isPositive().isEqualTo(42);
+    softly.assertThat(people).hasSize(10).extracting(Person::getAge).contains(1, 2);
+    return softly.errorsCollected();
+  }
+
+  @Benchmark
+  public Object failing_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("Frodo").startsWith("Sam").endsWith("wise");
+    softly.assertThat(42).isNegative().isEqualTo(43);
+    // isFalse calls isEqualTo which is also proxied
+    softly.assertThat(true).isFalse();
+    softly.assertThat(people).hasSize(11).extracting(Person::getAge).contains(-1);
+    return softly.errorsCollected();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  @Fork(10)
+  public Object first_soft_assertion_in_a_new_jvm() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("Frodo").isEqualTo("Frodo");
+    softly.assertThat(people).hasSize(10);
+    return softly.errorsCollected();
+  }
+
+}
@@ -34,7 +34,7 @@ public abstract class AbstractComparableAssert<SELF extends AbstractComparableAs
     extends AbstractObjectAssert<SELF, ACTUAL> implements ComparableAssert<SELF, ACTUAL> {
 
   @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   public AbstractComparableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
@@ -112,7 +112,7 @@ public abstract class AbstractComparableAssert<SELF extends AbstractComparableAs
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
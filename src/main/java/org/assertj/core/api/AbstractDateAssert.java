@@ -28,7 +28,7 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Collection;
@@ -36,6 +36,7 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.configuration.ConfigurationProvider;
@@ -77,6 +78,12 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
                                                                     newIsoDateTimeFormat(),
                                                                     newIsoDateFormat());
 
+  /**
+   * lock free fast path for the String dates having the exact shape of one of the default date formats, uses the same
+   * time zone as them.
+   */
+  private static final DefaultDateFormatsParser DEFAULT_PARSER = new DefaultDateFormatsParser(TimeZone.getDefault());
+
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
 
@@ -2996,6 +3003,8 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
     Date date = parseDateWith(dateAsString, userDateFormats.get());
     if (date != null) return date;
     // no matching user date format, let's try default format
+    date = DEFAULT_PARSER.parse(dateAsString);
+    if (date != null) return date;
     date = parseDateWithDefaultDateFormats(dateAsString);
     if (date != null) return date;
     // no matching date format, throw an error
@@ -3017,11 +3026,11 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
 
   private Date parseDateWith(final String dateAsString, final Collection<DateFormat> dateFormats) {
     for (DateFormat defaultDateFormat : dateFormats) {
-      try {
-        return defaultDateFormat.parse(dateAsString);
-      } catch (@SuppressWarnings("unused") ParseException e) {
-        // ignore and try next date format
-      }
+      // same as DateFormat.parse(String) without throwing a ParseException when the date format does not match
+      ParsePosition parsePosition = new ParsePosition(0);
+      Date date = defaultDateFormat.parse(dateAsString, parsePosition);
+      if (parsePosition.getIndex() != 0) return date;
+      // try next date format
     }
     return null;
   }
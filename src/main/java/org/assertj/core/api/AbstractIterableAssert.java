@@ -46,6 +46,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +57,7 @@ import org.assertj.core.api.iterable.ThrowingExtractor;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.condition.Not;
 import org.assertj.core.description.Description;
+import org.assertj.core.extractor.ByNameMultipleExtractor;
 import org.assertj.core.groups.FieldsOrPropertiesExtractor;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.CommonErrors;
@@ -111,7 +113,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   private static final String ASSERT = "Assert";
 
   private TypeComparators comparatorsByType;
-  private Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+  private Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames;
   private TypeComparators comparatorsForElementPropertyOrFieldTypes;
 
   protected Iterables iterables = Iterables.instance();
@@ -778,6 +780,37 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return myself;
   }
 
+  /**
+   * Same as {@link #usingElementComparator(Comparator)} but with a key extractor consistent with the given comparator,
+   * that is the comparator considers two non null elements equal if and only if their keys are equal according to their
+   * {@code equals} and {@code hashCode} methods.
+   * <p>
+   * The keys are used to look for elements with hash lookups instead of comparing them one by one, this is much faster
+   * for large groups of elements in assertions like {@code contains}, {@code containsOnly}, {@code containsOnlyOnce},
+   * {@code containsAnyOf}, {@code doesNotContain}, {@code doesNotHaveDuplicates} or {@code isSubsetOf}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> Comparator&lt;TolkienCharacter&gt; byRace = comparing(TolkienCharacter::getRace);
+   *
+   * // Sauron is a Maia like Gandalf
+   * assertThat(fellowshipOfTheRing).usingElementComparator(byRace, TolkienCharacter::getRace)
+   *                                .contains(sauron);</code></pre>
+   *
+   * @param elementComparator the comparator to use for incoming assertion checks.
+   * @param keyExtractor the function giving the keys of the elements, consistent with the given comparator.
+   * @throws NullPointerException if the given comparator or key extractor is {@code null}.
+   * @return {@code this} assertion object.
+   * @since 3.16.0
+   */
+  @CheckReturnValue
+  public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator,
+                                     Function<? super ELEMENT, ?> keyExtractor) {
+    requireNonNull(keyExtractor, "The key extractor should not be null");
+    usingElementComparator(elementComparator);
+    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator, null, keyExtractor));
+    return myself;
+  }
+
   @CheckReturnValue
   private SELF usingExtendedByTypesElementComparator(Comparator<Object> elementComparator) {
     return usingElementComparator(new ExtendedByTypesComparator(elementComparator, getComparatorsByType()));
@@ -1628,9 +1661,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public AbstractListAssert<?, List<? extends Object>, Object, ObjectAssert<Object>> flatExtracting(String... fieldOrPropertyNames) {
-    List<Object> extractedValues = FieldsOrPropertiesExtractor.extract(actual, byName(fieldOrPropertyNames)).stream()
-                                                              .flatMap(tuple -> tuple.toList().stream())
-                                                              .collect(toList());
+    ByNameMultipleExtractor<ELEMENT> extractor = new ByNameMultipleExtractor<>(fieldOrPropertyNames);
+    List<Object> extractedValues = FieldsOrPropertiesExtractor.flatExtract(actual, extractor);
     return newListAssertInstanceForMethodsChangingElementType(extractedValues);
   }
 
@@ -1726,7 +1758,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   public <T> SELF usingComparatorForElementFieldsWithNames(Comparator<T> comparator,
                                                            String... elementPropertyOrFieldNames) {
     for (String elementPropertyOrField : elementPropertyOrFieldNames) {
-      comparatorsForElementPropertyOrFieldNames.put(elementPropertyOrField, comparator);
+      getComparatorsForElementPropertyOrFieldNames().put(elementPropertyOrField, comparator);
     }
     return myself;
   }
@@ -1864,7 +1896,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public SELF usingFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                             getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -1914,7 +1946,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public SELF usingRecursiveFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new RecursiveFieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new RecursiveFieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                                      getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -2032,7 +2064,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public SELF usingElementComparatorOnFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new OnFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new OnFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                         getComparatorsForElementPropertyOrFieldTypes(),
                                                                         fields));
   }
@@ -2072,7 +2104,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public SELF usingElementComparatorIgnoringFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                               getComparatorsForElementPropertyOrFieldTypes(),
                                                                               fields));
   }
@@ -2820,6 +2852,12 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return super.as(description);
   }
 
+  @Override
+  @CheckReturnValue
+  public SELF asLazy(Supplier<String> descriptionSupplier) {
+    return super.asLazy(descriptionSupplier);
+  }
+
   @Override
   @CheckReturnValue
   public SELF describedAs(Description description) {
@@ -3034,6 +3072,12 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return comparatorsForElementPropertyOrFieldTypes;
   }
 
+  // lazy init comparators by element property or field names
+  private Map<String, Comparator<?>> getComparatorsForElementPropertyOrFieldNames() {
+    if (comparatorsForElementPropertyOrFieldNames == null) comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+    return comparatorsForElementPropertyOrFieldNames;
+  }
+
   // use to build the assert instance with a filtered iterable
   protected abstract SELF newAbstractIterableAssert(Iterable<? extends ELEMENT> iterable);
 
@@ -15,6 +15,7 @@ package org.assertj.core.api;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.assertj.core.data.Index;
 import org.assertj.core.description.Description;
@@ -229,6 +230,12 @@ public abstract class AbstractListAssert<SELF extends AbstractListAssert<SELF, A
     return super.as(description);
   }
 
+  @Override
+  @CheckReturnValue
+  public SELF asLazy(Supplier<String> descriptionSupplier) {
+    return super.asLazy(descriptionSupplier);
+  }
+
   @Override
   @CheckReturnValue
   public SELF describedAs(Description description) {
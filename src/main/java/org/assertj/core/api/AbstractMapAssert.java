@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1343,6 +1344,12 @@ public abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACT
     return super.as(description);
   }
 
+  @Override
+  @CheckReturnValue
+  public SELF asLazy(Supplier<String> descriptionSupplier) {
+    return super.asLazy(descriptionSupplier);
+  }
+
   @Override
   @CheckReturnValue
   public SELF describedAs(Description description) {
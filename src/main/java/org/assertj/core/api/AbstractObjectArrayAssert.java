@@ -14,6 +14,7 @@ package org.assertj.core.api;
 
 import static java.util.Arrays.copyOf;
 import static java.util.Arrays.stream;
+import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.filter.Filters.filter;
 import static org.assertj.core.description.Description.mostRelevantDescription;
@@ -43,6 +44,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.assertj.core.annotations.Beta;
@@ -100,7 +102,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
 
   // not private because AbstractIterableAssert.withAssertionState needs to access them
   TypeComparators comparatorsByType;
-  Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+  Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames;
   TypeComparators comparatorsForElementPropertyOrFieldTypes;
 
   public AbstractObjectArrayAssert(ELEMENT[] actual, Class<?> selfType) {
@@ -112,6 +114,11 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
     return super.as(description);
   }
 
+  @Override
+  public SELF asLazy(Supplier<String> descriptionSupplier) {
+    return super.asLazy(descriptionSupplier);
+  }
+
   @Override
   public SELF as(String description, Object... args) {
     return super.as(description, args);
@@ -1585,6 +1592,38 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
     return myself;
   }
 
+  /**
+   * Same as {@link #usingElementComparator(Comparator)} but with a key extractor consistent with the given comparator,
+   * that is the comparator considers two non null elements equal if and only if their keys are equal according to their
+   * {@code equals} and {@code hashCode} methods.
+   * <p>
+   * The keys are used to look for elements with hash lookups instead of comparing them one by one, this is much faster
+   * for large groups of elements in assertions like {@code contains}, {@code containsOnly}, {@code containsOnlyOnce},
+   * {@code containsAnyOf}, {@code doesNotContain}, {@code doesNotHaveDuplicates} or {@code isSubsetOf}.
+   * <p>
+   * Example :
+   * <pre><code class='java'> Comparator&lt;TolkienCharacter&gt; byRace = comparing(TolkienCharacter::getRace);
+   *
+   * // Sauron is a Maia like Gandalf
+   * assertThat(fellowshipOfTheRing).usingElementComparator(byRace, TolkienCharacter::getRace)
+   *                                .contains(sauron);</code></pre>
+   *
+   * @param elementComparator the comparator to use for incoming assertion checks.
+   * @param keyExtractor the function giving the keys of the elements, consistent with the given comparator.
+   * @throws NullPointerException if the given comparator or key extractor is {@code null}.
+   * @return {@code this} assertion object.
+   * @since 3.16.0
+   */
+  @CheckReturnValue
+  public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator,
+                                     Function<? super ELEMENT, ?> keyExtractor) {
+    requireNonNull(keyExtractor, "The key extractor should not be null");
+    usingElementComparator(elementComparator);
+    this.arrays = new ObjectArrays(new ComparatorBasedComparisonStrategy(elementComparator, null, keyExtractor));
+    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator, null, keyExtractor));
+    return myself;
+  }
+
   private SELF usingExtendedByTypesElementComparator(Comparator<Object> elementComparator) {
     return usingElementComparator(new ExtendedByTypesComparator(elementComparator, getComparatorsByType()));
   }
@@ -1664,7 +1703,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
   public <C> SELF usingComparatorForElementFieldsWithNames(Comparator<C> comparator,
                                                            String... elementPropertyOrFieldNames) {
     for (String elementPropertyOrField : elementPropertyOrFieldNames) {
-      comparatorsForElementPropertyOrFieldNames.put(elementPropertyOrField, comparator);
+      getComparatorsForElementPropertyOrFieldNames().put(elementPropertyOrField, comparator);
     }
     return myself;
   }
@@ -1811,7 +1850,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
    */
   @CheckReturnValue
   public SELF usingFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                             getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -1860,7 +1899,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
    */
   @CheckReturnValue
   public SELF usingRecursiveFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new RecursiveFieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new RecursiveFieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                                      getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -1894,7 +1933,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
    */
   @CheckReturnValue
   public SELF usingElementComparatorOnFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new OnFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new OnFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                         getComparatorsForElementPropertyOrFieldTypes(),
                                                                         fields));
   }
@@ -1929,7 +1968,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
    */
   @CheckReturnValue
   public SELF usingElementComparatorIgnoringFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                               getComparatorsForElementPropertyOrFieldTypes(),
                                                                               fields));
   }
@@ -3089,6 +3128,12 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
     return comparatorsForElementPropertyOrFieldTypes;
   }
 
+  // lazy init comparators by element property or field names
+  private Map<String, Comparator<?>> getComparatorsForElementPropertyOrFieldNames() {
+    if (comparatorsForElementPropertyOrFieldNames == null) comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+    return comparatorsForElementPropertyOrFieldNames;
+  }
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   @Override
   SELF withAssertionState(AbstractAssert assertInstance) {
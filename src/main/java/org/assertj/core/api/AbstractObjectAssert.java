@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
@@ -52,7 +53,7 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SELF, ACTUAL>, ACTUAL>
     extends AbstractAssert<SELF, ACTUAL> {
 
-  private Map<String, Comparator<?>> comparatorByPropertyOrField = new TreeMap<>();
+  private Map<String, Comparator<?>> comparatorByPropertyOrField;
   private TypeComparators comparatorByType;
 
   public AbstractObjectAssert(ACTUAL actual, Class<?> selfType) {
@@ -65,6 +66,12 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     return super.as(description);
   }
 
+  @Override
+  @CheckReturnValue
+  public SELF asLazy(Supplier<String> descriptionSupplier) {
+    return super.asLazy(descriptionSupplier);
+  }
+
   @Override
   @CheckReturnValue
   public SELF as(String description, Object... args) {
@@ -109,7 +116,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one of actual's field to compare can't be found in the other object.
    */
   public SELF isEqualToIgnoringNullFields(Object other) {
-    objects.assertIsEqualToIgnoringNullFields(info, actual, other, comparatorByPropertyOrField, getComparatorsByType());
+    objects.assertIsEqualToIgnoringNullFields(info, actual, other, getComparatorByPropertyOrField(), getComparatorsByType());
     return myself;
   }
 
@@ -152,7 +159,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if a property/field does not exist in actual.
    */
   public SELF isEqualToComparingOnlyGivenFields(Object other, String... propertiesOrFieldsUsedInComparison) {
-    objects.assertIsEqualToComparingOnlyGivenFields(info, actual, other, comparatorByPropertyOrField, getComparatorsByType(),
+    objects.assertIsEqualToComparingOnlyGivenFields(info, actual, other, getComparatorByPropertyOrField(), getComparatorsByType(),
                                                     propertiesOrFieldsUsedInComparison);
     return myself;
   }
@@ -192,7 +199,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one of actual's property/field to compare can't be found in the other object.
    */
   public SELF isEqualToIgnoringGivenFields(Object other, String... propertiesOrFieldsToIgnore) {
-    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorByPropertyOrField, getComparatorsByType(),
+    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, getComparatorByPropertyOrField(), getComparatorsByType(),
                                                propertiesOrFieldsToIgnore);
     return myself;
   }
@@ -354,7 +361,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one of actual's property/field to compare can't be found in the other object.
    */
   public SELF isEqualToComparingFieldByField(Object other) {
-    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorByPropertyOrField, getComparatorsByType());
+    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, getComparatorByPropertyOrField(), getComparatorsByType());
     return myself;
   }
 
@@ -364,6 +371,12 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     return comparatorByType;
   }
 
+  // lazy init comparators by property or field
+  private Map<String, Comparator<?>> getComparatorByPropertyOrField() {
+    if (comparatorByPropertyOrField == null) comparatorByPropertyOrField = new TreeMap<>();
+    return comparatorByPropertyOrField;
+  }
+
   /**
    * Allows to set a specific comparator to compare properties or fields with the given names.
    * A typical usage is for comparing double/float fields with a given precision.
@@ -417,7 +430,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
   @CheckReturnValue
   public <T> SELF usingComparatorForFields(Comparator<T> comparator, String... propertiesOrFields) {
     for (String propertyOrField : propertiesOrFields) {
-      comparatorByPropertyOrField.put(propertyOrField, comparator);
+      getComparatorByPropertyOrField().put(propertyOrField, comparator);
     }
     return myself;
   }
@@ -904,7 +917,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @Deprecated
   public SELF isEqualToComparingFieldByFieldRecursively(Object other) {
-    objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, comparatorByPropertyOrField,
+    objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, getComparatorByPropertyOrField(),
                                                             getComparatorsByType());
     return myself;
   }
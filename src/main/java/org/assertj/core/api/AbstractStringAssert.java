@@ -29,7 +29,7 @@ public class AbstractStringAssert<SELF extends AbstractStringAssert<SELF>> exten
   }
 
   @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   /**
    * Verifies that the actual value is less than the given {@link String} according to {@link String#compareTo(String)}.
@@ -273,7 +273,7 @@ public class AbstractStringAssert<SELF extends AbstractStringAssert<SELF>> exten
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
@@ -79,7 +79,7 @@ public class AtomicReferenceArrayAssert<T>
   Iterables iterables = Iterables.instance();
 
   private TypeComparators comparatorsByType;
-  private Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+  private Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames;
   private TypeComparators comparatorsForElementPropertyOrFieldTypes;
 
   public AtomicReferenceArrayAssert(AtomicReferenceArray<T> actual) {
@@ -1791,7 +1791,7 @@ public class AtomicReferenceArrayAssert<T>
   public <C> AtomicReferenceArrayAssert<T> usingComparatorForElementFieldsWithNames(Comparator<C> comparator,
                                                                                     String... elementPropertyOrFieldNames) {
     for (String elementPropertyOrField : elementPropertyOrFieldNames) {
-      comparatorsForElementPropertyOrFieldNames.put(elementPropertyOrField, comparator);
+      getComparatorsForElementPropertyOrFieldNames().put(elementPropertyOrField, comparator);
     }
     return myself;
   }
@@ -1940,7 +1940,7 @@ public class AtomicReferenceArrayAssert<T>
    */
   @CheckReturnValue
   public AtomicReferenceArrayAssert<T> usingFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                             getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -1989,7 +1989,7 @@ public class AtomicReferenceArrayAssert<T>
    */
   @CheckReturnValue
   public AtomicReferenceArrayAssert<T> usingRecursiveFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new RecursiveFieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new RecursiveFieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                                      getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -2024,7 +2024,7 @@ public class AtomicReferenceArrayAssert<T>
    */
   @CheckReturnValue
   public AtomicReferenceArrayAssert<T> usingElementComparatorOnFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new OnFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new OnFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                         getComparatorsForElementPropertyOrFieldTypes(), fields));
   }
 
@@ -2059,7 +2059,7 @@ public class AtomicReferenceArrayAssert<T>
    */
   @CheckReturnValue
   public AtomicReferenceArrayAssert<T> usingElementComparatorIgnoringFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                               getComparatorsForElementPropertyOrFieldTypes(),
                                                                               fields));
   }
@@ -3092,4 +3092,10 @@ public class AtomicReferenceArrayAssert<T>
     return comparatorsForElementPropertyOrFieldTypes;
   }
 
+  // lazy init comparators by element property or field names
+  private Map<String, Comparator<?>> getComparatorsForElementPropertyOrFieldNames() {
+    if (comparatorsForElementPropertyOrFieldNames == null) comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+    return comparatorsForElementPropertyOrFieldNames;
+  }
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lock free and exception free parsing of the {@code String} dates having the exact shape of one of the
+ * {@link AbstractDateAssert} default date formats:
+ * <ul>
+ * <li>{@code yyyy-MM-dd'T'HH:mm:ss.SSSX}</li>
+ * <li>{@code yyyy-MM-dd'T'HH:mm:ss.SSS}</li>
+ * <li>{@code yyyy-MM-dd HH:mm:ss.SSS}</li>
+ * <li>{@code yyyy-MM-dd'T'HH:mm:ssX}</li>
+ * <li>{@code yyyy-MM-dd'T'HH:mm:ss}</li>
+ * <li>{@code yyyy-MM-dd}</li>
+ * </ul>
+ * The format is picked from the string length and separators, the fields are then checked as strictly as the default
+ * date formats do.
+ * <p>
+ * {@link #parse(String)} returns {@code null} when it can't guarantee the same result as the default date formats, the
+ * caller must then use them. This is the case for other shapes (like a single digit month, that the default date
+ * formats accept), for dates before 1600 (the default date formats use the julian calendar before 1582), for time zones
+ * with minutes (that the default date formats ignore), for local date times in a time zone gap or overlap and when
+ * {@link TimeZone} and {@link ZoneRules} don't agree on the offset.
+ */
+final class DefaultDateFormatsParser {
+
+  private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+  private static final int DATE_TIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+  private static final int DATE_TIME_WITH_MS_LENGTH = "yyyy-MM-ddTHH:mm:ss.SSS".length();
+  private static final int MIN_YEAR = 1600;
+  private static final int MIN_OFFSET_HOURS = -12;
+  private static final int MAX_OFFSET_HOURS = 14;
+  private static final int MAX_CACHED_DATES = 1_000;
+  private static final long DAY_IN_MILLIS = 24 * 60 * 60 * 1000L;
+
+  private final TimeZone timeZone;
+  private final ZoneRules zoneRules;
+  // epoch millis of the already parsed dates
+  private final Map<String, Long> parsedDates = new ConcurrentHashMap<>();
+
+  DefaultDateFormatsParser(TimeZone timeZone) {
+    this.timeZone = timeZone;
+    this.zoneRules = timeZone.toZoneId().getRules();
+  }
+
+  /**
+   * Parses the given date if it has the exact shape of one of the default date formats.
+   *
+   * @param dateAsString the date to parse.
+   * @return the parsed date or {@code null} if the default date formats must be used.
+   */
+  Date parse(String dateAsString) {
+    Long epochMilli = parsedDates.get(dateAsString);
+    if (epochMilli == null) {
+      epochMilli = parseEpochMilli(dateAsString);
+      if (epochMilli == null) return null;
+      if (parsedDates.size() >= MAX_CACHED_DATES) parsedDates.clear();
+      parsedDates.put(dateAsString, epochMilli);
+    }
+    // Date is mutable, never share it
+    return new Date(epochMilli);
+  }
+
+  private Long parseEpochMilli(String s) {
+    int length = s.length();
+    if (length < DATE_LENGTH || !isDate(s)) return null;
+    int year = number(s, 0, 4);
+    int month = number(s, 5, 2);
+    int day = number(s, 8, 2);
+    if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) return null;
+    if (length == DATE_LENGTH) return toEpochMilli(LocalDateTime.of(year, month, day, 0, 0));
+    if (length < DATE_TIME_LENGTH || !isTime(s)) return null;
+    int hour = number(s, 11, 2);
+    int minute = number(s, 14, 2);
+    int second = number(s, 17, 2);
+    if (hour > 23 || minute > 59 || second > 59) return null;
+    boolean timestamp = s.charAt(10) == ' ';
+    int millis = 0;
+    int zoneIndex = DATE_TIME_LENGTH;
+    if (length >= DATE_TIME_WITH_MS_LENGTH && s.charAt(19) == '.') {
+      if (!isDigits(s, 20, 3)) return null;
+      millis = number(s, 20, 3);
+      zoneIndex = DATE_TIME_WITH_MS_LENGTH;
+    } else if (timestamp) {
+      // the timestamp format requires milliseconds
+      return null;
+    }
+    LocalDateTime localDateTime = LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+    if (length == zoneIndex) return toEpochMilli(localDateTime);
+    // the timestamp format has no time zone
+    if (timestamp) return null;
+    ZoneOffset offset = offset(s, zoneIndex);
+    return offset == null ? null : localDateTime.toInstant(offset).toEpochMilli();
+  }
+
+  private Long toEpochMilli(LocalDateTime localDateTime) {
+    List<ZoneOffset> validOffsets = zoneRules.getValidOffsets(localDateTime);
+    // gap or overlap, let the default date formats resolve it
+    if (validOffsets.size() != 1) return null;
+    long epochMilli = localDateTime.toInstant(validOffsets.get(0)).toEpochMilli();
+    // the TimeZone used by the default date formats and the ZoneRules don't always agree (for example before the first
+    // time zone transition), only keep the result if they agree around the parsed date.
+    return agreeOnOffset(epochMilli - DAY_IN_MILLIS) && agreeOnOffset(epochMilli)
+           && agreeOnOffset(epochMilli + DAY_IN_MILLIS) ? epochMilli : null;
+  }
+
+  private boolean agreeOnOffset(long epochMilli) {
+    int offsetInSeconds = zoneRules.getOffset(Instant.ofEpochMilli(epochMilli)).getTotalSeconds();
+    return timeZone.getOffset(epochMilli) == offsetInSeconds * 1000;
+  }
+
+  // supports Z, +hh, +hhmm and +hh:mm with zero minutes
+  private static ZoneOffset offset(String s, int index) {
+    int length = s.length() - index;
+    char sign = s.charAt(index);
+    if (sign == 'Z') return length == 1 ? ZoneOffset.UTC : null;
+    if (sign != '+' && sign != '-') return null;
+    boolean zeroMinutes = (length == 5 && s.startsWith("00", index + 3))
+                          || (length == 6 && s.startsWith(":00", index + 3));
+    if (length != 3 && !zeroMinutes) return null;
+    if (!isDigits(s, index + 1, 2)) return null;
+    int hours = number(s, index + 1, 2);
+    if (sign == '-') hours = -hours;
+    if (hours < MIN_OFFSET_HOURS || hours > MAX_OFFSET_HOURS) return null;
+    return ZoneOffset.ofHours(hours);
+  }
+
+  private static boolean isDate(String s) {
+    return isDigits(s, 0, 4) && s.charAt(4) == '-' && isDigits(s, 5, 2) && s.charAt(7) == '-' && isDigits(s, 8, 2);
+  }
+
+  private static boolean isTime(String s) {
+    char separator = s.charAt(10);
+    return (separator == 'T' || separator == ' ') && isDigits(s, 11, 2) && s.charAt(13) == ':' && isDigits(s, 14, 2)
+           && s.charAt(16) == ':' && isDigits(s, 17, 2);
+  }
+
+  private static boolean isDigits(String s, int index, int count) {
+    for (int i = index; i < index + count; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
+  }
+
+  private static int number(String s, int index, int count) {
+    int number = 0;
+    for (int i = index; i < index + count; i++) {
+      number = number * 10 + s.charAt(i) - '0';
+    }
+    return number;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    if (month == 2) return isLeapYear(year) ? 29 : 28;
+    return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+  }
+}
@@ -12,7 +12,10 @@
  */
 package org.assertj.core.api;
 
+import java.util.function.Supplier;
+
 import org.assertj.core.description.Description;
+import org.assertj.core.description.LazyTextDescription;
 import org.assertj.core.description.TextDescription;
 
 /**
@@ -74,6 +77,31 @@ public interface Descriptable<SELF> {
     return describedAs(description);
   }
 
+  /**
+   * Lazily specifies the description of the assertion that is going to be called after, the description
+   * {@link Supplier} is only called when the assertion fails (and at most once).
+   * <p>
+   * You must set it <b>before</b> calling the assertion otherwise it is ignored as the failing assertion breaks
+   * the chained call by throwing an AssertionError.
+   * <p>
+   * This is useful when building the description is expensive, most assertions pass and their description is never
+   * used.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // the description is only built if the assertion fails
+   * assertThat(row.getCell(column)).asLazy(() -&gt; format(&quot;row %s col %s&quot;, row.getIndex(), column))
+   *                                    .isEqualTo(expected);</code></pre>
+   *
+   * @param descriptionSupplier the supplier of the description to set.
+   * @return {@code this} object.
+   * @throws NullPointerException if the description supplier is {@code null}.
+   * @see #as(String, Object...)
+   * @since 3.16.0
+   */
+  default SELF asLazy(Supplier<String> descriptionSupplier) {
+    return describedAs(new LazyTextDescription(descriptionSupplier));
+  }
+
   /**
    * Sets the description of the assertion that is going to be called after.
    * <p>
@@ -14,11 +14,13 @@ package org.assertj.core.api;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 
+import org.assertj.core.internal.Failures;
+import org.assertj.core.util.Throwables;
+
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
@@ -31,11 +33,14 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // scope : the current thread, number of intercept calls in progress (more than one means nested proxy calls)
+  private static final ThreadLocal<int[]> PROXY_CALLS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
   // scope : the current softassertion object
   private final List<Throwable> errors = new ArrayList<>();
+  // scope : the current softassertion object, collected errors whose stack trace has not been filtered yet (only the ones
+  // created while stack trace filtering was enabled)
+  private final List<Throwable> errorsWithDeferredStackTraceFiltering = new ArrayList<>();
   // scope : the last assertion call (might be nested)
   private final LastResult lastResult = new LastResult();
 
@@ -54,6 +59,11 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] proxyCallsDepth = PROXY_CALLS_DEPTH.get();
+    proxyCallsDepth[0]++;
+    // collected errors stack trace is filtered when they are requested, it is not worth it if they are never reported
+    Failures.instance().startDeferringStackTraceFiltering();
+    AssertionError collectedError = null;
     try {
       Object result = proxy.call();
       errorCollector.lastResult.setSuccess(true);
@@ -64,6 +74,13 @@ public class ErrorCollector {
         throw assertionError;
       }
       collectAssertionError(assertionError, errorCollector);
+      collectedError = assertionError;
+    } finally {
+      proxyCallsDepth[0]--;
+      // the errors created during the call that are not collected are filtered now
+      if (Failures.instance().stopDeferringStackTraceFiltering(collectedError)) {
+        errorCollector.errorsWithDeferredStackTraceFiltering.add(collectedError);
+      }
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -84,9 +101,16 @@ public class ErrorCollector {
   }
 
   public List<Throwable> errors() {
+    filterDeferredStackTraces();
     return Collections.unmodifiableList(errors);
   }
 
+  private void filterDeferredStackTraces() {
+    if (errorsWithDeferredStackTraceFiltering.isEmpty()) return;
+    errorsWithDeferredStackTraceFiltering.forEach(Throwables::removeAssertJRelatedElementsFromStackTrace);
+    errorsWithDeferredStackTraceFiltering.clear();
+  }
+
   public boolean wasSuccess() {
     return lastResult.wasSuccess();
   }
@@ -95,11 +119,8 @@ public class ErrorCollector {
     return countErrorCollectorProxyCalls() > 1;
   }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private static int countErrorCollectorProxyCalls() {
+    return PROXY_CALLS_DEPTH.get()[0];
   }
 
   private static class LastResult {
@@ -29,6 +29,7 @@ import java.util.stream.Stream;
 import org.assertj.core.api.iterable.ThrowingExtractor;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.Lists;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -204,6 +205,41 @@ public class ListAssert<ELEMENT> extends
                    .failure(info, shouldStartWith("Stream under test", sequence, iterables.getComparisonStrategy()));
   }
 
+  /**
+   * Returns a {@link StreamAssert} registering checks to evaluate in a single lazy pass over the actual elements when
+   * {@link StreamAssert#verify()} is called.
+   * <p>
+   * When the actual value was created from a {@link Stream}, the stream is consumed only once by
+   * {@link StreamAssert#verify()} without being collected in memory, which allows to check very large streams. No other
+   * assertion can be chained on the stream afterwards.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of(1, 2, 3)).inSinglePass()
+   *                               .allMatch(i -&gt; i &gt; 0)
+   *                               .containsOnly(1, 2, 3)
+   *                               .isSorted()
+   *                               .hasSize(3)
+   *                               .verify();
+   *
+   * // assertion will fail when verify() is called
+   * assertThat(Stream.of(1, 2, 3)).inSinglePass()
+   *                               .noneMatch(i -&gt; i == 2)
+   *                               .verify();</code></pre>
+   *
+   * @return a {@link StreamAssert} on the actual elements.
+   * @throws AssertionError if the actual value is {@code null}.
+   * @throws IllegalStateException if {@link StreamAssert#verify()} was not called on the previous single pass assertion
+   *           with registered checks created in the current thread.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> inSinglePass() {
+    isNotNull();
+    BaseStream<? extends ELEMENT, ?> stream = actual instanceof ListFromStream ? asListFromStream().unconsumedStream()
+        : actual.stream();
+    return new StreamAssert<ELEMENT>(stream).withAssertionState(myself);
+  }
+
   @SuppressWarnings("rawtypes")
   private ListFromStream asListFromStream() {
     return (ListFromStream) actual;
@@ -224,6 +260,11 @@ public class ListAssert<ELEMENT> extends
       return list.stream();
     }
 
+    // the stream to consume in a single pass, the list if the stream has already been collected
+    private BaseStream<ELEMENT, ?> unconsumedStream() {
+      return list == null ? stream : list.stream();
+    }
+
     private List<ELEMENT> initList() {
       if (list == null) {
         list = Lists.newArrayList(stream.iterator());
@@ -26,6 +26,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.internal.Failures;
+import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.Lists;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -200,6 +201,35 @@ public class ProxyableListAssert<ELEMENT> extends
                    .failure(info, shouldStartWith("Stream under test", sequence, iterables.getComparisonStrategy()));
   }
 
+  /**
+   * Returns a {@link StreamAssert} registering checks to evaluate in a single lazy pass over the actual elements when
+   * {@link StreamAssert#verify()} is called, see {@link ListAssert#inSinglePass()}.
+   * <p>
+   * With soft assertions, the error reported by {@link StreamAssert#verify()} is collected like the other ones.
+   * <p>
+   * Example:
+   * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+   * softly.assertThat(list(1, 2, 3)).inSinglePass()
+   *                                 .noneMatch(i -&gt; i == 2)
+   *                                 .verify();
+   * // fails reporting that 2 matches the predicate
+   * softly.assertAll();</code></pre>
+   *
+   * @return a {@link StreamAssert} on the actual elements.
+   * @throws AssertionError if the actual value is {@code null}.
+   * @throws IllegalStateException if {@link StreamAssert#verify()} was not called on the previous single pass assertion
+   *           with registered checks created in the current thread.
+   * @since 3.16.0
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> inSinglePass() {
+    isNotNull();
+    BaseStream<? extends ELEMENT, ?> stream = actual instanceof ProxyableListAssert.ListFromStream
+        ? asListFromStream().unconsumedStream()
+        : actual.stream();
+    return new StreamAssert<ELEMENT>(stream).withAssertionState(myself);
+  }
+
   @SuppressWarnings("rawtypes")
   private ProxyableListAssert.ListFromStream asListFromStream() {
     return (ProxyableListAssert.ListFromStream) actual;
@@ -220,6 +250,11 @@ public class ProxyableListAssert<ELEMENT> extends
       return list.stream();
     }
 
+    // the stream to consume in a single pass, the list if the stream has already been collected
+    private BaseStream<ELEMENT, ?> unconsumedStream() {
+      return list == null ? stream : list.stream();
+    }
+
     private List<ELEMENT> initList() {
       if (list == null) list = Lists.newArrayList(stream.iterator());
       return list;
@@ -761,6 +761,35 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison to compare the object graphs using the given number of threads, this is useful to speed up
+   * the comparison of big object graphs like large collections of objects with many fields.
+   * <p>
+   * The reported differences are the same as the ones reported by a single threaded comparison. When the same objects are
+   * referenced from different places of the graphs, the threads may compare them in a different order than the single
+   * threaded comparison does, in that case the graphs are compared again with a single thread.
+   * <p>
+   * Custom comparators and overridden {@code equals} methods used in the comparison must be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; people = loadOneMillionPeople();
+   * List&lt;Person&gt; expectedPeople = loadOneMillionExpectedPeople();
+   *
+   * // compare the people lists with 4 threads
+   * assertThat(people).usingRecursiveComparison()
+   *                   .withParallelism(4)
+   *                   .isEqualTo(expectedPeople);</code></pre>
+   *
+   * @param parallelism the number of threads used to compare the object graphs, 1 means no parallelism.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
   /**
    * Allows to register a specific comparator to compare fields with the given locations.
    * A typical usage is for comparing double/float fields with a given precision.
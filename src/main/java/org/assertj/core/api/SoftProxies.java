@@ -29,6 +29,7 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -56,9 +57,11 @@ class SoftProxies {
                                                                                                                       .or(named("extractingFromEntries"))
                                                                                                                       .or(named("get"))
                                                                                                                       .or(named("asInstanceOf"))
-                                                                                                                      .or(named("succeedsWithin"));
+                                                                                                                      .or(named("succeedsWithin"))
+                                                                                                                      .or(named("inSinglePass"));
 
   private static final Junction<MethodDescription> METHODS_NOT_TO_PROXY = methodsNamed("as").or(named("clone"))
+                                                                                            .or(named("asLazy"))
                                                                                             .or(named("describedAs"))
                                                                                             .or(named("descriptionText"))
                                                                                             .or(named("getWritableAssertionInfo"))
@@ -84,6 +87,7 @@ class SoftProxies {
 
   private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.SuffixingRandom("AssertJ$SoftProxies"))
                                                              .with(TypeValidation.DISABLED);
+  private static final String PREGENERATED_PROXY_CLASS_NAME_SUFFIX = "$AssertJ$SoftProxy";
 
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
@@ -121,7 +125,29 @@ class SoftProxies {
   @SuppressWarnings("unchecked")
   private static <V> Class<? extends V> createSoftAssertionProxyClass(Class<V> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<V>) CACHE.findOrInsert(SoftProxies.class.getClassLoader(), cacheKey, () -> generateProxyClass(assertClass));
+    return (Class<V>) CACHE.findOrInsert(SoftProxies.class.getClassLoader(), cacheKey, () -> loadOrGenerateProxyClass(assertClass));
+  }
+
+  private static Class<?> loadOrGenerateProxyClass(Class<?> assertClass) {
+    Class<?> pregeneratedProxyClass = loadPregeneratedProxyClass(assertClass);
+    return pregeneratedProxyClass != null ? pregeneratedProxyClass : generateProxyClass(assertClass);
+  }
+
+  // proxies of AssertJ assert classes are generated at build time by SoftProxiesGenerator (a test class run by the maven
+  // build), not the ones of custom assert classes
+  private static Class<?> loadPregeneratedProxyClass(Class<?> assertClass) {
+    if (assertClass.getClassLoader() != SoftProxies.class.getClassLoader()) return null;
+    try {
+      Class<?> proxyClass = Class.forName(pregeneratedProxyClassName(assertClass), true, assertClass.getClassLoader());
+      return proxyClass.getSuperclass() == assertClass ? proxyClass : null;
+    } catch (ClassNotFoundException | LinkageError e) {
+      // not pre-generated (ex: custom assert class in an AssertJ package), fall back to runtime generation
+      return null;
+    }
+  }
+
+  static String pregeneratedProxyClassName(Class<?> assertClass) {
+    return assertClass.getName() + PREGENERATED_PROXY_CLASS_NAME_SUFFIX;
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
@@ -164,25 +190,28 @@ class SoftProxies {
   }
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
-    return BYTE_BUDDY.subclass(assertClass)
-                     .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
-                                  ProxifyMethodChangingTheObjectUnderTest.class,
-                                  Visibility.PRIVATE)
-                     .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
-                     .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
-                                  .and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ERROR_COLLECTOR)
-                     .implement(AssertJProxySetup.class)
-                     // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
-                     .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     // Use ClassLoader of soft assertion class to allow ByteBuddy to always find it.
-                     // This is needed in OSGI runtime when custom soft assertion is defined outside of assertj bundle.
-                     .load(assertClass.getClassLoader(), classLoadingStrategy(assertClass))
-                     .getLoaded();
+    // Use ClassLoader of soft assertion class to allow ByteBuddy to always find it.
+    // This is needed in OSGI runtime when custom soft assertion is defined outside of assertj bundle.
+    return proxyDefinition(BYTE_BUDDY.subclass(assertClass)).make()
+                                                            .load(assertClass.getClassLoader(), classLoadingStrategy(assertClass))
+                                                            .getLoaded();
+  }
+
+  // also used by SoftProxiesGenerator to generate the proxies of AssertJ assert classes at build time
+  static <V> DynamicType.Builder<V> proxyDefinition(DynamicType.Builder<V> proxyBuilder) {
+    return proxyBuilder.defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
+                                    ProxifyMethodChangingTheObjectUnderTest.class,
+                                    Visibility.PRIVATE)
+                       .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
+                       .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
+                       .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
+                       .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
+                                    .and(not(METHODS_NOT_TO_PROXY)))
+                       .intercept(ERROR_COLLECTOR)
+                       .implement(AssertJProxySetup.class)
+                       // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
+                       .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
+                                               .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
   }
 
   private static Junction<MethodDescription> methodsNamed(String name) {
@@ -0,0 +1,452 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSorted;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSortedAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldHaveComparableElementsAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldHaveMutuallyComparableElements;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSizeButHadMoreElements;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.BaseStream;
+
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.StandardComparisonStrategy;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.CheckReturnValue;
+
+/**
+ * Assertions evaluated in a single lazy pass over the elements of a {@link BaseStream}, the stream is never collected
+ * in memory which allows to check very large streams.
+ * <p>
+ * The assertion methods only register checks, they are all evaluated by {@link #verify()} which consumes the stream
+ * once, each check only keeps what it needs (counters, expected values found so far, the previous element) and the
+ * stream is not consumed any further as soon as one check fails or once no check needs more elements.
+ * <p>
+ * <b>{@link #verify()} must be called once all the checks are registered</b>, without it nothing is evaluated. A forgotten
+ * {@link #verify()} is reported by the next single pass assertion created in the same thread which throws an
+ * {@link IllegalStateException}. The other stream assertions, like {@code assertThat(stream).contains(1, 2)}, are not
+ * affected: they remain eager and evaluated right away.
+ * <p>
+ * Error messages describe the stream with its first elements, see {@link #withSampleSize(int)}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link ListAssert#inSinglePass()}</code>, example:
+ * <pre><code class='java'> assertThat(records).inSinglePass()
+ *                    .allMatch(record -&gt; record.getId() &gt; 0)
+ *                    .isSortedAccordingTo(comparing(Record::getTimestamp))
+ *                    .hasSize(10_000_000)
+ *                    .verify();</code></pre>
+ *
+ * @param <ELEMENT> the type of elements of the stream.
+ */
+public class StreamAssert<ELEMENT> extends AbstractAssert<StreamAssert<ELEMENT>, BaseStream<? extends ELEMENT, ?>> {
+
+  private static final int DEFAULT_SAMPLE_SIZE = 10;
+  // the single pass assertion of the current thread with registered checks that have not been verified yet
+  private static final ThreadLocal<StreamAssert<?>> UNVERIFIED_ASSERTION = new ThreadLocal<>();
+
+  private final ComparisonStrategy comparisonStrategy = StandardComparisonStrategy.instance();
+  private final List<Check<ELEMENT>> checks = new ArrayList<>();
+  private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+  /**
+   * Creates a new <code>{@link StreamAssert}</code>.
+   *
+   * @param actual the stream under test.
+   * @throws IllegalStateException if the checks of the previous single pass assertion created in the current thread were
+   *           registered but never evaluated by {@link #verify()}.
+   */
+  public StreamAssert(BaseStream<? extends ELEMENT, ?> actual) {
+    super(actual, StreamAssert.class);
+    checkPreviousAssertionWasVerified();
+  }
+
+  /**
+   * Registers a check verifying that all the elements of the stream match the given {@link Predicate}.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate) {
+    return allMatch(predicate, PredicateDescription.GIVEN);
+  }
+
+  /**
+   * Registers a check verifying that all the elements of the stream match the given {@link Predicate}, the predicate
+   * description is used to get an informative error message.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @param description a description of the {@link Predicate} used in the error message
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate, String description) {
+    return allMatch(predicate, new PredicateDescription(description));
+  }
+
+  private StreamAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate, PredicateDescription description) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    return addCheck((element, index, sample) -> predicate.test(element) ? null
+        : elementsShouldMatch(sample, element, description));
+  }
+
+  /**
+   * Registers a check verifying that no elements of the stream match the given {@link Predicate}.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    return addCheck((element, index, sample) -> predicate.test(element)
+        ? noElementsShouldMatch(sample, element, PredicateDescription.GIVEN)
+        : null);
+  }
+
+  /**
+   * Registers a check verifying that the stream has the given number of elements.
+   *
+   * @param expected the expected number of elements.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the expected number of elements is negative.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> hasSize(int expected) {
+    checkArgument(expected >= 0, "The expected size should not be negative but was %s", expected);
+    return addCheck(new Check<ELEMENT>() {
+      @Override
+      public ErrorMessageFactory check(ELEMENT element, long index, Object sample) {
+        return index < expected ? null : shouldHaveSizeButHadMoreElements(sample, expected);
+      }
+
+      @Override
+      public ErrorMessageFactory checkEnd(long size, Object sample) {
+        return size == expected ? null : shouldHaveSize(sample, (int) size, expected);
+      }
+    });
+  }
+
+  /**
+   * Registers a check verifying that the stream contains the given values, in any order.
+   * <p>
+   * The values are expected to be a small set, each element is compared to all of them.
+   *
+   * @param values the values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   */
+  @SafeVarargs
+  @CheckReturnValue
+  public final StreamAssert<ELEMENT> contains(ELEMENT... values) {
+    checkValues(values);
+    return addCheck(new ExpectedValuesCheck(values) {
+      @Override
+      public ErrorMessageFactory check(ELEMENT element, long index, Object sample) {
+        markFound(element);
+        return null;
+      }
+
+      @Override
+      public boolean isDone() {
+        return allFound();
+      }
+
+      @Override
+      public ErrorMessageFactory checkEnd(long size, Object sample) {
+        return allFound() ? null : shouldContain(sample, values, notFound(), comparisonStrategy);
+      }
+    });
+  }
+
+  /**
+   * Registers a check verifying that the stream contains only the given values and nothing else, in any order and
+   * ignoring duplicates.
+   * <p>
+   * The values are expected to be a small set, each element is compared to all of them.
+   *
+   * @param values the values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   */
+  @SafeVarargs
+  @CheckReturnValue
+  public final StreamAssert<ELEMENT> containsOnly(ELEMENT... values) {
+    checkValues(values);
+    return addCheck(new ExpectedValuesCheck(values) {
+      @Override
+      public ErrorMessageFactory check(ELEMENT element, long index, Object sample) {
+        return markFound(element) ? null : shouldContainOnly(sample, values, list(), list(element), comparisonStrategy);
+      }
+
+      @Override
+      public ErrorMessageFactory checkEnd(long size, Object sample) {
+        return allFound() ? null : shouldContainOnly(sample, values, notFound(), list(), comparisonStrategy);
+      }
+    });
+  }
+
+  /**
+   * Registers a check verifying that the elements of the stream are sorted according to their natural ordering.
+   *
+   * @return {@code this} assertion object.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> isSorted() {
+    return addCheck(new Check<ELEMENT>() {
+      private Object previous;
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public ErrorMessageFactory check(ELEMENT element, long index, Object sample) {
+        if (!(element instanceof Comparable)) return shouldHaveMutuallyComparableElements(sample);
+        try {
+          if (index > 0 && ((Comparable<Object>) previous).compareTo(element) > 0)
+            return shouldBeSorted(index - 1, previous, element, sample);
+        } catch (ClassCastException e) {
+          return shouldHaveMutuallyComparableElements(sample);
+        }
+        previous = element;
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Registers a check verifying that the elements of the stream are sorted according to the given comparator.
+   *
+   * @param comparator the {@link Comparator} used to compare the elements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> isSortedAccordingTo(Comparator<? super ELEMENT> comparator) {
+    requireNonNull(comparator, "The given comparator should not be null");
+    return addCheck(new Check<ELEMENT>() {
+      private ELEMENT previous;
+
+      @Override
+      public ErrorMessageFactory check(ELEMENT element, long index, Object sample) {
+        try {
+          if (index > 0 && comparator.compare(previous, element) > 0)
+            return shouldBeSortedAccordingToGivenComparator(index - 1, previous, element, sample, comparator);
+        } catch (ClassCastException e) {
+          return shouldHaveComparableElementsAccordingToGivenComparator(sample, comparator);
+        }
+        previous = element;
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Sets the number of first elements of the stream kept to describe it in error messages, default is 10.
+   *
+   * @param sampleSize the number of first elements to keep.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given sample size is negative.
+   */
+  @CheckReturnValue
+  public StreamAssert<ELEMENT> withSampleSize(int sampleSize) {
+    checkArgument(sampleSize >= 0, "The sample size should not be negative but was %s", sampleSize);
+    this.sampleSize = sampleSize;
+    return myself;
+  }
+
+  /**
+   * Evaluates all the registered checks in a single pass over the stream elements and closes the stream.
+   *
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if one of the registered checks fails, the first failure is reported.
+   */
+  public void verify() {
+    if (UNVERIFIED_ASSERTION.get() == this) UNVERIFIED_ASSERTION.remove();
+    objects.assertNotNull(info, actual);
+    try {
+      Iterator<? extends ELEMENT> iterator = actual.iterator();
+      Sample sample = new Sample(sampleSize, info.representation());
+      long index = 0;
+      while (!allChecksDone() && iterator.hasNext()) {
+        ELEMENT element = iterator.next();
+        sample.add(element);
+        for (Check<ELEMENT> check : checks) {
+          ErrorMessageFactory error = check.check(element, index, sample);
+          if (error != null) throw failure(error, sample, iterator);
+        }
+        index++;
+      }
+      for (Check<ELEMENT> check : checks) {
+        ErrorMessageFactory error = check.checkEnd(index, sample);
+        if (error != null) throw failure(error, sample, iterator);
+      }
+    } finally {
+      actual.close();
+    }
+  }
+
+  // the pass stops at the first failure, the sample records whether the stream had more elements before describing it
+  private AssertionError failure(ErrorMessageFactory error, Sample sample, Iterator<?> iterator) {
+    sample.recordMoreElements(iterator.hasNext());
+    return Failures.instance().failure(info, error);
+  }
+
+  private StreamAssert<ELEMENT> addCheck(Check<ELEMENT> check) {
+    checks.add(check);
+    UNVERIFIED_ASSERTION.set(this);
+    return myself;
+  }
+
+  private static void checkPreviousAssertionWasVerified() {
+    StreamAssert<?> unverifiedAssertion = UNVERIFIED_ASSERTION.get();
+    if (unverifiedAssertion == null) return;
+    // reported once, the next assertions can be used normally
+    UNVERIFIED_ASSERTION.remove();
+    throw new IllegalStateException(format("The %s check(s) registered on a previous single pass assertion were never evaluated, "
+                                           + "verify() must be called once all the checks are registered",
+                                           unverifiedAssertion.checks.size()));
+  }
+
+  private boolean allChecksDone() {
+    for (Check<ELEMENT> check : checks) {
+      if (!check.isDone()) return false;
+    }
+    return true;
+  }
+
+  private static void checkValues(Object[] values) {
+    checkIsNotNull(values);
+    checkArgument(values.length > 0, "The array of values to look for should not be empty");
+  }
+
+  private interface Check<ELEMENT> {
+
+    /**
+     * Checks the given element.
+     *
+     * @return the error if the check fails, {@code null} otherwise.
+     */
+    ErrorMessageFactory check(ELEMENT element, long index, Object sample);
+
+    /**
+     * Checks the stream once all its elements have been checked.
+     *
+     * @return the error if the check fails, {@code null} otherwise.
+     */
+    default ErrorMessageFactory checkEnd(long size, Object sample) {
+      return null;
+    }
+
+    /**
+     * @return whether the check does not need any more elements.
+     */
+    default boolean isDone() {
+      return false;
+    }
+  }
+
+  private abstract class ExpectedValuesCheck implements Check<ELEMENT> {
+    private final ELEMENT[] values;
+    private final boolean[] found;
+    private int notFoundCount;
+
+    private ExpectedValuesCheck(ELEMENT[] values) {
+      this.values = values;
+      this.found = new boolean[values.length];
+      this.notFoundCount = values.length;
+    }
+
+    /**
+     * Marks the values equal to the given element as found.
+     *
+     * @return whether the given element is one of the values.
+     */
+    boolean markFound(ELEMENT element) {
+      boolean isValue = false;
+      for (int i = 0; i < values.length; i++) {
+        if (!comparisonStrategy.areEqual(element, values[i])) continue;
+        isValue = true;
+        if (!found[i]) {
+          found[i] = true;
+          notFoundCount--;
+        }
+      }
+      return isValue;
+    }
+
+    boolean allFound() {
+      return notFoundCount == 0;
+    }
+
+    List<ELEMENT> notFound() {
+      List<ELEMENT> notFound = new ArrayList<>();
+      for (int i = 0; i < values.length; i++) {
+        if (!found[i]) notFound.add(values[i]);
+      }
+      return notFound;
+    }
+  }
+
+  /**
+   * The description of the stream in error messages: its first elements followed by "..." if there are more.
+   */
+  private static class Sample {
+    private final int size;
+    private final Representation representation;
+    private final List<Object> elements = new ArrayList<>();
+    private boolean hasMoreElements;
+
+    private Sample(int size, Representation representation) {
+      this.size = size;
+      this.representation = representation;
+    }
+
+    private void add(Object element) {
+      if (elements.size() < size) elements.add(element);
+      else hasMoreElements = true;
+    }
+
+    private void recordMoreElements(boolean streamHasMoreElements) {
+      hasMoreElements |= streamHasMoreElements;
+    }
+
+    @Override
+    public String toString() {
+      String elementsDescription = representation.toStringOf(elements);
+      return hasMoreElements ? "Stream starting with " + elementsDescription : elementsDescription;
+    }
+  }
+}
@@ -14,43 +14,45 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Collections.unmodifiableList;
-import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.internal.ClassShape.ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.util.Arrays.isArray;
-import static org.assertj.core.util.Lists.newArrayList;
-import static org.assertj.core.util.Strings.join;
 
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.SortedMap;
-import java.util.SortedSet;
-import java.util.stream.Stream;
+
+import org.assertj.core.internal.ClassShape;
 
 // logically immutable
 final class DualValue {
 
-  static final Class<?>[] DEFAULT_ORDERED_COLLECTION_TYPES = array(List.class, SortedSet.class, LinkedHashSet.class);
+  static final Class<?>[] DEFAULT_ORDERED_COLLECTION_TYPES = ORDERED_COLLECTION_TYPES.toArray(new Class<?>[0]);
 
-  final List<String> path;
-  final String concatenatedPath;
+  // shared with the other values at the same path, see FieldPath
+  final FieldPath fieldPath;
   final Object actual;
   final Object expected;
   private final int hashCode;
 
-
-  DualValue(List<String> path, Object actual, Object expected) {
-    this.path = newArrayList(path);
-    this.concatenatedPath = join(path).with(".");
+  DualValue(FieldPath fieldPath, Object actual, Object expected) {
+    this.fieldPath = fieldPath;
     this.actual = actual;
     this.expected = expected;
-    int h1 = actual != null ? actual.hashCode() : 0;
-    int h2 = expected != null ? expected.hashCode() : 0;
-    hashCode = h1 + h2;
+    // consistent with equals which compares values by reference, content based hash codes would collide for equal values
+    hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
+  }
+
+  DualValue(FieldPath parentPath, String fieldName, Object actual, Object expected) {
+    this(parentPath.child(fieldName), actual, expected);
+  }
+
+  DualValue(List<String> path, Object actual, Object expected) {
+    this(FieldPath.from(path), actual, expected);
   }
 
   DualValue(List<String> parentPath, String fieldName, Object actual, Object expected) {
-    this(fiedlPath(parentPath, fieldName), actual, expected);
+    this(FieldPath.from(parentPath), fieldName, actual, expected);
   }
 
   @Override
@@ -67,20 +69,19 @@ final class DualValue {
 
   @Override
   public String toString() {
-    return format("DualValue [path=%s, actual=%s, expected=%s]", concatenatedPath, actual, expected);
+    return format("DualValue [path=%s, actual=%s, expected=%s]", getConcatenatedPath(), actual, expected);
   }
 
   public List<String> getPath() {
-    return unmodifiableList(path);
+    return unmodifiableList(fieldPath.toList());
   }
 
   public String getConcatenatedPath() {
-    return concatenatedPath;
+    return fieldPath.getConcatenatedPath();
   }
 
   public String getFieldName() {
-    if (path.isEmpty()) return "";
-    return path.get(path.size() - 1);
+    return fieldPath.getFieldName();
   }
 
   public boolean isJavaType() {
@@ -137,15 +138,15 @@ final class DualValue {
   }
 
   private static boolean isAnOrderedCollection(Object value) {
-    return Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES).anyMatch(type -> type.isInstance(value));
+    return value != null && ClassShape.of(value.getClass()).isOrderedCollection();
   }
 
   public boolean isEnum() {
-    return expected.getClass().isEnum();
+    return ClassShape.of(expected.getClass()).isEnum();
   }
 
   public boolean isActualFieldAnEnum() {
-    return actual.getClass().isEnum();
+    return ClassShape.of(actual.getClass()).isEnum();
   }
 
   public boolean hasNoContainerValues() {
@@ -157,16 +158,7 @@ final class DualValue {
   }
 
   private static boolean isContainer(Object o) {
-    return o instanceof Iterable ||
-           o instanceof Map ||
-           o instanceof Optional ||
-           isArray(o);
-  }
-
-  private static List<String> fiedlPath(List<String> parentPath, String fieldName) {
-    List<String> fieldPath = newArrayList(parentPath);
-    fieldPath.add(fieldName);
-    return fieldPath;
+    return o != null && ClassShape.of(o.getClass()).isContainer();
   }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Path of a compared field from the root objects, each path points to its parent path and the paths are shared: the
+ * children of a path are created once, the elements of a collection share the path of the collection.
+ * <p>
+ * Each comparison starts from its own {@link #root()} so that the paths are released with the comparison.
+ * <p>
+ * The concatenated path (like {@code "address.street.number"}) is only built when needed and then kept, building it
+ * for a child reuses the one of its parent.
+ */
+final class FieldPath {
+
+  private final FieldPath parent;
+  private final String fieldName;
+  // lazily initialized, racy but String is immutable and computing it again gives the same value
+  private String concatenatedPath;
+  private volatile Map<String, FieldPath> children;
+  // flags of the last FieldPathMatcher that evaluated this path, immutable to be shared safely between threads
+  private MatchFlags matchFlags;
+
+  private FieldPath(FieldPath parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+  }
+
+  static FieldPath root() {
+    return new FieldPath(null, "");
+  }
+
+  static FieldPath from(List<String> path) {
+    FieldPath fieldPath = root();
+    for (String fieldName : path) {
+      fieldPath = fieldPath.child(fieldName);
+    }
+    return fieldPath;
+  }
+
+  /**
+   * Returns the path of the given field of the value at this path, the same instance is returned for a given field.
+   *
+   * @param childFieldName the field name.
+   * @return the path of the given field.
+   */
+  FieldPath child(String childFieldName) {
+    Map<String, FieldPath> currentChildren = children;
+    if (currentChildren == null) {
+      synchronized (this) {
+        currentChildren = children;
+        if (currentChildren == null) {
+          currentChildren = new ConcurrentHashMap<>();
+          children = currentChildren;
+        }
+      }
+    }
+    FieldPath child = currentChildren.get(childFieldName);
+    return child != null ? child
+        : currentChildren.computeIfAbsent(childFieldName, name -> new FieldPath(this, name));
+  }
+
+  boolean isRoot() {
+    return parent == null;
+  }
+
+  String getFieldName() {
+    return fieldName;
+  }
+
+  String getConcatenatedPath() {
+    String path = concatenatedPath;
+    if (path == null) {
+      path = parent == null || parent.isRoot() ? fieldName : parent.getConcatenatedPath() + "." + fieldName;
+      concatenatedPath = path;
+    }
+    return path;
+  }
+
+  List<String> toList() {
+    List<String> path = new ArrayList<>();
+    addTo(path);
+    return path;
+  }
+
+  private void addTo(List<String> path) {
+    if (isRoot()) return;
+    parent.addTo(path);
+    path.add(fieldName);
+  }
+
+  int matchFlags(FieldPathMatcher matcher) {
+    MatchFlags flags = matchFlags;
+    if (flags == null || flags.matcher != matcher) {
+      flags = new MatchFlags(matcher, matcher.evaluate(getConcatenatedPath()));
+      matchFlags = flags;
+    }
+    return flags.flags;
+  }
+
+  @Override
+  public String toString() {
+    return getConcatenatedPath();
+  }
+
+  private static final class MatchFlags {
+
+    private final FieldPathMatcher matcher;
+    private final int flags;
+
+    private MatchFlags(FieldPathMatcher matcher, int flags) {
+      this.matcher = matcher;
+      this.flags = flags;
+    }
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled view of the {@link RecursiveComparisonConfiguration} settings that depend on the field paths: the ignored
+ * fields, the fields whose collection order or overridden equals are ignored and the fields having a comparator.
+ * <p>
+ * All the exact field locations are merged in a single map giving the flags of a path with one lookup, the regexes are
+ * then evaluated in one pass. The resulting flags are kept by the {@link FieldPath} so that a path shared by many
+ * values (like the elements of a collection) is evaluated once.
+ */
+final class FieldPathMatcher {
+
+  static final int IGNORED = 1;
+  static final int IGNORED_COLLECTION_ORDER = 1 << 1;
+  static final int IGNORED_OVERRIDDEN_EQUALS = 1 << 2;
+  static final int HAS_FIELD_COMPARATOR = 1 << 3;
+
+  private final Map<String, Integer> flagsByFieldPath = new HashMap<>();
+  private final List<Pattern> ignoredFieldsRegexes;
+  private final List<Pattern> ignoredCollectionOrderRegexes;
+  private final boolean matchesNothing;
+  // modification count of the configuration the matcher was built from, to detect that it has changed
+  private final int builtFromModificationCount;
+
+  FieldPathMatcher(RecursiveComparisonConfiguration configuration) {
+    builtFromModificationCount = configuration.getFieldPathSettingsModificationCount();
+    Collection<FieldLocation> ignoredFields = configuration.getIgnoredFields();
+    Collection<FieldLocation> ignoredCollectionOrderInFields = configuration.getIgnoredCollectionOrderInFields();
+    Collection<FieldLocation> ignoredOverriddenEqualsForFields = configuration.getIgnoredOverriddenEqualsForFields();
+    FieldComparators fieldComparators = configuration.getFieldComparators();
+    addFlag(ignoredFields, IGNORED);
+    addFlag(ignoredCollectionOrderInFields, IGNORED_COLLECTION_ORDER);
+    addFlag(ignoredOverriddenEqualsForFields, IGNORED_OVERRIDDEN_EQUALS);
+    fieldComparators.comparatorByFields().forEach(entry -> addFlag(entry.getKey(), HAS_FIELD_COMPARATOR));
+    ignoredFieldsRegexes = unmodifiableList(new ArrayList<>(configuration.getIgnoredFieldsRegexes()));
+    List<Pattern> ignoredCollectionOrderInFieldsRegexes = configuration.getIgnoredCollectionOrderInFieldsMatchingRegexes();
+    ignoredCollectionOrderRegexes = unmodifiableList(new ArrayList<>(ignoredCollectionOrderInFieldsRegexes));
+    matchesNothing = flagsByFieldPath.isEmpty() && ignoredFieldsRegexes.isEmpty()
+                     && ignoredCollectionOrderRegexes.isEmpty();
+  }
+
+  boolean isBuiltFrom(RecursiveComparisonConfiguration configuration) {
+    return builtFromModificationCount == configuration.getFieldPathSettingsModificationCount();
+  }
+
+  boolean matches(FieldPath fieldPath, int flag) {
+    if (matchesNothing) return false;
+    return (fieldPath.matchFlags(this) & flag) != 0;
+  }
+
+  int evaluate(String concatenatedPath) {
+    int flags = flagsByFieldPath.getOrDefault(concatenatedPath, 0);
+    if ((flags & IGNORED) == 0 && matchesAny(ignoredFieldsRegexes, concatenatedPath)) flags |= IGNORED;
+    if ((flags & IGNORED_COLLECTION_ORDER) == 0 && matchesAny(ignoredCollectionOrderRegexes, concatenatedPath)) {
+      flags |= IGNORED_COLLECTION_ORDER;
+    }
+    return flags;
+  }
+
+  private static boolean matchesAny(List<Pattern> regexes, String concatenatedPath) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(concatenatedPath).matches()) return true;
+    }
+    return false;
+  }
+
+  private void addFlag(Collection<FieldLocation> fieldLocations, int flag) {
+    fieldLocations.forEach(fieldLocation -> addFlag(fieldLocation, flag));
+  }
+
+  private void addFlag(FieldLocation fieldLocation, int flag) {
+    flagsByFieldPath.merge(fieldLocation.getFieldPath(), flag, (flags, newFlag) -> flags | newFlag);
+  }
+
+}
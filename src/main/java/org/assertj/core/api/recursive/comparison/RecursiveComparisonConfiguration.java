@@ -19,7 +19,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.join;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
@@ -42,6 +42,7 @@ public class RecursiveComparisonConfiguration {
 
   public static final String INDENT_LEVEL_2 = "  -";
   private boolean strictTypeChecking = false;
+  private int parallelism = 1;
 
   // fields to ignore section
   private boolean ignoreAllActualNullFields = false;
@@ -64,6 +65,10 @@ public class RecursiveComparisonConfiguration {
   private TypeComparators typeComparators = defaultTypeComparators();
   private FieldComparators fieldComparators = new FieldComparators();
 
+  // compiled view of the field paths based settings, rebuilt when they change
+  private FieldPathMatcher fieldPathMatcher;
+  private int fieldPathSettingsModificationCount;
+
   public boolean hasComparatorForField(String fieldName) {
     return fieldComparators.hasComparatorForField(new FieldLocation(fieldName));
   }
@@ -122,6 +127,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    fieldPathSettingsModificationCount++;
   }
 
   /**
@@ -135,6 +141,7 @@ public class RecursiveComparisonConfiguration {
     ignoredFieldsRegexes.addAll(Stream.of(regexes)
                                       .map(Pattern::compile)
                                       .collect(toList()));
+    fieldPathSettingsModificationCount++;
   }
 
   /**
@@ -201,6 +208,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreOverriddenEqualsForFields(String... fields) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    fieldPathSettingsModificationCount++;
   }
 
   /**
@@ -253,6 +261,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    fieldPathSettingsModificationCount++;
   }
 
   /**
@@ -275,6 +284,7 @@ public class RecursiveComparisonConfiguration {
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    fieldPathSettingsModificationCount++;
   }
 
   /**
@@ -317,6 +327,7 @@ public class RecursiveComparisonConfiguration {
    */
   public void registerComparatorForField(Comparator<?> comparator, FieldLocation fieldLocation) {
     fieldComparators.registerComparator(fieldLocation, comparator);
+    fieldPathSettingsModificationCount++;
   }
 
   /**
@@ -335,6 +346,24 @@ public class RecursiveComparisonConfiguration {
     return strictTypeChecking;
   }
 
+  /**
+   * Sets the number of threads used to compare the object graphs, the default value is 1 which means the comparison is
+   * done in the calling thread.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for details.
+   *
+   * @param parallelism the number of threads used to compare the object graphs.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism >= 1, "The parallelism must be greater or equal to 1 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
   public List<Pattern> getIgnoredFieldsRegexes() {
     return ignoredFieldsRegexes;
   }
@@ -377,10 +406,7 @@ public class RecursiveComparisonConfiguration {
   }
 
   boolean shouldIgnore(DualValue dualValue) {
-    String concatenatedPath = dualValue.concatenatedPath;
-    return matchesAnIgnoredField(concatenatedPath)
-           || matchesAnIgnoredFieldRegex(concatenatedPath)
-           || shouldIgnoreNotEvalutingFieldName(dualValue);
+    return matchesAnIgnoredFieldPath(dualValue.fieldPath) || shouldIgnoreNotEvalutingFieldName(dualValue);
   }
 
   Set<String> getNonIgnoredActualFieldNames(DualValue dualValue) {
@@ -391,7 +417,7 @@ public class RecursiveComparisonConfiguration {
     // DualValuea are built introspecting fields which is expensive.
     return actualFieldsNames.stream()
                             // evaluate field name ignoring criteria
-                            .filter(fieldName -> !shouldIgnore(dualValue.path, fieldName))
+                            .filter(fieldName -> !matchesAnIgnoredFieldPath(dualValue.fieldPath.child(fieldName)))
                             .map(fieldName -> dualValueForField(dualValue, fieldName))
                             // evaluate field value ignoring criteria
                             .filter(fieldDualValue -> !shouldIgnoreNotEvalutingFieldName(fieldDualValue))
@@ -407,16 +433,25 @@ public class RecursiveComparisonConfiguration {
     return matchesAnIgnoredNullField(dualKey) || matchesAnIgnoredFieldType(dualKey);
   }
 
-  private boolean shouldIgnore(List<String> parentConcatenatedPath, String fieldName) {
-    List<String> fieldConcatenatedPathList = newArrayList(parentConcatenatedPath);
-    fieldConcatenatedPathList.add(fieldName);
-    String fieldConcatenatedPath = join(fieldConcatenatedPathList).with(".");
-    return matchesAnIgnoredField(fieldConcatenatedPath) || matchesAnIgnoredFieldRegex(fieldConcatenatedPath);
+  private boolean matchesAnIgnoredFieldPath(FieldPath fieldPath) {
+    return fieldPathMatcher().matches(fieldPath, FieldPathMatcher.IGNORED);
+  }
+
+  int getFieldPathSettingsModificationCount() {
+    return fieldPathSettingsModificationCount;
+  }
+
+  private FieldPathMatcher fieldPathMatcher() {
+    FieldPathMatcher matcher = fieldPathMatcher;
+    if (matcher == null || !matcher.isBuiltFrom(this)) {
+      matcher = new FieldPathMatcher(this);
+      fieldPathMatcher = matcher;
+    }
+    return matcher;
   }
 
   private static DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
-    List<String> path = newArrayList(parentDualValue.path);
-    path.add(fieldName);
+    FieldPath path = parentDualValue.fieldPath.child(fieldName);
     Object actualFieldValue = COMPARISON.getSimpleValue(fieldName, parentDualValue.actual);
     // no guarantees we have a field in expected named as fieldName
     Object expectedFieldValue;
@@ -431,8 +466,7 @@ public class RecursiveComparisonConfiguration {
   }
 
   boolean hasCustomComparator(DualValue dualValue) {
-    String fieldName = dualValue.getConcatenatedPath();
-    if (hasComparatorForField(fieldName)) return true;
+    if (fieldPathMatcher().matches(dualValue.fieldPath, FieldPathMatcher.HAS_FIELD_COMPARATOR)) return true;
     if (dualValue.actual == null && dualValue.expected == null) return false;
     // best effort assuming actual and expected have the same type (not 100% true as we can compare object of differennt types)
     Class<?> valueType = dualValue.actual != null ? dualValue.actual.getClass() : dualValue.expected.getClass();
@@ -453,8 +487,7 @@ public class RecursiveComparisonConfiguration {
 
   boolean shouldIgnoreCollectionOrder(DualValue dualKey) {
     return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(dualKey)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(dualKey);
+           || fieldPathMatcher().matches(dualKey.fieldPath, FieldPathMatcher.IGNORED_COLLECTION_ORDER);
   }
 
   private void describeIgnoredFieldsRegexes(StringBuilder description) {
@@ -545,19 +578,13 @@ public class RecursiveComparisonConfiguration {
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualKey) {
-    return ignoredOverriddenEqualsForFields.stream()
-                                           .anyMatch(fieldLocation -> fieldLocation.matches(dualKey.concatenatedPath));
+    return fieldPathMatcher().matches(dualKey.fieldPath, FieldPathMatcher.IGNORED_OVERRIDDEN_EQUALS);
   }
 
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
     return ignoreAllActualNullFields && dualValue.actual == null;
   }
 
-  private boolean matchesAnIgnoredFieldRegex(String fieldConcatenatedPath) {
-    return ignoredFieldsRegexes.stream()
-                               .anyMatch(regex -> regex.matcher(fieldConcatenatedPath).matches());
-  }
-
   private boolean matchesAnIgnoredFieldType(DualValue dualKey) {
     Object actual = dualKey.actual;
     if (actual != null) return ignoredTypes.contains(actual.getClass());
@@ -569,21 +596,6 @@ public class RecursiveComparisonConfiguration {
     return false;
   }
 
-  private boolean matchesAnIgnoredField(String fieldConcatenatedPath) {
-    return ignoredFields.stream()
-                        .anyMatch(fieldLocation -> fieldLocation.matches(fieldConcatenatedPath));
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInField(DualValue dualKey) {
-    return ignoredCollectionOrderInFields.stream()
-                                         .anyMatch(fieldLocation -> fieldLocation.matches(dualKey.concatenatedPath));
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(DualValue dualKey) {
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream()
-                                                        .anyMatch(regex -> regex.matcher(dualKey.concatenatedPath).matches());
-  }
-
   private String describeIgnoredFields() {
     List<String> fieldsDescription = ignoredFields.stream()
                                                   .map(FieldLocation::getFieldPath)
@@ -14,10 +14,10 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.internal.Objects.getFieldsNames;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.IterableUtil.toCollection;
@@ -27,10 +27,13 @@ import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARI
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -39,8 +42,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Stream;
 
+import org.assertj.core.configuration.ConfigurationSnapshot;
+import org.assertj.core.internal.ClassShape;
 import org.assertj.core.internal.DeepDifference;
 import org.assertj.core.util.Objects;
 
@@ -61,8 +68,6 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String STRICT_TYPE_ERROR = "the fields are considered different since the comparison enforces strict type check and %s is not a subtype of %s";
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
-  private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
-  private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
 
   private static class ComparisonState {
     Set<DualValue> visitedDualValues;
@@ -100,11 +105,11 @@ public class RecursiveComparisonDifferenceCalculator {
       return dualValue;
     }
 
-    private void registerForComparison(DualValue dualValue) {
+    void registerForComparison(DualValue dualValue) {
       if (!visitedDualValues.contains(dualValue)) dualValuesToCompare.addFirst(dualValue);
     }
 
-    private void initDualValuesToCompare(Object actual, Object expected, List<String> parentPath, boolean isRootObject) {
+    void initDualValuesToCompare(Object actual, Object expected, FieldPath parentPath, boolean isRootObject) {
       DualValue dualValue = new DualValue(parentPath, actual, expected);
       boolean mustCompareFieldsRecursively = mustCompareFieldsRecursively(isRootObject, dualValue);
       if (dualValue.hasNoNullValues() && dualValue.hasNoContainerValues() && mustCompareFieldsRecursively) {
@@ -145,6 +150,221 @@ public class RecursiveComparisonDifferenceCalculator {
 
   }
 
+  // dual values visited by all the comparison tasks with the traversal order they were visited at.
+  // The sequential comparison skips a dual value already visited earlier in its traversal order, the tasks may not have
+  // visited it yet when checking it, in that case the comparison is not the sequential one and must be done again.
+  private static class ParallelVisits {
+    private final Map<DualValue, Visit> visits = new ConcurrentHashMap<>();
+    private volatile boolean visitedOutOfOrder;
+
+    private static class Visit {
+      // earliest traversal order the dual value was visited at
+      int[] visitedTraversalOrder;
+      // latest traversal order the dual value was checked not to be visited at
+      int[] notVisitedTraversalOrder;
+
+      boolean isOutOfOrder() {
+        return visitedTraversalOrder != null && notVisitedTraversalOrder != null
+               && compareTraversalOrders(visitedTraversalOrder, notVisitedTraversalOrder) < 0;
+      }
+    }
+
+    // dual values of identical actual and expected values have no differences, compared or not, and are found all over
+    // the graphs (shared objects, cached boxed values, interned strings...), there is no need to keep track of them.
+    private static boolean isIdentical(DualValue dualValue) {
+      return dualValue.actual == dualValue.expected;
+    }
+
+    void visit(DualValue dualValue, int[] traversalOrder) {
+      if (isIdentical(dualValue)) return;
+      visits.compute(dualValue, (key, visit) -> {
+        if (visit == null) visit = new Visit();
+        if (visit.visitedTraversalOrder == null || compareTraversalOrders(traversalOrder, visit.visitedTraversalOrder) < 0) {
+          visit.visitedTraversalOrder = traversalOrder;
+        }
+        if (visit.isOutOfOrder()) visitedOutOfOrder = true;
+        return visit;
+      });
+    }
+
+    // the dual value check and the visit recording are atomic, a visit recorded later out of order is detected
+    boolean isVisitedAtOrBefore(DualValue dualValue, int[] traversalOrder) {
+      if (isIdentical(dualValue)) return false;
+      boolean[] visited = new boolean[1];
+      visits.compute(dualValue, (key, visit) -> {
+        if (visit == null) visit = new Visit();
+        if (visit.visitedTraversalOrder != null && compareTraversalOrders(visit.visitedTraversalOrder, traversalOrder) <= 0) {
+          visited[0] = true;
+        } else if (visit.notVisitedTraversalOrder == null
+                   || compareTraversalOrders(visit.notVisitedTraversalOrder, traversalOrder) < 0) {
+          visit.notVisitedTraversalOrder = traversalOrder;
+        }
+        return visit;
+      });
+      return visited[0];
+    }
+
+    Stream<DualValue> visitedAtOrBefore(int[] traversalOrder) {
+      return visits.entrySet().stream()
+                   .filter(entry -> {
+                     int[] visitedTraversalOrder = entry.getValue().visitedTraversalOrder;
+                     return visitedTraversalOrder != null && compareTraversalOrders(visitedTraversalOrder, traversalOrder) <= 0;
+                   })
+                   .map(Map.Entry::getKey);
+    }
+  }
+
+  // comparison state keeping track of the sequential traversal order of the dual values to compare
+  private static class ParallelComparisonState extends ComparisonState {
+    final ParallelVisits parallelVisits;
+    // traversal order of each registered dual value, in the same order as dualValuesToCompare
+    LinkedList<int[]> traversalOrdersToCompare = new LinkedList<>();
+    List<OrderedDifference> orderedDifferences = new ArrayList<>();
+    int[] currentTraversalOrder = new int[0];
+    int registeredChildrenCount;
+
+    ParallelComparisonState(ParallelVisits parallelVisits, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+      super(null, recursiveComparisonConfiguration);
+      this.parallelVisits = parallelVisits;
+      // visited dual values as seen by the sequential comparison at the current traversal order, this view is also used by
+      // the nested comparisons of unordered iterables elements.
+      visitedDualValues = new AbstractSet<DualValue>() {
+        @Override
+        public boolean add(DualValue dualValue) {
+          parallelVisits.visit(dualValue, currentTraversalOrder);
+          return true;
+        }
+
+        @Override
+        public boolean contains(Object object) {
+          return object instanceof DualValue && parallelVisits.isVisitedAtOrBefore((DualValue) object, currentTraversalOrder);
+        }
+
+        @Override
+        public Iterator<DualValue> iterator() {
+          return parallelVisits.visitedAtOrBefore(currentTraversalOrder).iterator();
+        }
+
+        @Override
+        public int size() {
+          return (int) parallelVisits.visitedAtOrBefore(currentTraversalOrder).count();
+        }
+      };
+    }
+
+    @Override
+    void initDualValuesToCompare(Object actual, Object expected, FieldPath parentPath, boolean isRootObject) {
+      super.initDualValuesToCompare(actual, expected, parentPath, isRootObject);
+      for (int index = 0; index < dualValuesToCompare.size(); index++) {
+        traversalOrdersToCompare.add(new int[] { index });
+      }
+    }
+
+    @Override
+    void addDifference(DualValue dualValue) {
+      super.addDifference(dualValue);
+      orderedDifferences.add(new OrderedDifference(differences.get(differences.size() - 1), currentTraversalOrder));
+    }
+
+    @Override
+    void addDifference(DualValue dualValue, String description, Object... args) {
+      super.addDifference(dualValue, description, args);
+      orderedDifferences.add(new OrderedDifference(differences.get(differences.size() - 1), currentTraversalOrder));
+    }
+
+    @Override
+    public DualValue pickDualValueToCompare() {
+      DualValue dualValue = dualValuesToCompare.removeFirst();
+      currentTraversalOrder = traversalOrdersToCompare.removeFirst();
+      registeredChildrenCount = 0;
+      visitedDualValues.add(dualValue);
+      return dualValue;
+    }
+
+    @Override
+    void registerForComparison(DualValue dualValue) {
+      int dualValuesToCompareCount = dualValuesToCompare.size();
+      super.registerForComparison(dualValue);
+      if (dualValuesToCompare.size() == dualValuesToCompareCount) return; // not registered
+      // dual values are compared last registered first, their traversal order must reflect it
+      int[] traversalOrder = Arrays.copyOf(currentTraversalOrder, currentTraversalOrder.length + 1);
+      traversalOrder[currentTraversalOrder.length] = -(registeredChildrenCount++);
+      traversalOrdersToCompare.addFirst(traversalOrder);
+    }
+
+    // move the last half of the dual values to compare to a new state, they are independent from the first half.
+    ParallelComparisonState split() {
+      ParallelComparisonState splitState = new ParallelComparisonState(parallelVisits, recursiveComparisonConfiguration);
+      int splitCount = dualValuesToCompare.size() / 2;
+      for (int i = 0; i < splitCount; i++) {
+        splitState.dualValuesToCompare.addFirst(dualValuesToCompare.removeLast());
+        splitState.traversalOrdersToCompare.addFirst(traversalOrdersToCompare.removeLast());
+      }
+      return splitState;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class ComparisonTask extends RecursiveTask<List<OrderedDifference>> {
+    private final ParallelComparisonState comparisonState;
+    // the settings of the thread that started the comparison, the tasks are run by the pool threads
+    private final ConfigurationSnapshot settings;
+
+    ComparisonTask(ParallelComparisonState comparisonState, ConfigurationSnapshot settings) {
+      this.comparisonState = comparisonState;
+      this.settings = settings;
+    }
+
+    @Override
+    protected List<OrderedDifference> compute() {
+      return ConfigurationSnapshot.callWith(settings, this::compareDualValues);
+    }
+
+    private List<OrderedDifference> compareDualValues() {
+      List<ComparisonTask> forkedTasks = new ArrayList<>();
+      // no need to go on once a dual value was visited out of order, the comparison is done again sequentially
+      while (comparisonState.hasDualValuesToCompare() && !comparisonState.parallelVisits.visitedOutOfOrder) {
+        // only split when other workers are likely to be idle, otherwise keep going depth first
+        if (comparisonState.dualValuesToCompare.size() > 1 && getSurplusQueuedTaskCount() <= 0) {
+          ComparisonTask forkedTask = new ComparisonTask(comparisonState.split(), settings);
+          forkedTask.fork();
+          forkedTasks.add(forkedTask);
+        }
+        compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+      }
+      List<OrderedDifference> differences = new ArrayList<>(comparisonState.orderedDifferences);
+      forkedTasks.forEach(forkedTask -> differences.addAll(forkedTask.join()));
+      return differences;
+    }
+  }
+
+  // compare traversal orders lexicographically, a parent dual value is traversed before its children
+  private static int compareTraversalOrders(int[] traversalOrder, int[] otherTraversalOrder) {
+    int length = Math.min(traversalOrder.length, otherTraversalOrder.length);
+    for (int i = 0; i < length; i++) {
+      if (traversalOrder[i] != otherTraversalOrder[i]) return Integer.compare(traversalOrder[i], otherTraversalOrder[i]);
+    }
+    return Integer.compare(traversalOrder.length, otherTraversalOrder.length);
+  }
+
+  // difference with the traversal order of the dual value it was found in the sequential comparison
+  private static class OrderedDifference implements Comparable<OrderedDifference> {
+    private final ComparisonDifference difference;
+    private final int[] traversalOrder;
+
+    OrderedDifference(ComparisonDifference difference, int[] traversalOrder) {
+      this.difference = difference;
+      this.traversalOrder = traversalOrder;
+    }
+
+    @Override
+    public int compareTo(OrderedDifference other) {
+      int pathComparison = difference.compareTo(other.difference);
+      if (pathComparison != 0) return pathComparison;
+      return compareTraversalOrders(traversalOrder, other.traversalOrder);
+    }
+  }
+
   /**
    * Compare two objects for differences by doing a 'deep' comparison. This will traverse the
    * Object graph and perform either a field-by-field comparison on each
@@ -171,14 +391,17 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
-    List<String> rootPath = list();
+    FieldPath rootPath = FieldPath.root();
+    if (recursiveComparisonConfiguration.getParallelism() > 1) {
+      return determineDifferencesInParallel(actual, expected, rootPath, recursiveComparisonConfiguration);
+    }
     final Set<DualValue> visited = new HashSet<>();
     return determineDifferences(actual, expected, rootPath, true, visited, recursiveComparisonConfiguration);
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
-  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, List<String> parentPath,
+  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldPath parentPath,
                                                                  boolean isRootObject, Set<DualValue> visited,
                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration);
@@ -186,112 +409,141 @@ public class RecursiveComparisonDifferenceCalculator {
 
     while (comparisonState.hasDualValuesToCompare()) {
       final DualValue dualValue = comparisonState.pickDualValueToCompare();
+      compareDualValue(dualValue, comparisonState);
+    }
+    return comparisonState.getDifferences();
+  }
 
-      final List<String> currentPath = dualValue.getPath();
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected, FieldPath rootPath,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    // visited dual values are shared by all the comparison tasks
+    ParallelVisits parallelVisits = new ParallelVisits();
+    ParallelComparisonState rootComparisonState = new ParallelComparisonState(parallelVisits, recursiveComparisonConfiguration);
+    rootComparisonState.initDualValuesToCompare(actual, expected, rootPath, true);
+    ForkJoinPool forkJoinPool = new ForkJoinPool(recursiveComparisonConfiguration.getParallelism());
+    try {
+      List<OrderedDifference> differences = forkJoinPool.invoke(new ComparisonTask(rootComparisonState,
+                                                                                    ConfigurationSnapshot.current()));
+      if (parallelVisits.visitedOutOfOrder) {
+        // a dual value was visited by a task after being checked not visited later in the traversal order, the parallel
+        // comparison may differ from the sequential one
+        return determineDifferences(actual, expected, rootPath, true, new HashSet<>(), recursiveComparisonConfiguration);
+      }
+      // sort as the sequential comparison does, differences with the same path are kept in sequential traversal order
+      return differences.stream()
+                        .sorted()
+                        .map(orderedDifference -> orderedDifference.difference)
+                        .collect(toList());
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
 
-      if (actualFieldValue == expectedFieldValue) continue;
+  private static void compareDualValue(final DualValue dualValue, ComparisonState comparisonState) {
+    final RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    final FieldPath currentPath = dualValue.fieldPath;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    if (actualFieldValue == expectedFieldValue) return;
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (dualValue.isEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      if (!recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue)
-          && hasOverriddenEquals(actualFieldValueClass)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) {
-          comparisonState.addDifference(dualValue);
-        }
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
-                                      actualFieldValueClass.getName());
-        continue;
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    if (!recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue)
+        && hasOverriddenEquals(actualFieldValueClass)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) {
+        comparisonState.addDifference(dualValue);
       }
+      return;
+    }
 
-      Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
-      Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
-      // Check if expected has more fields than actual, in that case the additional fields are reported as difference
-      if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
-        // report missing fields in actual
-        Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
-        actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
-        String missingFields = actualFieldsNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                 expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
-                                                 missingFields);
-        comparisonState.addDifference(dualValue, missingFieldsDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's fields against expected :
-        // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
-        for (String actualFieldName : actualNonIgnoredFieldsNames) {
-          if (expectedFieldsNames.contains(actualFieldName)) {
-            DualValue newDualValue = new DualValue(currentPath, actualFieldName,
-                                                   COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
-                                                   COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
+                                    actualFieldValueClass.getName());
+      return;
+    }
+
+    Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
+    Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
+    // Check if expected has more fields than actual, in that case the additional fields are reported as difference
+    if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
+      // report missing fields in actual
+      Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
+      actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
+      String missingFields = actualFieldsNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                               expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
+                                               missingFields);
+      comparisonState.addDifference(dualValue, missingFieldsDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's fields against expected :
+      // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
+      for (String actualFieldName : actualNonIgnoredFieldsNames) {
+        if (expectedFieldsNames.contains(actualFieldName)) {
+          DualValue newDualValue = new DualValue(currentPath, actualFieldName,
+                                                 COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
+                                                 COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
+          comparisonState.registerForComparison(newDualValue);
         }
       }
     }
-    return comparisonState.getDifferences();
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -338,7 +590,7 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     // register each pair of actual/expected elements for recursive comparison
-    List<String> arrayFieldPath = dualValue.getPath();
+    FieldPath arrayFieldPath = dualValue.fieldPath;
     for (int i = 0; i < actualArrayLength; i++) {
       Object actualElement = Array.get(dualValue.actual, i);
       Object expectedElement = Array.get(dualValue.expected, i);
@@ -367,7 +619,7 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register pair of elements with same index for later comparison as we compare elements in order
     Iterator<?> expectedIterator = expectedCollection.iterator();
-    List<String> path = dualValue.getPath();
+    FieldPath path = dualValue.fieldPath;
     actualCollection.stream()
                     .map(element -> new DualValue(path, element, expectedIterator.next()))
                     .forEach(comparisonState::registerForComparison);
@@ -396,33 +648,66 @@ public class RecursiveComparisonDifferenceCalculator {
       // - unexpected actual elements (the ones not matching any expected)
       // - expected elements not found in actual.
     }
-    List<String> path = dualValue.getPath();
-    // copy expected as we will remove elements found in actual
-    Collection<?> expectedCopy = new LinkedList<>(toCollection(expected));
+    FieldPath path = dualValue.fieldPath;
+    // bucket expected elements by fingerprint so that actual elements are first compared to their likely matches
+    StructuralFingerprint fingerprint = new StructuralFingerprint(comparisonState.recursiveComparisonConfiguration);
+    Map<Integer, List<Object>> expectedByFingerprint = new HashMap<>();
+    for (Object expectedElement : expected) {
+      expectedByFingerprint.computeIfAbsent(fingerprint.of(expectedElement, path), key -> new LinkedList<>())
+                           .add(expectedElement);
+    }
     for (Object actualElement : actual) {
-      // compare recursively actualElement to all remaining expected elements
-      Iterator<?> expectedIterator = expectedCopy.iterator();
-      while (expectedIterator.hasNext()) {
-        Object expectedElement = expectedIterator.next();
-        // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-        List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, path, false,
-                                                                      comparisonState.visitedDualValues,
-                                                                      comparisonState.recursiveComparisonConfiguration);
-        if (differences.isEmpty()) {
-          // we found an element in expected matching actualElement, we must remove it as if actual matches expected
-          // it means for each actual element there is one and only matching expected element.
-          expectedIterator.remove();
-          // jump to next actual element check
-          break;
-        }
+      Integer actualElementFingerprint = fingerprint.of(actualElement, path);
+      List<Object> candidates = expectedByFingerprint.get(actualElementFingerprint);
+      if (candidates != null && removeFirstMatchingElement(actualElement, candidates, path, comparisonState)) {
+        if (candidates.isEmpty()) expectedByFingerprint.remove(actualElementFingerprint);
+        continue;
+      }
+      // fingerprints are a best effort (ex: elements of different types), look for a match in the other expected elements
+      if (!removeFirstMatchingElementInOtherBuckets(actualElement, candidates, expectedByFingerprint, path, comparisonState)) {
+        // an actual element not matching any expected elements means there is at least one expected element not matched.
+        comparisonState.addDifference(dualValue);
+        // TODO instead we could register the diff between expected and actual that is:
+        // - unexpected actual elements (the ones not matching any expected)
+        // - expected elements not found in actual.
+        return;
+      }
+    }
+  }
+
+  private static boolean removeFirstMatchingElementInOtherBuckets(Object actualElement, List<Object> alreadySearchedBucket,
+                                                                  Map<Integer, List<Object>> expectedByFingerprint,
+                                                                  FieldPath path, ComparisonState comparisonState) {
+    Iterator<List<Object>> buckets = expectedByFingerprint.values().iterator();
+    while (buckets.hasNext()) {
+      List<Object> bucket = buckets.next();
+      if (bucket == alreadySearchedBucket) continue;
+      if (removeFirstMatchingElement(actualElement, bucket, path, comparisonState)) {
+        if (bucket.isEmpty()) buckets.remove();
+        return true;
       }
     }
+    return false;
+  }
 
-    // expectedCopy not empty = there was at least one actual element not matching any expected elements.
-    if (!expectedCopy.isEmpty()) comparisonState.addDifference(dualValue);
-    // TODO instead we could register the diff between expected and actual that is:
-    // - unexpected actual elements (the ones not matching any expected)
-    // - expected elements not found in actual.
+  private static boolean removeFirstMatchingElement(Object actualElement, List<Object> expectedElements, FieldPath path,
+                                                    ComparisonState comparisonState) {
+    // compare recursively actualElement to the given expected elements
+    Iterator<?> expectedIterator = expectedElements.iterator();
+    while (expectedIterator.hasNext()) {
+      Object expectedElement = expectedIterator.next();
+      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, path, false,
+                                                                    comparisonState.visitedDualValues,
+                                                                    comparisonState.recursiveComparisonConfiguration);
+      if (differences.isEmpty()) {
+        // we found an element in expected matching actualElement, we must remove it as if actual matches expected
+        // it means for each actual element there is one and only matching expected element.
+        expectedIterator.remove();
+        return true;
+      }
+    }
+    return false;
   }
 
   private static <K, V> void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
@@ -443,7 +728,7 @@ public class RecursiveComparisonDifferenceCalculator {
       // - unexpected actual entries (the ones not matching any expected)
       // - expected entries not found in actual.
     }
-    List<String> path = dualValue.getPath();
+    FieldPath path = dualValue.fieldPath;
     Iterator<Map.Entry<K, V>> expectedMapEntries = expectedMap.entrySet().iterator();
     for (Map.Entry<?, ?> actualEntry : actualMap.entrySet()) {
       Map.Entry<?, ?> expectedEntry = expectedMapEntries.next();
@@ -472,7 +757,7 @@ public class RecursiveComparisonDifferenceCalculator {
 
     Map<Integer, Map.Entry<?, ?>> fastLookup = expectedMap.entrySet().stream()
                                                           .collect(toMap(entry -> deepHashCode(entry.getKey()), entry -> entry));
-    List<String> path = dualValue.getPath();
+    FieldPath path = dualValue.fieldPath;
     for (Map.Entry<?, ?> actualEntry : actualMap.entrySet()) {
       int deepHashCode = deepHashCode(actualEntry.getKey());
       if (!fastLookup.containsKey(deepHashCode)) {
@@ -504,34 +789,18 @@ public class RecursiveComparisonDifferenceCalculator {
     Object value1 = actual.get();
     Object value2 = expected.get();
     // we add VALUE_FIELD_NAME to the path since we register Optional.value fields.
-    comparisonState.registerForComparison(new DualValue(dualValue.getPath(), VALUE_FIELD_NAME, value1, value2));
+    comparisonState.registerForComparison(new DualValue(dualValue.fieldPath, VALUE_FIELD_NAME, value1, value2));
   }
 
   /**
-   * Determine if the passed in class has a non-Object.equals() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
-   * execution performance.
+   * Determine if the passed in class has a non-Object.equals() method.
    *
    * @param c Class to check.
    * @return true, if the passed in Class has a .equals() method somewhere
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasOverriddenEquals(Class<?> c) {
-    if (customEquals.containsKey(c)) {
-      return customEquals.get(c);
-    }
-
-    Class<?> origClass = c;
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("equals", Object.class);
-        customEquals.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customEquals.put(origClass, false);
-    return false;
+    return ClassShape.of(c).hasOverriddenEquals();
   }
 
   /**
@@ -598,8 +867,7 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
+      for (Field field : ClassShape.of(obj.getClass()).getFields()) {
         stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
       }
     }
@@ -607,30 +875,14 @@ public class RecursiveComparisonDifferenceCalculator {
   }
 
   /**
-   * Determine if the passed in class has a non-Object.hashCode() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
-   * execution performance.
+   * Determine if the passed in class has a non-Object.hashCode() method.
    *
    * @param c Class to check.
    * @return true, if the passed in Class has a .hashCode() method somewhere
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomHashCode(Class<?> c) {
-    Class<?> origClass = c;
-    if (customHash.containsKey(c)) {
-      return customHash.get(c);
-    }
-
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("hashCode");
-        customHash.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customHash.put(origClass, false);
-    return false;
+    return ClassShape.of(c).hasOverriddenHashCode();
   }
 
   @SuppressWarnings({ "unchecked", "rawtypes" })
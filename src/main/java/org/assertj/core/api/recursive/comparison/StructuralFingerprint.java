@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasCustomHashCode;
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
+
+import java.lang.reflect.Array;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * Computes a recursive hash of a value following the rules of the recursive comparison: ignored fields are skipped,
+ * values compared with a custom comparator or a non hashable overridden equals contribute a constant, enums are hashed by
+ * name, unordered collections and maps are hashed regardless of their elements order.
+ * <p>
+ * The fingerprint is a best effort: two values considered equal by the recursive comparison are expected to have the
+ * same fingerprint but it is not guaranteed when they have different types (as the comparison is driven by actual's
+ * fields), callers must thus only use it to find the likely matching candidates first.
+ */
+final class StructuralFingerprint {
+
+  // beyond this depth, values contribute a constant to keep fingerprinting cheap and avoid stack overflows
+  private static final int MAX_DEPTH = 16;
+  private static final int CONSTANT = 17;
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  // values being fingerprinted, used to detect cycles
+  private final Set<Object> inProgress = newSetFromMap(new IdentityHashMap<>());
+
+  StructuralFingerprint(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+  }
+
+  int of(Object value, FieldPath path) {
+    // actual null fields being ignored, any expected value would match them: fingerprinting is pointless
+    if (recursiveComparisonConfiguration.getIgnoreAllActualNullFields()) return CONSTANT;
+    return fingerprint(new DualValue(path, value, value), 0);
+  }
+
+  private int fingerprint(DualValue dualValue, int depth) {
+    Object value = dualValue.actual;
+    if (value == null) return 0;
+    if (depth > MAX_DEPTH || inProgress.contains(value)) return CONSTANT;
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) return CONSTANT;
+    if (dualValue.isEnum()) return ((Enum<?>) value).name().hashCode();
+    inProgress.add(value);
+    try {
+      return fingerprintNonNullValue(dualValue, depth + 1);
+    } finally {
+      inProgress.remove(value);
+    }
+  }
+
+  private int fingerprintNonNullValue(DualValue dualValue, int depth) {
+    Object value = dualValue.actual;
+    FieldPath path = dualValue.fieldPath;
+    if (dualValue.isExpectedFieldAnArray()) {
+      int hash = 1;
+      int length = Array.getLength(value);
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + fingerprint(new DualValue(path, Array.get(value, i), Array.get(value, i)), depth);
+      }
+      return hash;
+    }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      boolean ordered = dualValue.isExpectedFieldAnOrderedCollection()
+                        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue);
+      int hash = ordered ? 1 : 0;
+      for (Object element : (Iterable<?>) value) {
+        int elementHash = fingerprint(new DualValue(path, element, element), depth);
+        hash = ordered ? 31 * hash + elementHash : hash + elementHash;
+      }
+      return hash;
+    }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      Object optionalValue = ((Optional<?>) value).orElse(null);
+      return 31 + fingerprint(new DualValue(path, "value", optionalValue, optionalValue), depth);
+    }
+    if (dualValue.isExpectedFieldAMap()) {
+      boolean ordered = value instanceof SortedMap;
+      int hash = ordered ? 1 : 0;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        int entryHash = 31 * fingerprint(new DualValue(path, entry.getKey(), entry.getKey()), depth)
+                        + fingerprint(new DualValue(path, entry.getValue(), entry.getValue()), depth);
+        hash = ordered ? 31 * hash + entryHash : hash + entryHash;
+      }
+      return hash;
+    }
+    Class<?> valueClass = value.getClass();
+    if (!recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue) && hasOverriddenEquals(valueClass)) {
+      // equals without hashCode breaks the hashCode contract, we can't rely on it
+      return hasCustomHashCode(valueClass) ? value.hashCode() : CONSTANT;
+    }
+    // field by field comparison, fields order does not matter
+    int hash = 0;
+    for (String fieldName : recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue)) {
+      Object fieldValue = COMPARISON.getSimpleValue(fieldName, value);
+      hash += fieldName.hashCode() ^ fingerprint(new DualValue(path, fieldName, fieldValue, fieldValue), depth);
+    }
+    return hash;
+  }
+
+}
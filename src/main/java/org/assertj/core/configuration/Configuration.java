@@ -277,17 +277,23 @@ public class Configuration {
    * Applies this configuration to AssertJ.
    */
   public void apply() {
-    Assertions.setAllowComparingPrivateFields(comparingPrivateFieldsEnabled());
-    Assertions.setAllowExtractingPrivateFields(extractingPrivateFieldsEnabled());
-    Assertions.setExtractBareNamePropertyMethods(bareNamePropertyExtractionEnabled());
+    ConfigurationProvider.loadRegisteredConfiguration();
+    // publish all the settings at once so that concurrent assertions never see a partially applied configuration
+    ConfigurationSnapshot.update(this::applyTo);
     Assertions.setLenientDateParsing(lenientDateParsingEnabled());
-    Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
-    Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
-    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
     Assertions.useRepresentation(representation());
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
   }
 
+  private ConfigurationSnapshot applyTo(ConfigurationSnapshot settings) {
+    return settings.withComparingPrivateFields(comparingPrivateFieldsEnabled())
+                   .withExtractingPrivateFields(extractingPrivateFieldsEnabled())
+                   .withBareNamePropertyExtraction(bareNamePropertyExtractionEnabled())
+                   .withMaxElementsForPrinting(maxElementsForPrinting())
+                   .withMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription())
+                   .withRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
+  }
+
   /**
    * Applies this configuration to AssertJ and prints it.
    */
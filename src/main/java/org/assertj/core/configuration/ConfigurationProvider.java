@@ -70,6 +70,18 @@ public final class ConfigurationProvider {
     return configuration;
   }
 
+  /**
+   * Returns the settings used by the assertions performed by the current thread, that is the registered configuration
+   * and the settings changed since then (or the settings overridden for the current thread).
+   *
+   * @return the settings used by the assertions performed by the current thread.
+   * @see ConfigurationSnapshot#overrideForCurrentThread(java.util.function.UnaryOperator)
+   * @since 3.16.0
+   */
+  public ConfigurationSnapshot configurationSnapshot() {
+    return ConfigurationSnapshot.current();
+  }
+
   /**
    * Triggers loading any registered {@link Configuration}.
    * <p>
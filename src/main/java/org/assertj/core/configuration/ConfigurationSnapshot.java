@@ -0,0 +1,425 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.configuration.Configuration.ALLOW_COMPARING_PRIVATE_FIELDS;
+import static org.assertj.core.configuration.Configuration.ALLOW_EXTRACTING_PRIVATE_FIELDS;
+import static org.assertj.core.configuration.Configuration.BARE_NAME_PROPERTY_EXTRACTION_ENABLED;
+import static org.assertj.core.configuration.Configuration.MAX_ELEMENTS_FOR_PRINTING;
+import static org.assertj.core.configuration.Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
+import static org.assertj.core.configuration.Configuration.REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable snapshot of the global settings read by AssertJ while performing assertions: the limits and custom
+ * formatters of the {@link org.assertj.core.presentation.StandardRepresentation StandardRepresentation}, the private
+ * fields and bare name properties introspection settings and the stack trace filtering.
+ * <p>
+ * The settings in use are given by {@link #current()}, a single volatile read unless a thread has overridden them.
+ * Changing a setting (for example with {@link org.assertj.core.api.Assertions#setMaxElementsForPrinting(int)
+ * Assertions.setMaxElementsForPrinting(int)}) publishes a new snapshot instead of mutating shared state, so that
+ * concurrent assertions always see consistent settings without locking.
+ * <p>
+ * Tests running in parallel can use different settings with {@link #overrideForCurrentThread(UnaryOperator)}, the
+ * settings changed while the override is active only apply to the current thread:
+ * <pre><code class='java'> try (ThreadOverride ignored = overrideForCurrentThread(s -&gt; s.withMaxElementsForPrinting(10))) {
+ *   // only the assertions performed by this thread print at most 10 elements
+ * }</code></pre>
+ *
+ * @since 3.16.0
+ */
+public final class ConfigurationSnapshot {
+
+  /**
+   * The settings used when nothing has been configured.
+   */
+  public static final ConfigurationSnapshot DEFAULT_SNAPSHOT = new ConfigurationSnapshot(
+      MAX_ELEMENTS_FOR_PRINTING, MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION, emptyMap(),
+      BARE_NAME_PROPERTY_EXTRACTION_ENABLED, ALLOW_EXTRACTING_PRIVATE_FIELDS, ALLOW_COMPARING_PRIVATE_FIELDS,
+      REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE);
+
+  private static final AtomicReference<Publication> PUBLICATION = new AtomicReference<>(
+      new Publication(DEFAULT_SNAPSHOT, 0));
+  private static final ThreadLocal<ConfigurationSnapshot> THREAD_OVERRIDE = new ThreadLocal<>();
+
+  private final int maxElementsForPrinting;
+  private final int maxLengthForSingleLineDescription;
+  private final Map<Class<?>, Function<?, String>> customFormatterByType;
+  private final boolean bareNamePropertyExtraction;
+  private final boolean extractingPrivateFields;
+  private final boolean comparingPrivateFields;
+  private final boolean removeAssertJRelatedElementsFromStackTrace;
+
+  private ConfigurationSnapshot(int maxElementsForPrinting, int maxLengthForSingleLineDescription,
+                                Map<Class<?>, Function<?, String>> customFormatterByType,
+                                boolean bareNamePropertyExtraction, boolean extractingPrivateFields,
+                                boolean comparingPrivateFields, boolean removeAssertJRelatedElementsFromStackTrace) {
+    this.maxElementsForPrinting = maxElementsForPrinting;
+    this.maxLengthForSingleLineDescription = maxLengthForSingleLineDescription;
+    this.customFormatterByType = customFormatterByType;
+    this.bareNamePropertyExtraction = bareNamePropertyExtraction;
+    this.extractingPrivateFields = extractingPrivateFields;
+    this.comparingPrivateFields = comparingPrivateFields;
+    this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
+  }
+
+  /**
+   * Returns the settings used by the current thread, that is its override if it has one, the global settings
+   * otherwise.
+   *
+   * @return the settings used by the current thread.
+   */
+  public static ConfigurationSnapshot current() {
+    Publication publication = PUBLICATION.get();
+    // avoid the thread local lookup as long as no thread has overridden the global settings
+    if (publication.threadOverrides == 0) return publication.global;
+    ConfigurationSnapshot override = THREAD_OVERRIDE.get();
+    return override == null ? publication.global : override;
+  }
+
+  /**
+   * Returns the global settings, the ones used by the threads that have not overridden them.
+   *
+   * @return the global settings.
+   */
+  public static ConfigurationSnapshot global() {
+    return PUBLICATION.get().global;
+  }
+
+  /**
+   * Changes the settings used by the current thread: its override if it has one, the global settings otherwise.
+   * <p>
+   * The global settings are changed atomically, the update function may be called more than once if other threads
+   * change them concurrently, it must not have side effects.
+   *
+   * @param update the function computing the new settings from the current ones.
+   */
+  public static void update(UnaryOperator<ConfigurationSnapshot> update) {
+    requireNonNull(update, "The settings update should not be null");
+    ConfigurationSnapshot override = PUBLICATION.get().threadOverrides == 0 ? null : THREAD_OVERRIDE.get();
+    if (override != null) {
+      THREAD_OVERRIDE.set(requireNonNull(update.apply(override)));
+      return;
+    }
+    PUBLICATION.updateAndGet(publication -> publication.withGlobal(requireNonNull(update.apply(publication.global))));
+  }
+
+  /**
+   * Overrides the settings for the current thread until the returned {@link ThreadOverride} is closed, the other
+   * threads keep on using the global settings (or their own override).
+   * <p>
+   * The override is computed from the settings currently used by this thread, overrides can thus be nested. While the
+   * override is active, the settings changed by this thread (with {@link #update(UnaryOperator)} or the
+   * {@link org.assertj.core.api.Assertions Assertions} setters) only apply to this thread and are discarded when it is
+   * closed.
+   *
+   * @param override the function computing the settings of the current thread from its current settings.
+   * @return the {@link ThreadOverride} to close to restore the settings of the current thread.
+   */
+  public static ThreadOverride overrideForCurrentThread(UnaryOperator<ConfigurationSnapshot> override) {
+    requireNonNull(override, "The settings override should not be null");
+    ConfigurationSnapshot previous = THREAD_OVERRIDE.get();
+    ConfigurationSnapshot overridden = requireNonNull(override.apply(current()));
+    THREAD_OVERRIDE.set(overridden);
+    PUBLICATION.updateAndGet(publication -> publication.withThreadOverrides(publication.threadOverrides + 1));
+    return new ThreadOverride(previous);
+  }
+
+  /**
+   * Runs the given task with the given settings, used to run the tasks started by a thread on other threads (for
+   * example the workers of a parallel comparison) with the settings of the starting thread: capture its settings with
+   * {@link #current()} and pass them to this method in the tasks.
+   * <p>
+   * The starting thread must wait for its tasks to complete so that its override, if it has one, is still active while
+   * they run.
+   *
+   * @param <T> the type of the task result.
+   * @param settings the settings to run the task with.
+   * @param task the task to run.
+   * @return the task result.
+   */
+  public static <T> T callWith(ConfigurationSnapshot settings, Supplier<T> task) {
+    requireNonNull(settings, "The settings should not be null");
+    // without thread overrides all the threads use the global settings
+    if (PUBLICATION.get().threadOverrides == 0) return task.get();
+    ConfigurationSnapshot previous = THREAD_OVERRIDE.get();
+    if (previous == settings) return task.get();
+    THREAD_OVERRIDE.set(settings);
+    try {
+      return task.get();
+    } finally {
+      if (previous == null) THREAD_OVERRIDE.remove();
+      else THREAD_OVERRIDE.set(previous);
+    }
+  }
+
+  /**
+   * Restores the settings of a thread that were active before {@link #overrideForCurrentThread(UnaryOperator)} was
+   * called.
+   */
+  public static final class ThreadOverride implements AutoCloseable {
+
+    private final ConfigurationSnapshot previous;
+    private final Thread owner = Thread.currentThread();
+    private boolean closed;
+
+    private ThreadOverride(ConfigurationSnapshot previous) {
+      this.previous = previous;
+    }
+
+    /**
+     * Restores the settings of the thread that created this override, closing it more than once has no effect.
+     *
+     * @throws IllegalStateException if called from another thread than the one that created this override.
+     */
+    @Override
+    public void close() {
+      if (Thread.currentThread() != owner) {
+        throw new IllegalStateException("A settings override must be closed by the thread that created it");
+      }
+      if (closed) return;
+      closed = true;
+      if (previous == null) THREAD_OVERRIDE.remove();
+      else THREAD_OVERRIDE.set(previous);
+      PUBLICATION.updateAndGet(publication -> publication.withThreadOverrides(publication.threadOverrides - 1));
+    }
+  }
+
+  /**
+   * Returns the maximum number of elements of a container printed in representations.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setMaxElementsForPrinting(int)} for a detailed description.
+   *
+   * @return the maximum number of elements of a container printed in representations.
+   */
+  public int maxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
+  /**
+   * Returns the maximum length of a single line representation of a container before it is split on multiple lines.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setMaxLengthForSingleLineDescription(int)} for a detailed description.
+   *
+   * @return the maximum length of a single line representation.
+   */
+  public int maxLengthForSingleLineDescription() {
+    return maxLengthForSingleLineDescription;
+  }
+
+  /**
+   * Returns whether the extractor considers bare-named property methods like {@code String name()}.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setExtractBareNamePropertyMethods(boolean)} for a detailed description.
+   *
+   * @return whether the extractor considers bare-named property methods like {@code String name()}.
+   */
+  public boolean bareNamePropertyExtractionEnabled() {
+    return bareNamePropertyExtraction;
+  }
+
+  /**
+   * Returns whether private fields extraction is enabled.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setAllowExtractingPrivateFields(boolean)} for a detailed description.
+   *
+   * @return whether private fields extraction is enabled.
+   */
+  public boolean extractingPrivateFieldsEnabled() {
+    return extractingPrivateFields;
+  }
+
+  /**
+   * Returns whether private fields comparison is enabled.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setAllowComparingPrivateFields(boolean)} for a detailed description.
+   *
+   * @return whether private fields comparison is enabled.
+   */
+  public boolean comparingPrivateFieldsEnabled() {
+    return comparingPrivateFields;
+  }
+
+  /**
+   * Returns whether AssertJ related elements are removed from assertion errors stack traces.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#setRemoveAssertJRelatedElementsFromStackTrace(boolean)} for a detailed
+   * description.
+   *
+   * @return whether AssertJ related elements are removed from assertion errors stack traces.
+   */
+  public boolean removeAssertJRelatedElementsFromStackTraceEnabled() {
+    return removeAssertJRelatedElementsFromStackTrace;
+  }
+
+  /**
+   * Returns the formatter registered for the given type, if any.
+   *
+   * @param type the type to get the formatter of.
+   * @return the formatter registered for the given type or {@code null} if there is none.
+   */
+  public Function<?, String> formatterForType(Class<?> type) {
+    return customFormatterByType.get(type);
+  }
+
+  /**
+   * Returns whether a formatter is registered for the given type.
+   *
+   * @param type the type to check.
+   * @return whether a formatter is registered for the given type.
+   */
+  public boolean hasFormatterForType(Class<?> type) {
+    return customFormatterByType.containsKey(type);
+  }
+
+  /**
+   * Returns a copy of these settings with the given maximum number of elements of a container printed in
+   * representations.
+   *
+   * @param maxElementsForPrinting the maximum number of elements printed, must be greater or equal to 1.
+   * @return the new settings.
+   * @throws IllegalArgumentException if the given maximum is less than 1.
+   */
+  public ConfigurationSnapshot withMaxElementsForPrinting(int maxElementsForPrinting) {
+    checkArgument(maxElementsForPrinting >= 1, "maxElementsForPrinting must be >= 1, but was %s",
+                  maxElementsForPrinting);
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, customFormatterByType,
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings with the given maximum length of a single line representation.
+   *
+   * @param maxLengthForSingleLineDescription the maximum length of a single line representation, must be greater
+   *          than 0.
+   * @return the new settings.
+   * @throws IllegalArgumentException if the given maximum is less than 1.
+   */
+  public ConfigurationSnapshot withMaxLengthForSingleLineDescription(int maxLengthForSingleLineDescription) {
+    checkArgument(maxLengthForSingleLineDescription > 0, "maxLengthForSingleLineDescription must be > 0 but was %s",
+                  maxLengthForSingleLineDescription);
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, customFormatterByType,
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings where the given formatter represents the objects of the given type, replacing the
+   * formatter previously registered for this type if any.
+   * <p>
+   * See {@link org.assertj.core.api.Assertions#registerFormatterForType(Class, Function)} for a detailed description.
+   *
+   * @param <T> the type of the objects to format.
+   * @param type the type of the objects to format.
+   * @param formatter the function representing the objects of the given type.
+   * @return the new settings.
+   */
+  public <T> ConfigurationSnapshot withFormatterForType(Class<T> type, Function<T, String> formatter) {
+    Map<Class<?>, Function<?, String>> formatters = new LinkedHashMap<>(customFormatterByType);
+    formatters.put(type, formatter);
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription,
+                                     unmodifiableMap(formatters), bareNamePropertyExtraction, extractingPrivateFields,
+                                     comparingPrivateFields, removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings without any registered formatter.
+   *
+   * @return the new settings.
+   */
+  public ConfigurationSnapshot withoutFormatters() {
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, emptyMap(),
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings with the given bare-named property methods extraction setting.
+   *
+   * @param bareNamePropertyExtraction whether the extractor considers bare-named property methods.
+   * @return the new settings.
+   */
+  public ConfigurationSnapshot withBareNamePropertyExtraction(boolean bareNamePropertyExtraction) {
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, customFormatterByType,
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings with the given private fields extraction setting.
+   *
+   * @param extractingPrivateFields whether private fields extraction is enabled.
+   * @return the new settings.
+   */
+  public ConfigurationSnapshot withExtractingPrivateFields(boolean extractingPrivateFields) {
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, customFormatterByType,
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings with the given private fields comparison setting.
+   *
+   * @param comparingPrivateFields whether private fields comparison is enabled.
+   * @return the new settings.
+   */
+  public ConfigurationSnapshot withComparingPrivateFields(boolean comparingPrivateFields) {
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, customFormatterByType,
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  /**
+   * Returns a copy of these settings with the given stack trace filtering setting.
+   *
+   * @param removeAssertJRelatedElements whether AssertJ related elements are removed from assertion errors stack
+   *          traces.
+   * @return the new settings.
+   */
+  public ConfigurationSnapshot withRemoveAssertJRelatedElementsFromStackTrace(boolean removeAssertJRelatedElements) {
+    return new ConfigurationSnapshot(maxElementsForPrinting, maxLengthForSingleLineDescription, customFormatterByType,
+                                     bareNamePropertyExtraction, extractingPrivateFields, comparingPrivateFields,
+                                     removeAssertJRelatedElements);
+  }
+
+  // the global settings and the number of active thread overrides are published together to be read at once
+  private static final class Publication {
+
+    private final ConfigurationSnapshot global;
+    private final int threadOverrides;
+
+    private Publication(ConfigurationSnapshot global, int threadOverrides) {
+      this.global = global;
+      this.threadOverrides = threadOverrides;
+    }
+
+    private Publication withGlobal(ConfigurationSnapshot global) {
+      return new Publication(global, threadOverrides);
+    }
+
+    private Publication withThreadOverrides(int threadOverrides) {
+      return new Publication(global, threadOverrides);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.description;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A text-based description whose text is only built when it is read, that is usually when an assertion fails.
+ * <p>
+ * The text is built once by the given {@link Supplier}, the following reads return the same text.
+ *
+ * @since 3.16.0
+ */
+public class LazyTextDescription extends Description {
+
+  private final Supplier<String> descriptionSupplier;
+  // racy, concurrent first reads may call the supplier more than once
+  private String value;
+
+  /**
+   * Creates a new <code>{@link LazyTextDescription}</code>.
+   *
+   * @param descriptionSupplier the supplier of the value of this description.
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  public LazyTextDescription(Supplier<String> descriptionSupplier) {
+    this.descriptionSupplier = requireNonNull(descriptionSupplier, "The description supplier should not be null");
+  }
+
+  @Override
+  public String value() {
+    String text = value;
+    if (text == null) {
+      String suppliedText = descriptionSupplier.get();
+      text = suppliedText == null ? "" : suppliedText;
+      value = text;
+    }
+    return text;
+  }
+
+}
@@ -34,6 +34,9 @@ public class TextDescription extends Description {
 
   final Object[] args;
 
+  // formatted on first read only, most descriptions are never read as their assertion passes
+  private String formattedValue;
+
   /**
    * Creates a new <code>{@link TextDescription}</code>.
    *
@@ -48,7 +51,13 @@ public class TextDescription extends Description {
 
   @Override
   public String value() {
-    return formatIfArgs(value, args);
+    String formatted = formattedValue;
+    if (formatted == null) {
+      // racy, concurrent first reads may format the description more than once
+      formatted = formatIfArgs(value, args);
+      formattedValue = formatted;
+    }
+    return formatted;
   }
 
   @Override
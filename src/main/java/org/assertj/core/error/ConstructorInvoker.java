@@ -13,18 +13,69 @@
 package org.assertj.core.error;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are resolved once and cached, so are the resolution failures (for example when an optional dependency
+ * like opentest4j is not in the classpath) in order not to pay for reflection lookups on every assertion error.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  private static final Map<ConstructorKey, ResolvedConstructor> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    return constructor.newInstance(parameterValues);
+    ResolvedConstructor resolvedConstructor = CONSTRUCTORS.computeIfAbsent(new ConstructorKey(className, parameterTypes),
+                                                                           ConstructorInvoker::resolve);
+    if (resolvedConstructor.resolutionFailure != null) throw resolvedConstructor.resolutionFailure;
+    return resolvedConstructor.constructor.newInstance(parameterValues);
+  }
+
+  private static ResolvedConstructor resolve(ConstructorKey key) {
+    try {
+      Class<?> targetType = Class.forName(key.className);
+      return new ResolvedConstructor(targetType.getConstructor(key.parameterTypes), null);
+    } catch (Exception e) {
+      return new ResolvedConstructor(null, e);
+    }
+  }
+
+  private static final class ConstructorKey {
+    private final String className;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorKey(String className, Class<?>[] parameterTypes) {
+      this.className = className;
+      this.parameterTypes = parameterTypes.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof ConstructorKey)) return false;
+      ConstructorKey other = (ConstructorKey) o;
+      return className.equals(other.className) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * className.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
+
+  private static final class ResolvedConstructor {
+    private final Constructor<?> constructor;
+    private final Exception resolutionFailure;
+
+    private ResolvedConstructor(Constructor<?> constructor, Exception resolutionFailure) {
+      this.constructor = constructor;
+      this.resolutionFailure = resolutionFailure;
+    }
   }
 }
@@ -17,6 +17,7 @@ import static org.assertj.core.util.Strings.formatIfArgs;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.AbstractComparisonStrategy;
+import org.assertj.core.presentation.BoundedStringBuilder;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -28,6 +29,12 @@ import org.assertj.core.util.VisibleForTesting;
 public class MessageFormatter {
   private static final MessageFormatter INSTANCE = new MessageFormatter();
 
+  /**
+   * The maximum number of characters used to represent all the arguments of a message, each argument gets an equal share
+   * of it (plus the share the other arguments do not use), representations exceeding their share are truncated and end with {@value BoundedStringBuilder#TRUNCATION_MARKER}.
+   */
+  public static final int MAX_LENGTH_FOR_ARGUMENTS = 1_000_000;
+
   public static MessageFormatter instance() {
     return INSTANCE;
   }
@@ -35,6 +42,9 @@ public class MessageFormatter {
   @VisibleForTesting
   DescriptionFormatter descriptionFormatter = DescriptionFormatter.instance();
 
+  @VisibleForTesting
+  int maxLengthForArguments = MAX_LENGTH_FOR_ARGUMENTS;
+
   @VisibleForTesting
   MessageFormatter() {
   }
@@ -46,7 +56,9 @@ public class MessageFormatter {
    * <li>the value of the given <code>{@link Description}</code> is used as the first argument referenced in the format
    * string</li>
    * <li>each of the arguments in the given array is converted to a {@code String} by invoking
-   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>.
+   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>, each argument representation
+   * gets an equal share of a budget of {@value #MAX_LENGTH_FOR_ARGUMENTS} characters, the share an argument does not use
+   * is given to the others.
    * </ol>
    * 
    * @param d the description of the failed assertion, may be {@code null}.
@@ -65,16 +77,54 @@ public class MessageFormatter {
   private Object[] format(Representation p, Object[] args) {
     int argCount = args.length;
     String[] formatted = new String[argCount];
+    BoundedStringBuilder[] representations = new BoundedStringBuilder[argCount];
+    // each argument gets an equal share of the budget, the share an argument does not use is passed on to the next ones
+    int remainingLength = maxLengthForArguments;
+    for (int i = 0; i < argCount; i++) {
+      int maxLength = remainingLength / (argCount - i);
+      if (args[i] instanceof AbstractComparisonStrategy) {
+        formatted[i] = ((AbstractComparisonStrategy) args[i]).asText();
+        remainingLength -= Math.min(maxLength, formatted[i].length());
+        continue;
+      }
+      representations[i] = representationOf(p, args[i], maxLength);
+      remainingLength -= representations[i].length();
+    }
+    // the budget left by the last arguments is given back to the truncated ones
+    for (int i = 0; i < argCount && remainingLength > 0; i++) {
+      if (representations[i] == null || !representations[i].isTruncated()) continue;
+      int keptLength = representations[i].length();
+      representations[i] = representationOf(p, args[i], keptLength + remainingLength);
+      remainingLength -= representations[i].length() - keptLength;
+    }
     for (int i = 0; i < argCount; i++) {
-      formatted[i] = asText(p, args[i]);
+      if (representations[i] != null) formatted[i] = representations[i].toString();
     }
     return formatted;
   }
 
-  private String asText(Representation p, Object o) {
+  private static BoundedStringBuilder representationOf(Representation p, Object o, int maxLength) {
+    BoundedStringBuilder builder = new BoundedStringBuilder(maxLength);
+    p.appendStringOf(o, builder);
+    return builder;
+  }
+
+  private String asText(Representation p, Object o, int maxLength) {
     if (o instanceof AbstractComparisonStrategy) {
       return ((AbstractComparisonStrategy) o).asText();
     }
-    return p.toStringOf(o);
+    return representationOf(p, o, maxLength).toString();
+  }
+
+  /**
+   * Returns the {@code String} representation of the given object like {@link #format(Description, Representation,
+   * String, Object...)} represents its arguments, i.e. truncated to {@value #MAX_LENGTH_FOR_ARGUMENTS} characters.
+   *
+   * @param p the Representation used
+   * @param o the object to represent.
+   * @return the possibly truncated {@code String} representation of the given object.
+   */
+  public String asText(Representation p, Object o) {
+    return asText(p, o, maxLengthForArguments);
   }
 }
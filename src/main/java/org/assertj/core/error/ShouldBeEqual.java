@@ -24,6 +24,7 @@ import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.StandardComparisonStrategy;
+import org.assertj.core.presentation.BoundedStringBuilder;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -53,6 +54,9 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   final MessageFormatter messageFormatter = MessageFormatter.instance();
   private final ComparisonStrategy comparisonStrategy;
   private Representation representation;
+  // actual and expected representations are computed once as they can be costly for huge values
+  private String actualRepresentation;
+  private String expectedRepresentation;
   @VisibleForTesting
   ConstructorInvoker constructorInvoker = new ConstructorInvoker();
   @VisibleForTesting
@@ -136,7 +140,19 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   }
 
   private boolean actualAndExpectedHaveSameStringRepresentation() {
-    return Objects.equals(representation.toStringOf(actual), representation.toStringOf(expected));
+    // truncated representations of huge values don't tell whether their complete representations are the same
+    return Objects.equals(actualRepresentation(), expectedRepresentation())
+           && actualRepresentation().length() <= messageFormatter.maxLengthForArguments;
+  }
+
+  private String actualRepresentation() {
+    if (actualRepresentation == null) actualRepresentation = messageFormatter.asText(representation, actual);
+    return actualRepresentation;
+  }
+
+  private String expectedRepresentation() {
+    if (expectedRepresentation == null) expectedRepresentation = messageFormatter.asText(representation, expected);
+    return expectedRepresentation;
   }
 
   /**
@@ -160,9 +176,12 @@ public class ShouldBeEqual implements AssertionErrorFactory {
       // only drawback is that it won't look nice in IDEs.
       return defaultDetailedErrorMessage(description, representation);
     }
+    Representation messageRepresentation = representation == this.representation
+        ? new MemoizedRepresentation(representation)
+        : representation;
     return comparisonStrategy.isStandard()
-        ? messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, actual, expected)
-        : messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
+        ? messageFormatter.format(description, messageRepresentation, EXPECTED_BUT_WAS_MESSAGE, actual, expected)
+        : messageFormatter.format(description, messageRepresentation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
                                   actual, expected, comparisonStrategy);
   }
 
@@ -219,7 +238,7 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   }
 
   private Object[] msgArgs(String description) {
-    return array(description, representation.toStringOf(expected), representation.toStringOf(actual));
+    return array(description, expectedRepresentation(), actualRepresentation());
   }
 
   private String detailedActual() {
@@ -230,6 +249,35 @@ public class ShouldBeEqual implements AssertionErrorFactory {
     return representation.unambiguousToStringOf(expected);
   }
 
+  /**
+   * Reuses the already computed representations of {@link #actual} and {@link #expected}.
+   */
+  private class MemoizedRepresentation implements Representation {
+
+    private final Representation representation;
+
+    private MemoizedRepresentation(Representation representation) {
+      this.representation = representation;
+    }
+
+    @Override
+    public String toStringOf(Object object) {
+      return representation.toStringOf(object);
+    }
+
+    @Override
+    public String unambiguousToStringOf(Object object) {
+      return representation.unambiguousToStringOf(object);
+    }
+
+    @Override
+    public void appendStringOf(Object object, BoundedStringBuilder builder) {
+      if (object == actual) builder.append(actualRepresentation());
+      else if (object == expected) builder.append(expectedRepresentation());
+      else representation.appendStringOf(object, builder);
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
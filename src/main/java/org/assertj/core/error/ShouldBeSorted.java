@@ -53,6 +53,45 @@ public class ShouldBeSorted extends BasicErrorMessageFactory {
         comparator, i, arrayWrapper.get(i), i + 1, arrayWrapper.get(i + 1), arrayWrapper);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code> for a group that was only read until the elements not in order
+   * (like a stream consumed in a single pass).
+   *
+   * @param i the index of elements whose not naturally ordered with the next.
+   * @param element the element at index {@code i}.
+   * @param nextElement the element at index {@code i + 1}.
+   * @param group the description of the actual group in the failed assertion.
+   * @return an instance of {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSorted(long i, Object element, Object nextElement, Object group) {
+    return new ShouldBeSorted(
+        "%ngroup is not sorted because element %s:%n <%s>%nis not less or equal than element %s:%n <%s>%ngroup was:%n <%s>",
+        index(i), element, index(i + 1), nextElement, group);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code> for a group that was only read until the elements not in order
+   * according to the given comparator (like a stream consumed in a single pass).
+   *
+   * @param i the index of elements whose not ordered with the next according to the given comparator.
+   * @param element the element at index {@code i}.
+   * @param nextElement the element at index {@code i + 1}.
+   * @param group the description of the actual group in the failed assertion.
+   * @param comparator the {@link Comparator} used to compare group elements.
+   * @return an instance of {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSortedAccordingToGivenComparator(long i, Object element, Object nextElement,
+                                                                             Object group, Comparator<?> comparator) {
+    return new ShouldBeSorted(
+        "%ngroup is not sorted according to %s comparator because element %s:%n <%s>%nis not less or equal than element %s:%n <%s>%ngroup was:%n <%s>",
+        comparator, index(i), element, index(i + 1), nextElement, group);
+  }
+
+  // avoids the long representation suffix
+  private static Object index(long i) {
+    return unquotedString(String.valueOf(i));
+  }
+
   public static ErrorMessageFactory shouldHaveMutuallyComparableElements(Object actual) {
     return new ShouldBeSorted("%nsome elements are not mutually comparable in group:%n<%s>", actual);
   }
@@ -47,11 +47,16 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
     super("%nFile:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+        offsetOf(diff), diff.expected, diff.actual);
   }
   
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
     super("%nPath:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+        offsetOf(diff), diff.expected, diff.actual);
+  }
+
+  // offset is a long, it would be represented with an L suffix
+  private static CharSequence offsetOf(BinaryDiffResult diff) {
+    return unquotedString(String.valueOf(diff.offset));
   }
 }
@@ -47,6 +47,21 @@ public class ShouldHaveSize extends BasicErrorMessageFactory {
     super(format("%nExpected size:<%s> but was:<%s> in:%n<%s>", expectedSize, actualSize, "%s"), actual);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSize}</code> for a group that was only read until it had more elements than
+   * expected, its actual size is thus unknown (like a stream consumed in a single pass).
+   * @param actual the actual value in the failed assertion.
+   * @param expectedSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSizeButHadMoreElements(Object actual, int expectedSize) {
+    return new ShouldHaveSize(format("%nExpected size:<%s> but had more elements in:%n<%s>", expectedSize, "%s"), actual);
+  }
+
+  private ShouldHaveSize(String format, Object actual) {
+    super(format, actual);
+  }
+
   /**
    * Creates a new <code>{@link ShouldHaveSize}</code> for file size.
    * @param actual the actual file in the failed assertion.
@@ -12,18 +12,21 @@
  */
 package org.assertj.core.extractor;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.addAll;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.util.introspection.PropertyOrFieldPath;
+import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 public class ByNameMultipleExtractor<T> implements Function<T, Tuple>{
 
   private final String[] fieldsOrProperties;
+  // the extractor is applied to all the elements of a group, the paths are resolved once for all of them
+  private volatile PropertyOrFieldPath[] paths;
 
   public ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
@@ -31,22 +34,44 @@ public class ByNameMultipleExtractor<T> implements Function<T, Tuple>{
 
   @Override
   public Tuple apply(T input) {
+    return new Tuple(extractValues(input));
+  }
+
+  /**
+   * Adds the values of the fields/properties of the given object to the given list, in the order of the names, without
+   * building a {@link Tuple} for them.
+   *
+   * @param input the object to extract the fields/properties values from.
+   * @param values the list to add the values to.
+   * @since 3.16.0
+   */
+  public void extractValuesInto(T input, List<Object> values) {
+    addAll(values, extractValues(input));
+  }
+
+  private Object[] extractValues(T input) {
     checkArgument(fieldsOrProperties != null, "The names of the fields/properties to read should not be null");
     checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
     checkArgument(input != null, "The object to extract fields/properties from should not be null");
 
-    List<Function<T, Object>> extractors = buildExtractors();
-    List<Object> values = extractValues(input, extractors);
-    
-    return new Tuple(values.toArray());
-  }
-
-  private List<Object> extractValues(T input, List<Function<T, Object>> singleExtractors) {
-    return singleExtractors.stream().map(extractor -> extractor.apply(input)).collect(toList());
+    PropertyOrFieldPath[] propertyOrFieldPaths = paths();
+    Object[] values = new Object[propertyOrFieldPaths.length];
+    for (int i = 0; i < propertyOrFieldPaths.length; i++) {
+      values[i] = propertyOrFieldPaths[i].valueOf(input);
+    }
+    return values;
   }
 
-  private List<Function<T, Object>> buildExtractors() {
-    return Arrays.stream(fieldsOrProperties).map(ByNameSingleExtractor<T>::new).collect(toList());
+  private PropertyOrFieldPath[] paths() {
+    PropertyOrFieldPath[] propertyOrFieldPaths = paths;
+    if (propertyOrFieldPaths == null) {
+      propertyOrFieldPaths = new PropertyOrFieldPath[fieldsOrProperties.length];
+      for (int i = 0; i < fieldsOrProperties.length; i++) {
+        propertyOrFieldPaths[i] = PropertyOrFieldSupport.EXTRACTION.pathOf(fieldsOrProperties[i]);
+      }
+      paths = propertyOrFieldPaths;
+    }
+    return propertyOrFieldPaths;
   }
 
 }
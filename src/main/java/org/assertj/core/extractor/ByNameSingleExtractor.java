@@ -15,11 +15,14 @@ package org.assertj.core.extractor;
 import java.util.function.Function;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.introspection.PropertyOrFieldPath;
 import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 class ByNameSingleExtractor<T> implements Function<T, Object> {
 
   private final String propertyOrFieldName;
+  // the extractor is applied to all the elements of a group, the path is resolved once for all of them
+  private PropertyOrFieldPath propertyOrFieldPath;
 
   @VisibleForTesting
   ByNameSingleExtractor(String propertyOrFieldName) {
@@ -28,7 +31,13 @@ class ByNameSingleExtractor<T> implements Function<T, Object> {
 
   @Override
   public Object apply(T input) {
-    return PropertyOrFieldSupport.EXTRACTION.getValueOf(propertyOrFieldName, input);
+    PropertyOrFieldPath path = propertyOrFieldPath;
+    if (path == null) {
+      // reports invalid names when reading the first element
+      path = PropertyOrFieldSupport.EXTRACTION.pathOf(propertyOrFieldName);
+      propertyOrFieldPath = path;
+    }
+    return path.valueOf(input);
   }
 
 }
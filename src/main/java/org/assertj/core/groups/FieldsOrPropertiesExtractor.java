@@ -12,16 +12,17 @@
  */
 package org.assertj.core.groups;
 
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.IterableUtil.toArray;
 import static org.assertj.core.util.Lists.newArrayList;
-import static org.assertj.core.util.Streams.stream;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.api.AbstractObjectArrayAssert;
+import org.assertj.core.extractor.ByNameMultipleExtractor;
 
 /**
  * Understands how to retrieve fields or values from a collection/array of objects.
@@ -61,7 +62,31 @@ public class FieldsOrPropertiesExtractor {
    */
   public static <F, T> List<T> extract(Iterable<? extends F> objects, Function<? super F, T> extractor) {
     checkObjectToExtractFromIsNotNull(objects);
-    return stream(objects).map(extractor).collect(toList());
+    List<T> extractedValues = objects instanceof Collection ? new ArrayList<>(((Collection<?>) objects).size())
+        : new ArrayList<>();
+    for (F object : objects) {
+      extractedValues.add(extractor.apply(object));
+    }
+    return extractedValues;
+  }
+
+  /**
+   * Behavior is described in {@link AbstractIterableAssert#flatExtracting(String...)}, the extracted values are added
+   * directly to the result without being grouped in {@link Tuple}s first.
+   * @param <F> type of elements to extract the values from
+   * @param objects the elements to extract the values from
+   * @param extractor the extractor of the fields/properties values
+   * @return the extracted values of all the elements
+   * @since 3.16.0
+   */
+  public static <F> List<Object> flatExtract(Iterable<? extends F> objects,
+                                             ByNameMultipleExtractor<? super F> extractor) {
+    checkObjectToExtractFromIsNotNull(objects);
+    List<Object> extractedValues = new ArrayList<>();
+    for (F object : objects) {
+      extractor.extractValuesInto(object, extractedValues);
+    }
+    return extractedValues;
   }
 
   private static void checkObjectToExtractFromIsNotNull(Object object) {
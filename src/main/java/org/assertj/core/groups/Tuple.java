@@ -17,6 +17,7 @@ import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Objects.areEqual;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class Tuple {
@@ -39,7 +40,8 @@ public class Tuple {
   public int hashCode() {
     final int prime = 31;
     int result = 1;
-    result = prime * result + datas.hashCode();
+    // consistent with equals that compares arrays by content
+    result = prime * result + Arrays.deepHashCode(datas.toArray());
     return result;
   }
 
@@ -18,6 +18,7 @@ import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 
 import java.lang.reflect.Array;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Base implementation of {@link ComparisonStrategy} contract.
@@ -30,6 +31,9 @@ public abstract class AbstractComparisonStrategy implements ComparisonStrategy {
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
     if (isNullOrEmpty(iterable)) return EMPTY_SET;
 
+    Function<Object, ?> equivalenceKeyExtractor = equivalenceKeyExtractor();
+    if (equivalenceKeyExtractor != null) return HashedElements.duplicatesFrom(iterable, equivalenceKeyExtractor);
+
     Set<Object> duplicates = newSetUsingComparisonStrategy();
     Set<Object> noDuplicates = newSetUsingComparisonStrategy();
     for (Object element : iterable) {
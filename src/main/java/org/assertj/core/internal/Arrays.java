@@ -83,6 +83,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -195,11 +196,17 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canCheckWithoutBoxing(actual, values)) {
+      if (PrimitiveArrays.contains(actual, values)) return;
+      Set<Object> notFound = new LinkedHashSet<>(PrimitiveArrays.valuesNotFound(actual, values));
+      throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
+    }
+    Predicate<Object> actualContains = containedInArray(actual, sizeOf(values));
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
       Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+      if (!actualContains.test(value)) notFound.add(value);
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -242,6 +249,13 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canCheckWithoutBoxing(actual, values)) {
+      if (PrimitiveArrays.containsOnly(actual, values)) return;
+      throw failures.failure(info, shouldContainOnly(actual, values,
+                                                     PrimitiveArrays.valuesNotFound(actual, values),
+                                                     PrimitiveArrays.elementsNotIn(actual, values),
+                                                     comparisonStrategy));
+    }
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -275,6 +289,16 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (canCheckWithoutBoxing(actual, values)) {
+      if (PrimitiveArrays.containsExactly(actual, values)) return;
+      IterableDiff diff = PrimitiveArrays.diff(actual, values);
+      if (diff.differencesFound())
+        throw failures.failure(info, shouldContainExactly(actual, wrap(values), diff.missing, diff.unexpected,
+                                                          comparisonStrategy));
+      int i = PrimitiveArrays.indexOfFirstDifference(actual, values);
+      throw failures.failure(info, elementsDifferAtIndex(Array.get(actual, i), Array.get(values, i), i,
+                                                         comparisonStrategy));
+    }
 
     List<Object> actualAsList = asList(actual);
     IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -296,6 +320,12 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canCheckWithoutBoxing(actual, values)) {
+      if (PrimitiveArrays.containsExactlyInAnyOrder(actual, values)) return;
+      IterableDiff diff = PrimitiveArrays.diff(actual, values);
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                  comparisonStrategy));
+    }
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -315,13 +345,21 @@ public class Arrays {
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values))
       return;
-    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
+    if (canCheckWithoutBoxing(actual, values)) {
+      if (PrimitiveArrays.containsOnlyOnce(actual, values)) return;
+      Set<Object> notFound = new LinkedHashSet<>(PrimitiveArrays.valuesNotFound(actual, values));
+      Set<Object> notOnlyOnce = new LinkedHashSet<>(PrimitiveArrays.valuesFoundMoreThanOnce(actual, values));
+      throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
+    }
+    Predicate<Object> actualContains = containedInArray(actual, sizeOf(values));
+    Predicate<Object> actualDuplicatesContains = containedIn(comparisonStrategy.duplicatesFrom(asList(actual)),
+                                                             sizeOf(values));
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
     for (Object expectedElement : asList(values)) {
-      if (!arrayContains(actual, expectedElement)) {
+      if (!actualContains.test(expectedElement)) {
         notFound.add(expectedElement);
-      } else if (iterableContains(actualDuplicates, expectedElement)) {
+      } else if (actualDuplicatesContains.test(expectedElement)) {
         notOnlyOnce.add(expectedElement);
       }
     }
@@ -334,6 +372,14 @@ public class Arrays {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
+  private Predicate<Object> containedIn(Iterable<?> elements, int lookupCount) {
+    return HashedElements.containedIn(comparisonStrategy, elements, lookupCount);
+  }
+
+  private Predicate<Object> containedInArray(Object array, int lookupCount) {
+    return HashedElements.containedInArray(comparisonStrategy, array, lookupCount);
+  }
+
   private void iterablesRemoveFirst(Collection<?> actual, Object value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
@@ -344,6 +390,10 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
+    if (canCheckWithoutBoxing(actual, sequence)) {
+      if (PrimitiveArrays.containsSequence(actual, sequence)) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
+    }
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
@@ -384,6 +434,10 @@ public class Arrays {
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, actual, subsequence)) return;
+    if (canCheckWithoutBoxing(actual, subsequence)) {
+      if (PrimitiveArrays.containsSubsequence(actual, subsequence)) return;
+      throw failures.failure(info, shouldContainSubsequence(actual, subsequence, comparisonStrategy));
+    }
 
     int sizeOfActual = sizeOf(actual);
     int sizeOfSubsequence = sizeOf(subsequence);
@@ -456,14 +510,34 @@ public class Arrays {
     return comparisonStrategy.areEqual(actual, other);
   }
 
+  // primitive arrays compared with the standard strategy are checked without boxing their elements, only the elements
+  // reported in failures are boxed
+  private boolean canCheckWithoutBoxing(Object array, Object other) {
+    return isStandardComparison() && PrimitiveArrays.haveSameType(array, other);
+  }
+
+  private boolean canCheckWithoutBoxing(Object array) {
+    return isStandardComparison() && PrimitiveArrays.isPrimitiveArray(array);
+  }
+
+  private boolean isStandardComparison() {
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class;
+  }
+
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (canCheckWithoutBoxing(array, values)) {
+      if (PrimitiveArrays.doesNotContain(array, values)) return;
+      Set<Object> found = new LinkedHashSet<>(PrimitiveArrays.valuesFound(array, values));
+      throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
+    }
+    Predicate<Object> arrayContains = containedInArray(array, sizeOf(values));
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
       Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+      if (arrayContains.test(value)) found.add(value);
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -474,6 +548,11 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (canCheckWithoutBoxing(array)) {
+      if (PrimitiveArrays.doesNotHaveDuplicates(array)) return;
+      throw failures.failure(info, shouldNotHaveDuplicates(array, PrimitiveArrays.duplicates(array),
+                                                           comparisonStrategy));
+    }
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -532,11 +611,12 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
+    Predicate<Object> valuesContain = containedIn(values, sizeOf(actual));
     List<Object> extra = newArrayList();
     int sizeOfActual = sizeOf(actual);
     for (int i = 0; i < sizeOfActual; i++) {
       Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
+      if (!valuesContain.test(actualElement)) {
         extra.add(actualElement);
       }
     }
@@ -631,9 +711,10 @@ public class Arrays {
     assertIsArray(info, actual);
     assertIsArray(info, values);
 
-    List<Object> valuesToSearchFor = asList(values);
-    for (Object element : asList(actual)) {
-      if (iterableContains(valuesToSearchFor, element)) return;
+    Predicate<Object> valuesContain = containedIn(asList(values), sizeOf(actual));
+    int actualSize = sizeOf(actual);
+    for (int i = 0; i < actualSize; i++) {
+      if (valuesContain.test(Array.get(actual, i))) return;
     }
     throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
 
@@ -669,6 +750,11 @@ public class Arrays {
 
   void assertIsSorted(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (canCheckWithoutBoxing(array)) {
+      int i = PrimitiveArrays.indexOfFirstUnsortedElement(array);
+      if (i < 0) return;
+      throw failures.failure(info, shouldBeSorted(i, array));
+    }
     if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
       // instead of comparing array elements with their natural comparator, use the one set by client.
       Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
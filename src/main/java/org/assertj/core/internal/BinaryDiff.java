@@ -12,11 +12,13 @@
  */
 package org.assertj.core.internal;
 
-import java.io.ByteArrayInputStream;
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 
 import org.assertj.core.util.VisibleForTesting;
@@ -24,34 +26,154 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are read and compared chunk by chunk so that neither of them is fully loaded in memory, files are read with a
+ * {@link FileChannel}.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int EOF = -1;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream expectedStream = new ByteArrayInputStream(expected);
-        InputStream actualStream = Files.newInputStream(actual)) {
-      return diff(actualStream, expectedStream);
+    try (FileChannel actualChannel = FileChannel.open(actual, READ)) {
+      return diff(chunksOf(actualChannel), chunksOf(expected));
+    }
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      return diff(chunksOf(actualChannel), chunksOf(expectedChannel));
     }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    return diff(chunksOf(actualStream), chunksOf(expectedStream));
+  }
+
+  private static BinaryDiffResult diff(ChunkReader actualReader, ChunkReader expectedReader) throws IOException {
+    ByteBuffer actualChunk = actualReader.newChunk();
+    ByteBuffer expectedChunk = expectedReader.newChunk();
+    long chunkOffset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = actualReader.read(actualChunk);
+      int expectedLength = expectedReader.read(expectedChunk);
+      int index = mismatch(actualChunk, expectedChunk, Math.min(actualLength, expectedLength));
+      if (index != EOF) {
+        return new BinaryDiffResult(chunkOffset + index, unsignedByteAt(expectedChunk, index), unsignedByteAt(actualChunk, index));
+      }
+      // chunks are only partially filled at the end of the content
+      if (actualLength != expectedLength) {
+        int endIndex = Math.min(actualLength, expectedLength);
+        return new BinaryDiffResult(chunkOffset + endIndex, byteOrEOF(expectedChunk, expectedLength, endIndex),
+                                    byteOrEOF(actualChunk, actualLength, endIndex));
+      }
+      if (actualLength < CHUNK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both contents
+      chunkOffset += actualLength;
+    }
+  }
+
+  // compares 8 bytes at once and then locates the first different byte, returns EOF if there are no differences
+  private static int mismatch(ByteBuffer actual, ByteBuffer expected, int length) {
+    int index = 0;
+    for (; index <= length - Long.BYTES; index += Long.BYTES) {
+      long difference = actual.getLong(index) ^ expected.getLong(index);
+      // buffers are big endian, the first different byte is the one holding the highest different bit
+      if (difference != 0) return index + Long.numberOfLeadingZeros(difference) / Byte.SIZE;
+    }
+    for (; index < length; index++) {
+      if (actual.get(index) != expected.get(index)) return index;
     }
+    return EOF;
+  }
+
+  private static int byteOrEOF(ByteBuffer chunk, int length, int index) {
+    return index < length ? unsignedByteAt(chunk, index) : EOF;
+  }
+
+  private static int unsignedByteAt(ByteBuffer chunk, int index) {
+    return chunk.get(index) & 0xFF;
+  }
+
+  private static ChunkReader chunksOf(FileChannel channel) {
+    return new ChunkReader() {
+      @Override
+      public ByteBuffer newChunk() {
+        // direct buffers avoid the copy made by the channel when reading into heap buffers
+        return ByteBuffer.allocateDirect(CHUNK_SIZE);
+      }
+
+      @Override
+      public int read(ByteBuffer chunk) throws IOException {
+        chunk.clear();
+        while (chunk.hasRemaining() && channel.read(chunk) != EOF) {
+          // keep reading until the chunk is full or the end of the file is reached
+        }
+        return chunk.position();
+      }
+    };
+  }
+
+  private static ChunkReader chunksOf(InputStream stream) {
+    return new ChunkReader() {
+      @Override
+      public ByteBuffer newChunk() {
+        return ByteBuffer.allocate(CHUNK_SIZE);
+      }
+
+      @Override
+      public int read(ByteBuffer chunk) throws IOException {
+        byte[] bytes = chunk.array();
+        int length = 0;
+        int readCount = 0;
+        while (length < CHUNK_SIZE && (readCount = stream.read(bytes, length, CHUNK_SIZE - length)) != EOF) {
+          length += readCount;
+        }
+        return length;
+      }
+    };
+  }
+
+  private static ChunkReader chunksOf(byte[] content) {
+    return new ChunkReader() {
+      private int position = 0;
+
+      @Override
+      public ByteBuffer newChunk() {
+        return ByteBuffer.allocate(CHUNK_SIZE);
+      }
+
+      @Override
+      public int read(ByteBuffer chunk) {
+        int length = Math.min(CHUNK_SIZE, content.length - position);
+        System.arraycopy(content, position, chunk.array(), 0, length);
+        position += length;
+        return length;
+      }
+    };
+  }
+
+  // reads a content by chunks of CHUNK_SIZE bytes, a chunk is only partially filled when the end of the content is reached.
+  private interface ChunkReader {
+    ByteBuffer newChunk();
+
+    int read(ByteBuffer chunk) throws IOException;
   }
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * What the field by field and recursive comparisons need to know about a class, computed once per class: its fields
+ * (declared and inherited), whether it overrides {@code equals}/{@code hashCode} and its kind (enum, array, container
+ * ...).
+ * <p>
+ * The shapes are kept in a {@link ClassValue} so they don't prevent the classes from being unloaded.
+ */
+public final class ClassShape {
+
+  /**
+   * The collection types whose elements are compared in order.
+   */
+  public static final List<Class<?>> ORDERED_COLLECTION_TYPES = unmodifiableList(asList(List.class, SortedSet.class,
+                                                                                          LinkedHashSet.class));
+
+  private static final ClassValue<ClassShape> SHAPES = new ClassValue<ClassShape>() {
+    @Override
+    protected ClassShape computeValue(Class<?> type) {
+      return new ClassShape(type);
+    }
+  };
+
+  private final Set<Field> fields;
+  private final Set<String> fieldsNames;
+  private final Map<String, Field> fieldsByName;
+  private final boolean equalsOverridden;
+  private final boolean hashCodeOverridden;
+  private final boolean isEnum;
+  private final boolean isArray;
+  private final boolean isContainer;
+  private final boolean isOrderedCollection;
+
+  private ClassShape(Class<?> clazz) {
+    Set<Field> declaredFields = declaredFieldsIncludingInherited(clazz);
+    Set<String> names = new LinkedHashSet<>();
+    Map<String, Field> byName = new LinkedHashMap<>();
+    for (Field field : declaredFields) {
+      names.add(field.getName());
+      // subclass fields come first and hide the superclass ones with the same name
+      byName.putIfAbsent(field.getName(), field);
+    }
+    fields = unmodifiableSet(declaredFields);
+    fieldsNames = unmodifiableSet(names);
+    fieldsByName = unmodifiableMap(byName);
+    equalsOverridden = declaresMethodBelowObject(clazz, "equals", Object.class);
+    hashCodeOverridden = declaresMethodBelowObject(clazz, "hashCode");
+    isEnum = clazz.isEnum();
+    isArray = clazz.isArray();
+    isContainer = isArray || Iterable.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)
+                  || Optional.class.isAssignableFrom(clazz);
+    isOrderedCollection = ORDERED_COLLECTION_TYPES.stream().anyMatch(type -> type.isAssignableFrom(clazz));
+  }
+
+  /**
+   * Returns the shape of the given class.
+   *
+   * @param clazz the class to get the shape of.
+   * @return the shape of the given class.
+   */
+  public static ClassShape of(Class<?> clazz) {
+    requireNonNull(clazz, "expecting Class parameter not to be null");
+    return SHAPES.get(clazz);
+  }
+
+  /**
+   * Returns the declared fields of the class and its superclasses (stopping at the superclasses in <code>java.lang</code>
+   * package), ignoring synthetic and static fields, the class fields come first.
+   *
+   * @return the unmodifiable fields of the class.
+   */
+  public Set<Field> getFields() {
+    return fields;
+  }
+
+  /**
+   * Returns the names of the {@link #getFields() fields} of the class.
+   *
+   * @return the unmodifiable fields names of the class.
+   */
+  public Set<String> getFieldsNames() {
+    return fieldsNames;
+  }
+
+  /**
+   * Returns the field with the given name, the class field if it hides a superclass one.
+   *
+   * @param fieldName the field name.
+   * @return the field with the given name or {@code null} if there is none.
+   */
+  public Field getField(String fieldName) {
+    return fieldsByName.get(fieldName);
+  }
+
+  /**
+   * Returns whether the class or one of its superclasses (other than {@code Object}) declares {@code equals(Object)}.
+   *
+   * @return whether {@code equals} is overridden.
+   */
+  public boolean hasOverriddenEquals() {
+    return equalsOverridden;
+  }
+
+  /**
+   * Returns whether the class or one of its superclasses (other than {@code Object}) declares {@code hashCode()}.
+   *
+   * @return whether {@code hashCode} is overridden.
+   */
+  public boolean hasOverriddenHashCode() {
+    return hashCodeOverridden;
+  }
+
+  public boolean isEnum() {
+    return isEnum;
+  }
+
+  public boolean isArray() {
+    return isArray;
+  }
+
+  /**
+   * Returns whether the class is an array, an {@link Iterable}, a {@link Map} or an {@link Optional}.
+   *
+   * @return whether the class is a container.
+   */
+  public boolean isContainer() {
+    return isContainer;
+  }
+
+  /**
+   * Returns whether the class is one of the {@link #ORDERED_COLLECTION_TYPES}.
+   *
+   * @return whether the class is an ordered collection.
+   */
+  public boolean isOrderedCollection() {
+    return isOrderedCollection;
+  }
+
+  private static Set<Field> declaredFieldsIncludingInherited(Class<?> clazz) {
+    Set<Field> declaredFields = declaredFieldsIgnoringSyntheticAndStatic(clazz);
+    Class<?> superclazz = clazz.getSuperclass();
+    while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
+      declaredFields.addAll(declaredFieldsIgnoringSyntheticAndStatic(superclazz));
+      superclazz = superclazz.getSuperclass();
+    }
+    return declaredFields;
+  }
+
+  private static Set<Field> declaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
+    Set<Field> declaredFields = new LinkedHashSet<>();
+    for (Field field : clazz.getDeclaredFields()) {
+      if (!field.isSynthetic() && !Modifier.isStatic(field.getModifiers())) declaredFields.add(field);
+    }
+    return declaredFields;
+  }
+
+  private static boolean declaresMethodBelowObject(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+    for (Class<?> c = clazz; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod(methodName, parameterTypes);
+        return true;
+      } catch (Exception ignored) {}
+    }
+    return false;
+  }
+
+}
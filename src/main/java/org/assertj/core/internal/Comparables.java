@@ -43,11 +43,22 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public class Comparables {
 
+  private static final Comparables INSTANCE = new Comparables();
+
   private final ComparisonStrategy comparisonStrategy;
 
   @VisibleForTesting
   Failures failures = Failures.instance();
 
+  /**
+   * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   *
+   * @return the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   */
+  public static Comparables instance() {
+    return INSTANCE;
+  }
+
   /**
    * Build a {@link Comparables} using a {@link StandardComparisonStrategy}.
    */
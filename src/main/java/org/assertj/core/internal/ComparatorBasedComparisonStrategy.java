@@ -20,6 +20,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 
 /**
  * Implements {@link ComparisonStrategy} contract with a comparison strategy based on a {@link Comparator}.
@@ -30,6 +31,9 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
 
   static final int NOT_EQUAL = -1;
 
+  // key of null elements, distinct from the keys (null included) the key extractor gives to non null elements
+  private static final Object NULL_ELEMENT_KEY = new Object();
+
   // A raw type is necessary because we can't make assumptions on object to be compared.
   @SuppressWarnings("rawtypes")
   private final Comparator comparator;
@@ -37,6 +41,10 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   // Comparator description used in assertion messages.
   private final String comparatorDescription;
 
+  // gives keys equal if and only if the comparator considers the elements equal, may be null
+  @SuppressWarnings("rawtypes")
+  private final Function keyExtractor;
+
   /**
    * Creates a new <code>{@link ComparatorBasedComparisonStrategy}</code> specifying the comparison strategy with given
    * comparator.
@@ -57,8 +65,27 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
    */
   public ComparatorBasedComparisonStrategy(@SuppressWarnings("rawtypes") Comparator comparator,
                                            String comparatorDescription) {
+    this(comparator, comparatorDescription, null);
+  }
+
+  /**
+   * Creates a new <code>{@link ComparatorBasedComparisonStrategy}</code> whose comparator is consistent with the given
+   * key extractor: the comparator considers two non null elements equal if and only if their keys are equal according
+   * to their {@code equals} and {@code hashCode} methods.
+   * <p>
+   * The keys allow to look for elements with hash lookups instead of comparing them one by one.
+   *
+   * @param comparator the comparator to compare elements with.
+   * @param comparatorDescription the comparator description used in assertion messages, may be null.
+   * @param keyExtractor the function giving the key of non null elements, may be null.
+   * @since 3.16.0
+   */
+  public ComparatorBasedComparisonStrategy(@SuppressWarnings("rawtypes") Comparator comparator,
+                                           String comparatorDescription,
+                                           Function<?, ?> keyExtractor) {
     this.comparator = comparator;
     this.comparatorDescription = comparatorDescription;
+    this.keyExtractor = keyExtractor;
   }
 
   /**
@@ -221,4 +248,15 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   public boolean isStandard() {
     return false;
   }
+
+  /**
+   * Returns the key extractor this strategy was created with if any, null elements have their own key as they are only
+   * considered equal to null elements when looking for elements (even if the key extractor gives null keys).
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Function<Object, ?> equivalenceKeyExtractor() {
+    if (keyExtractor == null) return null;
+    return element -> element == null ? NULL_ELEMENT_KEY : keyExtractor.apply(element);
+  }
 }
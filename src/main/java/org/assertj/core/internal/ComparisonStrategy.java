@@ -12,6 +12,8 @@
  */
 package org.assertj.core.internal;
 
+import java.util.function.Function;
+
 /**
  * Describes the contract to implement a <b>consistent</b> comparison strategy that covers :<br>
  * - comparing two objects for equality and order<br>
@@ -154,4 +156,19 @@ public interface ComparisonStrategy {
    */
   boolean isStandard();
 
+  /**
+   * Returns a function giving for each object a key such as two objects are equal according to this comparison strategy
+   * if and only if their keys are equal according to their {@code equals} and {@code hashCode} methods.
+   * <p>
+   * When available, looking for objects in a group of objects is done with hash lookups instead of comparing them one
+   * by one.
+   *
+   * @return the function giving the objects equivalence keys or {@code null} if this comparison strategy can't provide
+   *         one (the default).
+   * @since 3.16.0
+   */
+  default Function<Object, ?> equivalenceKeyExtractor() {
+    return null;
+  }
+
 }
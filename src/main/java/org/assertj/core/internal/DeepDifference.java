@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.internal.Objects.propertyOrFieldValuesAreEqual;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Sets.newHashSet;
@@ -29,7 +28,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +36,6 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tests two objects for differences by doing a 'deep' comparison.
@@ -51,8 +48,6 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DeepDifference {
 
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these:%s";
-  private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
-  private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
 
   private final static class DualKey {
 
@@ -311,8 +306,8 @@ public class DeepDifference {
         continue;
       }
 
-      Set<String> key1FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key1.getClass()));
-      Set<String> key2FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key2.getClass()));
+      Set<String> key1FieldsNames = ClassShape.of(key1.getClass()).getFieldsNames();
+      Set<String> key2FieldsNames = ClassShape.of(key2.getClass()).getFieldsNames();
       if (!key2FieldsNames.containsAll(key1FieldsNames)) {
         Set<String> key1FieldsNamesNotInKey2 = newHashSet(key1FieldsNames);
         key1FieldsNamesNotInKey2.removeAll(key2FieldsNames);
@@ -358,9 +353,9 @@ public class DeepDifference {
     if (a != null && b != null && !isContainerType(a) && !isContainerType(b)
         && (isRootObject || !hasCustomComparator(basicDualKey, comparatorByPropertyOrField, comparatorByType))) {
       // disregard the equals method and start comparing fields
-      Set<String> aFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(a.getClass()));
+      Set<String> aFieldsNames = ClassShape.of(a.getClass()).getFieldsNames();
       if (!aFieldsNames.isEmpty()) {
-        Set<String> bFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(b.getClass()));
+        Set<String> bFieldsNames = ClassShape.of(b.getClass()).getFieldsNames();
         if (!bFieldsNames.containsAll(aFieldsNames)) {
           stack.addFirst(basicDualKey);
         } else {
@@ -382,14 +377,6 @@ public class DeepDifference {
     return stack;
   }
 
-  private static Set<String> getFieldsNames(Collection<Field> fields) {
-    Set<String> fieldNames = new LinkedHashSet<>();
-    for (Field field : fields) {
-      fieldNames.add(field.getName());
-    }
-    return fieldNames;
-  }
-
   private static boolean isContainerType(Object o) {
     return o instanceof Collection || o instanceof Map;
   }
@@ -622,30 +609,14 @@ public class DeepDifference {
   }
 
   /**
-   * Determine if the passed in class has a non-Object.equals() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
-   * execution performance.
+   * Determine if the passed in class has a non-Object.equals() method.
    *
    * @param c Class to check.
    * @return true, if the passed in Class has a .equals() method somewhere
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomEquals(Class<?> c) {
-    if (customEquals.containsKey(c)) {
-      return customEquals.get(c);
-    }
-
-    Class<?> origClass = c;
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("equals", Object.class);
-        customEquals.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customEquals.put(origClass, false);
-    return false;
+    return ClassShape.of(c).hasOverriddenEquals();
   }
 
   /**
@@ -712,8 +683,7 @@ public class DeepDifference {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
+      for (Field field : ClassShape.of(obj.getClass()).getFields()) {
         stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
       }
     }
@@ -721,29 +691,13 @@ public class DeepDifference {
   }
 
   /**
-   * Determine if the passed in class has a non-Object.hashCode() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
-   * execution performance.
+   * Determine if the passed in class has a non-Object.hashCode() method.
    *
    * @param c Class to check.
    * @return true, if the passed in Class has a .hashCode() method somewhere
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomHashCode(Class<?> c) {
-    Class<?> origClass = c;
-    if (customHash.containsKey(c)) {
-      return customHash.get(c);
-    }
-
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("hashCode");
-        customHash.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customHash.put(origClass, false);
-    return false;
+    return ClassShape.of(c).hasOverriddenHashCode();
   }
 }
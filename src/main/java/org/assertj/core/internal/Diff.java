@@ -12,8 +12,11 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.String.format;
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
 import java.io.BufferedReader;
@@ -28,13 +31,28 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.TruncatedDeltas;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * Files and paths are compared in a streaming fashion: their lines are read in lockstep until the first divergence and
+ * only the lines of a bounded window starting there are diffed, reporting at most {@code maxDeltas} differences. When
+ * some differences may not be reported, the returned deltas are {@link TruncatedDeltas} describing where the diff
+ * stopped.
+ * <p>
+ * The window size (1000 lines) and {@code maxDeltas} (100) are fixed on purpose and not part of AssertJ configuration:
+ * they bound the memory and time spent diffing huge files, and an error message listing more differences would not be
+ * readable anyway. The truncation note gives the line where the comparison can be resumed.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -47,6 +65,43 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static final int DEFAULT_WINDOW_SIZE = 1_000;
+  private static final int DEFAULT_MAX_DELTAS = 100;
+  // above this number of inserted and deleted lines, the differences are reported as a single change
+  private static final int MAX_EDIT_DISTANCE = 10_000;
+  private static final String MAX_DELTAS_TRUNCATION = "The diff was truncated to its first %s differences, "
+                                                      + "the next ones start at line %s.";
+  private static final String WINDOW_TRUNCATION = "The diff was truncated to the %s lines following the first "
+                                                  + "difference, lines from line %s were not compared.";
+
+  private final int windowSize;
+  private final int maxDeltas;
+
+  /**
+   * Creates a {@link Diff} with the default limits: a window of 1000 lines and 100 reported differences.
+   */
+  public Diff() {
+    this(DEFAULT_WINDOW_SIZE, DEFAULT_MAX_DELTAS);
+  }
+
+  /**
+   * Creates a {@link Diff} that only computes the differences of files and paths within the {@code windowSize} lines
+   * following their first divergence and reports at most {@code maxDeltas} of them.
+   * <p>
+   * AssertJ only uses the default limits, see {@link #Diff()}, this constructor lets tests use small ones.
+   *
+   * @param windowSize the maximum number of lines of each file to diff from their first divergence.
+   * @param maxDeltas the maximum number of differences to report.
+   * @throws IllegalArgumentException if {@code windowSize} or {@code maxDeltas} is less than 1.
+   */
+  @VisibleForTesting
+  public Diff(int windowSize, int maxDeltas) {
+    checkArgument(windowSize >= 1, "The window size must be greater or equal to 1 but was %s", windowSize);
+    checkArgument(maxDeltas >= 1, "The maximum number of deltas must be greater or equal to 1 but was %s", maxDeltas);
+    this.windowSize = windowSize;
+    this.maxDeltas = maxDeltas;
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -64,7 +119,7 @@ public class Diff {
 
   @VisibleForTesting
   public List<Delta<String>> diff(Path actual, Charset actualCharset, Path expected, Charset expectedCharset) throws IOException {
-    return diff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset));
+    return streamingDiff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset));
   }
 
   @VisibleForTesting
@@ -90,13 +145,93 @@ public class Diff {
       List<String> actualLines = linesFromBufferedReader(actual);
       List<String> expectedLines = linesFromBufferedReader(expected);
       
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      return unmodifiableList(deltas(expectedLines, actualLines));
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
+  private List<Delta<String>> streamingDiff(BufferedReader actual, BufferedReader expected) throws IOException {
+    try {
+      int divergenceIndex = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        divergenceIndex++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+
+      List<String> actualWindow = window(actualLine, actual);
+      List<String> expectedWindow = window(expectedLine, expected);
+      boolean actualWindowTruncated = actualWindow.size() == windowSize && actual.readLine() != null;
+      boolean expectedWindowTruncated = expectedWindow.size() == windowSize && expected.readLine() != null;
+
+      List<Delta<String>> deltas = new ArrayList<>();
+      for (Delta<String> delta : deltas(expectedWindow, actualWindow)) {
+        Delta<String> shiftedDelta = shift(delta, divergenceIndex);
+        if (deltas.size() == maxDeltas) {
+          return new TruncatedDeltas<>(deltas, format(MAX_DELTAS_TRUNCATION, maxDeltas, shiftedDelta.lineNumber()));
+        }
+        // a delta reaching the end of a truncated window might only be an artifact of the truncation
+        boolean reachesTruncatedWindowEnd = actualWindowTruncated && reachesEnd(delta.getRevised(), actualWindow)
+                                            || expectedWindowTruncated && reachesEnd(delta.getOriginal(), expectedWindow);
+        if (reachesTruncatedWindowEnd && !deltas.isEmpty()) {
+          return new TruncatedDeltas<>(deltas, windowTruncation(shiftedDelta.lineNumber()));
+        }
+        deltas.add(shiftedDelta);
+      }
+      if (actualWindowTruncated || expectedWindowTruncated) {
+        return new TruncatedDeltas<>(deltas, windowTruncation(divergenceIndex + windowSize + 1));
+      }
+      return unmodifiableList(deltas);
+    } finally {
+      closeQuietly(actual, expected);
+    }
+  }
+
+  private String windowTruncation(int firstLineNotCompared) {
+    return format(WINDOW_TRUNCATION, windowSize, firstLineNotCompared);
+  }
+
+  private static List<Delta<String>> deltas(List<String> expectedLines, List<String> actualLines) {
+    Patch<String> patch = DiffUtils.diff(expectedLines, actualLines, new LinearSpaceMyersDiff<>(MAX_EDIT_DISTANCE));
+    return patch.getDeltas();
+  }
+
+  private List<String> window(String firstLine, BufferedReader reader) throws IOException {
+    List<String> lines = new ArrayList<>();
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
+    String line;
+    while (lines.size() < windowSize && (line = reader.readLine()) != null) {
+      lines.add(line);
+    }
+    return lines;
+  }
+
+  private static boolean reachesEnd(Chunk<String> chunk, List<String> window) {
+    return chunk.getPosition() + chunk.size() >= window.size();
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int offset) {
+    Chunk<String> original = shift(delta.getOriginal(), offset);
+    Chunk<String> revised = shift(delta.getRevised(), offset);
+    switch (delta.getType()) {
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    case INSERT:
+      return new InsertDelta<>(original, revised);
+    default:
+      return new ChangeDelta<>(original, revised);
+    }
+  }
+
+  private static Chunk<String> shift(Chunk<String> chunk, int offset) {
+    return new Chunk<>(chunk.getPosition() + offset, chunk.getLines());
+  }
+
   private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
     String line;
     List<String> lines = new ArrayList<>();
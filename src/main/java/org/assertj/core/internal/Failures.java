@@ -18,10 +18,12 @@ import static org.assertj.core.util.Strings.isNullOrEmpty;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
-import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationSnapshot;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.AssertionErrorFactory;
@@ -43,6 +45,9 @@ public class Failures {
 
   private static final Failures INSTANCE = new Failures();
 
+  // stack trace filtering deferred in the current thread
+  private static final ThreadLocal<DeferredStackTraceFiltering> DEFERRED_STACK_TRACE_FILTERING = ThreadLocal.withInitial(DeferredStackTraceFiltering::new);
+
   private AssertionErrorCreator assertionErrorCreator = new AssertionErrorCreator();
 
   /**
@@ -59,11 +64,6 @@ public class Failures {
     return INSTANCE;
   }
 
-  /**
-   * flag indicating whether or not we remove elements related to AssertJ from assertion error stack trace.
-   */
-  private boolean removeAssertJRelatedElementsFromStackTrace = Configuration.REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
-
   /**
    * Sets whether we remove elements related to AssertJ from assertion error stack trace.
    *
@@ -71,7 +71,8 @@ public class Failures {
    */
   public void setRemoveAssertJRelatedElementsFromStackTrace(boolean removeAssertJRelatedElementsFromStackTrace) {
     ConfigurationProvider.loadRegisteredConfiguration();
-    this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
+    ConfigurationSnapshot.update(settings -> settings.withRemoveAssertJRelatedElementsFromStackTrace(
+        removeAssertJRelatedElementsFromStackTrace));
   }
 
   /**
@@ -79,7 +80,7 @@ public class Failures {
    * @return whether or not we remove elements related to AssertJ from assertion error stack trace.
    */
   public boolean isRemoveAssertJRelatedElementsFromStackTrace() {
-    return removeAssertJRelatedElementsFromStackTrace;
+    return ConfigurationSnapshot.current().removeAssertJRelatedElementsFromStackTraceEnabled();
   }
 
   @VisibleForTesting
@@ -182,7 +183,7 @@ public class Failures {
   }
 
   /**
-   * If is {@link #removeAssertJRelatedElementsFromStackTrace} is true, it filters the stack trace of the given {@link AssertionError}
+   * If is {@link #isRemoveAssertJRelatedElementsFromStackTrace()} is true, it filters the stack trace of the given {@link AssertionError}
    * by removing stack trace elements related to AssertJ in order to get a more readable stack trace.
    * <p>
    * See example below :
@@ -213,9 +214,53 @@ public class Failures {
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
-      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+    if (!isRemoveAssertJRelatedElementsFromStackTrace()) return;
+    DeferredStackTraceFiltering deferredStackTraceFiltering = DEFERRED_STACK_TRACE_FILTERING.get();
+    if (deferredStackTraceFiltering.depth > 0) deferredStackTraceFiltering.errorsToFilter.add(assertionError);
+    else Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+  }
+
+  /**
+   * Defers the stack trace filtering of the {@link AssertionError}s created in the current thread until
+   * {@link #stopDeferringStackTraceFiltering(Throwable)} is called.
+   * <p>
+   * This is used by soft assertions which filter the stack trace of the errors they collect only when they are requested,
+   * the errors created in the meantime that are not collected are filtered when the deferral stops.
+   * <p>
+   * Calls can be nested, each call must be followed by a call to {@link #stopDeferringStackTraceFiltering(Throwable)}.
+   */
+  public void startDeferringStackTraceFiltering() {
+    DEFERRED_STACK_TRACE_FILTERING.get().depth++;
+  }
+
+  /**
+   * Stops deferring the stack trace filtering started by {@link #startDeferringStackTraceFiltering()}.
+   * <p>
+   * When the outermost deferral stops, the stack trace of the errors created since it started is filtered, except the one
+   * of the given collected error which is left to the caller.
+   *
+   * @param collectedError the error collected by the caller, may be null.
+   * @return whether the caller has to filter the stack trace of the collected error with
+   *         {@link Throwables#removeAssertJRelatedElementsFromStackTrace(Throwable)}, that is whether it was created while
+   *         stack trace filtering was deferred and {@link #isRemoveAssertJRelatedElementsFromStackTrace()} was true.
+   */
+  public boolean stopDeferringStackTraceFiltering(Throwable collectedError) {
+    DeferredStackTraceFiltering deferredStackTraceFiltering = DEFERRED_STACK_TRACE_FILTERING.get();
+    if (--deferredStackTraceFiltering.depth > 0) return false;
+    boolean collectedErrorToFilter = false;
+    for (Throwable error : deferredStackTraceFiltering.errorsToFilter) {
+      if (error == collectedError) collectedErrorToFilter = true;
+      else Throwables.removeAssertJRelatedElementsFromStackTrace(error);
     }
+    deferredStackTraceFiltering.errorsToFilter.clear();
+    return collectedErrorToFilter;
+  }
+
+  private static class DeferredStackTraceFiltering {
+    // number of calls deferring the stack trace filtering in progress
+    private int depth;
+    // errors created while the filtering was deferred, filtering them was enabled at that time
+    private final List<Throwable> errorsToFilter = new ArrayList<>();
   }
 
   /**
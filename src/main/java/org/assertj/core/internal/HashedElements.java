@@ -0,0 +1,260 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.ArrayWrapperList.wrap;
+import static org.assertj.core.util.Arrays.isArray;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.assertj.core.util.Objects;
+
+/**
+ * Hash index of a group of elements whose lookups are consistent with {@link Objects#areEqual(Object, Object)}, that is
+ * the equality used by {@link StandardComparisonStrategy}, or with the
+ * {@link ComparisonStrategy#equivalenceKeyExtractor() equivalence keys} of a comparison strategy.
+ * <p>
+ * Arrays are compared by content by {@link Objects#areEqual(Object, Object)}, they are thus indexed by a key computing a
+ * hash code from their elements, other elements are indexed as is.
+ * <p>
+ * This allows to compute differences between two groups of elements in O(n+m) instead of O(n*m).
+ */
+final class HashedElements {
+
+  /**
+   * The number of lookups from which indexing elements is cheaper than comparing them one by one to the looked up
+   * objects.
+   */
+  static final int MIN_LOOKUPS_FOR_HASHING = 8;
+
+  private final Set<Object> keys;
+  private final Function<Object, ?> keyExtractor;
+
+  private HashedElements(Set<Object> keys, Function<Object, ?> keyExtractor) {
+    this.keys = keys;
+    this.keyExtractor = keyExtractor;
+  }
+
+  static HashedElements index(Iterable<?> elements) {
+    return index(elements, HashedElements::keyOf);
+  }
+
+  static HashedElements index(Object[] elements) {
+    return index(elements, HashedElements::keyOf);
+  }
+
+  static HashedElements index(Iterable<?> elements, Function<Object, ?> keyExtractor) {
+    Set<Object> keys = new HashSet<>();
+    for (Object element : elements) {
+      keys.add(keyExtractor.apply(element));
+    }
+    return new HashedElements(keys, keyExtractor);
+  }
+
+  static HashedElements index(Object[] elements, Function<Object, ?> keyExtractor) {
+    Set<Object> keys = new HashSet<>(Math.max(16, (int) (elements.length / .75f) + 1));
+    for (Object element : elements) {
+      keys.add(keyExtractor.apply(element));
+    }
+    return new HashedElements(keys, keyExtractor);
+  }
+
+  /**
+   * Returns whether the given elements can be indexed consistently with {@link Objects#areEqual(Object, Object)}: the
+   * elements overriding {@code equals} must override {@code hashCode} and arrays must be primitive ones (their
+   * elements being then compared by equals and hashed by hashCode consistently).
+   *
+   * @param elements the elements to check.
+   * @return whether the given elements can be indexed.
+   */
+  static boolean canIndex(Iterable<?> elements) {
+    for (Object element : elements) {
+      if (!canIndex(element)) return false;
+    }
+    return true;
+  }
+
+  static boolean canIndex(Object[] elements) {
+    for (Object element : elements) {
+      if (!canIndex(element)) return false;
+    }
+    return true;
+  }
+
+  private static boolean canIndex(Object element) {
+    if (element == null) return true;
+    Class<?> type = element.getClass();
+    if (type.isArray()) return type.getComponentType().isPrimitive();
+    ClassShape shape = ClassShape.of(type);
+    return !shape.hasOverriddenEquals() || shape.hasOverriddenHashCode();
+  }
+
+  /**
+   * Returns a predicate telling whether an object is equal to one of the given elements according to the given comparison
+   * strategy.
+   * <p>
+   * When at least {@link #MIN_LOOKUPS_FOR_HASHING} objects are looked up, lookups are hash based if the comparison
+   * strategy provides {@link ComparisonStrategy#equivalenceKeyExtractor() equivalence keys} or if it is the standard one
+   * and the elements and looked up objects {@link #canIndex(Iterable) can be indexed}. Otherwise the elements are compared
+   * one by one to the looked up objects, stopping at the first equal one, as indexing them would cost more than a few
+   * scans.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare objects.
+   * @param elements the elements to look objects in.
+   * @param lookupCount the number of objects that will be looked up.
+   * @return the predicate telling whether an object is in the given elements.
+   */
+  static Predicate<Object> containedIn(ComparisonStrategy comparisonStrategy, Iterable<?> elements, int lookupCount) {
+    return containedIn(comparisonStrategy, elements, lookupCount,
+                       value -> comparisonStrategy.iterableContains(elements, value));
+  }
+
+  /**
+   * Same as {@link #containedIn(ComparisonStrategy, Iterable, int)} for the elements of the given array.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare objects.
+   * @param array the array to look objects in.
+   * @param lookupCount the number of objects that will be looked up.
+   * @return the predicate telling whether an object is in the given array.
+   */
+  static Predicate<Object> containedInArray(ComparisonStrategy comparisonStrategy, Object array, int lookupCount) {
+    return containedIn(comparisonStrategy, wrap(array), lookupCount,
+                       value -> comparisonStrategy.arrayContains(array, value));
+  }
+
+  /**
+   * Returns the number of objects looked up when looking up each element of the given {@link Iterable}, the
+   * {@link Iterable}s that are not collections are not iterated (they may only be iterable once) and are considered
+   * large.
+   *
+   * @param lookedUp the objects to look up.
+   * @return the number of objects looked up.
+   */
+  static int lookupCountOf(Iterable<?> lookedUp) {
+    return lookedUp instanceof Collection ? ((Collection<?>) lookedUp).size() : Integer.MAX_VALUE;
+  }
+
+  private static Predicate<Object> containedIn(ComparisonStrategy comparisonStrategy, Iterable<?> elements,
+                                               int lookupCount, Predicate<Object> oneByOneContains) {
+    if (lookupCount < MIN_LOOKUPS_FOR_HASHING) return oneByOneContains;
+    Function<Object, ?> equivalenceKeyExtractor = comparisonStrategy.equivalenceKeyExtractor();
+    if (equivalenceKeyExtractor != null) return index(elements, equivalenceKeyExtractor)::contains;
+    if (comparisonStrategy.isStandard() && canIndex(elements)) {
+      HashedElements hashedElements = index(elements);
+      return value -> canIndex(value) ? hashedElements.contains(value) : oneByOneContains.test(value);
+    }
+    return oneByOneContains;
+  }
+
+  boolean contains(Object element) {
+    return keys.contains(keyExtractor.apply(element));
+  }
+
+  /**
+   * Returns the elements of the given {@link Iterable} that are equal to another element of the {@link Iterable}
+   * according to the given keys, each duplicated element is returned once (its second occurrence).
+   *
+   * @param elements the elements to look duplicates in.
+   * @param keyExtractor the function giving the elements keys.
+   * @return the duplicated elements.
+   */
+  static Set<Object> duplicatesFrom(Iterable<?> elements, Function<Object, ?> keyExtractor) {
+    Set<Object> keys = new HashSet<>();
+    Map<Object, Object> duplicatesByKey = new LinkedHashMap<>();
+    for (Object element : elements) {
+      Object key = keyExtractor.apply(element);
+      if (!keys.add(key)) duplicatesByKey.putIfAbsent(key, element);
+    }
+    return new LinkedHashSet<>(duplicatesByKey.values());
+  }
+
+  /**
+   * Returns the elements of the given {@link Iterable} that are not in this index, in iteration order and keeping
+   * duplicates.
+   *
+   * @param elements the elements to filter.
+   * @return the elements not found in this index.
+   */
+  List<Object> notIndexed(Iterable<?> elements) {
+    List<Object> notIndexed = new ArrayList<>();
+    for (Object element : elements) {
+      if (!contains(element)) notIndexed.add(element);
+    }
+    return notIndexed;
+  }
+
+  /**
+   * Returns the given elements that are not in this index, in array order and keeping duplicates.
+   *
+   * @param elements the elements to filter.
+   * @return the elements not found in this index.
+   */
+  List<Object> notIndexed(Object[] elements) {
+    List<Object> notIndexed = new ArrayList<>();
+    for (Object element : elements) {
+      if (!contains(element)) notIndexed.add(element);
+    }
+    return notIndexed;
+  }
+
+  static Object keyOf(Object element) {
+    return isArray(element) ? new ArrayKey(element) : element;
+  }
+
+  // array wrapper whose equals/hashCode are consistent with Objects.areEqual
+  private static final class ArrayKey {
+
+    private final Object array;
+    private final int hashCode;
+
+    private ArrayKey(Object array) {
+      this.array = array;
+      this.hashCode = contentHashCode(array);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof ArrayKey)) return false;
+      return Objects.areEqualArrays(array, ((ArrayKey) obj).array);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    // same elements (according to Objects.areEqual) gives the same hash code whether the array is primitive or not
+    private static int contentHashCode(Object element) {
+      if (element == null) return 0;
+      if (!isArray(element)) return element.hashCode();
+      int hash = 1;
+      int length = Array.getLength(element);
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + contentHashCode(Array.get(element, i));
+      }
+      return hash;
+    }
+  }
+
+}
@@ -34,6 +34,13 @@ class IterableDiff {
     this.missing = subtract(expected, actual);
   }
 
+  // the difference of elements compared with the standard comparison strategy, computed without iterating them
+  IterableDiff(List<Object> unexpected, List<Object> missing) {
+    this.comparisonStrategy = StandardComparisonStrategy.instance();
+    this.unexpected = unmodifiableList(unexpected);
+    this.missing = unmodifiableList(missing);
+  }
+
   static <T> IterableDiff diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     return new IterableDiff(actual, expected, comparisonStrategy);
   }
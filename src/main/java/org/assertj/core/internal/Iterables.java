@@ -89,6 +89,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
@@ -337,7 +338,8 @@ public class Iterables {
   }
 
   private void assertIterableContainsGivenValues(Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
+    Predicate<Object> actualContains = containedIn(actual, values.length);
+    Set<Object> notFound = stream(values).filter(value -> !actualContains.test(value))
                                          .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
@@ -348,6 +350,10 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
+  private Predicate<Object> containedIn(Iterable<?> elements, int lookupCount) {
+    return HashedElements.containedIn(comparisonStrategy, elements, lookupCount);
+  }
+
   private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
@@ -371,6 +377,16 @@ public class Iterables {
   public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] expectedValues) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, expectedValues)) return;
 
+    if (comparisonStrategy.isStandard() && HashedElements.canIndex(actual) && HashedElements.canIndex(expectedValues)) {
+      assertContainsOnlyWithHashedElements(info, actual, expectedValues, HashedElements::keyOf);
+      return;
+    }
+    Function<Object, ?> equivalenceKeyExtractor = comparisonStrategy.equivalenceKeyExtractor();
+    if (equivalenceKeyExtractor != null) {
+      assertContainsOnlyWithHashedElements(info, actual, expectedValues, equivalenceKeyExtractor);
+      return;
+    }
+
     // after the for loop, unexpected = expectedValues - actual
     List<Object> unexpectedValues = newArrayList(actual);
     // after the for loop, missing = actual - expectedValues
@@ -392,6 +408,20 @@ public class Iterables {
     }
   }
 
+  // O(n+m) version of assertContainsOnly, only valid when the elements keys are consistent with the comparison strategy
+  private void assertContainsOnlyWithHashedElements(AssertionInfo info, Iterable<?> actual, Object[] expectedValues,
+                                                    Function<Object, ?> equivalenceKeyExtractor) {
+    // unexpected = actual - expectedValues
+    List<Object> unexpectedValues = HashedElements.index(expectedValues, equivalenceKeyExtractor).notIndexed(actual);
+    // missing = expectedValues - actual
+    List<Object> missingValues = HashedElements.index(actual, equivalenceKeyExtractor).notIndexed(expectedValues);
+    if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
+      throw failures.failure(info, shouldContainOnly(actual, expectedValues,
+                                                     missingValues, unexpectedValues,
+                                                     comparisonStrategy));
+    }
+  }
+
   /**
    * Asserts that the given {@code Iterable} contains the given values and only once.
    *
@@ -409,11 +439,12 @@ public class Iterables {
     // check for elements in values that are missing in actual.
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
-    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
+    Predicate<Object> actualContains = containedIn(actual, values.length);
+    Predicate<Object> actualDuplicatesContains = containedIn(comparisonStrategy.duplicatesFrom(actual), values.length);
     for (Object expectedOnlyOnce : values) {
-      if (!iterableContains(actual, expectedOnlyOnce)) {
+      if (!actualContains.test(expectedOnlyOnce)) {
         notFound.add(expectedOnlyOnce);
-      } else if (iterableContains(actualDuplicates, expectedOnlyOnce)) {
+      } else if (actualDuplicatesContains.test(expectedOnlyOnce)) {
         notOnlyOnce.add(expectedOnlyOnce);
       }
     }
@@ -567,7 +598,8 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
+    Predicate<Object> valuesContain = containedIn(values, HashedElements.lookupCountOf(actual));
+    List<Object> extra = stream(actual).filter(actualElement -> !valuesContain.test(actualElement))
                                        .collect(toList());
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
@@ -626,8 +658,9 @@ public class Iterables {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
     Set<Object> found = new LinkedHashSet<>();
+    Predicate<Object> actualContains = containedIn(actual, values.length);
     for (Object o : values) {
-      if (iterableContains(actual, o)) found.add(o);
+      if (actualContains.test(o)) found.add(o);
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
@@ -1232,9 +1265,9 @@ public class Iterables {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, values))
       return;
 
-    Iterable<Object> valuesToSearchFor = newArrayList(values);
+    Predicate<Object> valuesContain = containedIn(newArrayList(values), HashedElements.lookupCountOf(actual));
     for (Object element : actual) {
-      if (iterableContains(valuesToSearchFor, element)) return;
+      if (valuesContain.test(element)) return;
     }
     throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
   }
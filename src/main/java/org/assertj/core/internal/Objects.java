@@ -14,11 +14,8 @@ package org.assertj.core.internal;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
-import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursive;
 import static org.assertj.core.error.ShouldBeEqualByComparingOnlyGivenFields.shouldBeEqualComparingOnlyGivenFields;
@@ -53,10 +50,8 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -776,43 +771,19 @@ public class Objects {
   /**
    * Returns the declared fields of given class and its superclasses stopping at superclass in <code>java.lang</code>
    * package whose fields are not included.
+   * <p>
+   * Synthetic fields (generated by the compiler for access purposes, or by instrumentation tools e.g. JaCoCo adds in a
+   * $jacocoData field) and static fields are ignored.
    *
    * @param clazz the class we want the declared fields.
-   * @return the declared fields of given class and its superclasses.
+   * @return the declared fields of given class and its superclasses, the returned set is cached and unmodifiable.
    */
   public static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
-    requireNonNull(clazz, "expecting Class parameter not to be null");
-    Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(clazz);
-    // get fields declared in superclass
-    Class<?> superclazz = clazz.getSuperclass();
-    while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
-      declaredFields.addAll(getDeclaredFieldsIgnoringSyntheticAndStatic(superclazz));
-      superclazz = superclazz.getSuperclass();
-    }
-    return declaredFields;
+    return ClassShape.of(clazz).getFields();
   }
 
   public static Set<String> getFieldsNames(Class<?> clazz) {
-    return getDeclaredFieldsIncludingInherited(clazz).stream()
-                                                     .map(Field::getName)
-                                                     .collect(toSet());
-  }
-
-  /**
-   * Returns the declared fields of a given class excluding any synthetic or static fields.
-   *
-   * Synthetic fields are fields that are generated by the compiler for access purposes, or by instrumentation tools e.g. JaCoCo adds in a $jacocoData field
-   * and therefore should be ignored when comparing fields.
-   *
-   * Static fields are used as constants, and are not associated with an object.
-   *
-   * @param clazz the class we want the declared fields.
-   * @return the declared fields of given class excluding any synthetic fields.
-   */
-  private static Set<Field> getDeclaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
-    return stream(clazz.getDeclaredFields()).filter(field -> !(field.isSynthetic()
-                                                               || Modifier.isStatic(field.getModifiers())))
-                                            .collect(toCollection(LinkedHashSet::new));
+    return ClassShape.of(clazz).getFieldsNames();
   }
 
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other,
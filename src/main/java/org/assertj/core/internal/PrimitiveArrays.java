@@ -0,0 +1,581 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.sort;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks on primitive arrays that do not box their elements, they are used by {@link Arrays} to check assertions
+ * using the standard comparison strategy.
+ * <p>
+ * Boolean checks return {@code false} when the given arrays are not primitive arrays of the same type or when the
+ * assertion does not succeed. Methods computing the details of a failure expect primitive arrays of the same type and
+ * only box the elements they return.
+ * <p>
+ * Elements are compared through a {@code long} key equal for two elements if and only if their boxed values are
+ * equal, e.g. {@link Double#doubleToLongBits(double)} for doubles, and ordered like their boxed values
+ * {@code compareTo} does.
+ */
+final class PrimitiveArrays {
+
+  private PrimitiveArrays() {}
+
+  static boolean haveSameType(Object array, Object other) {
+    return isPrimitiveArray(array) && other != null && other.getClass() == array.getClass();
+  }
+
+  static boolean isPrimitiveArray(Object array) {
+    return array != null && array.getClass().isArray() && array.getClass().getComponentType().isPrimitive();
+  }
+
+  static boolean contains(Object actual, Object values) {
+    if (!haveSameType(actual, values)) return false;
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    return countNotFound(primitiveArray(actual), sortedValues, foundFlags(sortedValues)) == 0;
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    if (!haveSameType(actual, values)) return false;
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    boolean[] found = foundFlags(sortedValues);
+    int notFoundCount = distinctCount(sortedValues);
+    for (int i = 0; i < actualArray.length(); i++) {
+      int valueIndex = indexOf(sortedValues, actualArray.key(i));
+      if (valueIndex < 0) return false;
+      if (!found[valueIndex]) {
+        found[valueIndex] = true;
+        notFoundCount--;
+      }
+    }
+    return notFoundCount == 0;
+  }
+
+  static boolean containsOnlyOnce(Object actual, Object values) {
+    if (!haveSameType(actual, values)) return false;
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    boolean[] found = foundFlags(sortedValues);
+    for (int i = 0; i < actualArray.length(); i++) {
+      int valueIndex = indexOf(sortedValues, actualArray.key(i));
+      if (valueIndex < 0) continue;
+      if (found[valueIndex]) return false;
+      found[valueIndex] = true;
+    }
+    for (int i = 0; i < found.length; i++) {
+      if (isFirstOfItsKey(sortedValues, i) && !found[i]) return false;
+    }
+    return true;
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    if (!haveSameType(actual, values)) return false;
+    return sizeOf(actual) == sizeOf(values) && indexOfFirstDifference(actual, values) < 0;
+  }
+
+  static boolean containsExactlyInAnyOrder(Object actual, Object values) {
+    if (!haveSameType(actual, values)) return false;
+    if (sizeOf(actual) != sizeOf(values)) return false;
+    PrimitiveArray sortedActual = primitiveArray(actual).sortedCopy();
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    for (int i = 0; i < sortedActual.length(); i++) {
+      if (sortedActual.key(i) != sortedValues.key(i)) return false;
+    }
+    return true;
+  }
+
+  static boolean containsSequence(Object actual, Object sequence) {
+    if (!haveSameType(actual, sequence)) return false;
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sequenceArray = primitiveArray(sequence);
+    int lastIndexWhereSequenceCanBeFound = actualArray.length() - sequenceArray.length();
+    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
+      if (containsSequenceAt(actualIndex, actualArray, sequenceArray)) return true;
+    }
+    return false;
+  }
+
+  private static boolean containsSequenceAt(int actualStartIndex, PrimitiveArray actual, PrimitiveArray sequence) {
+    for (int i = 0; i < sequence.length(); i++) {
+      if (actual.key(actualStartIndex + i) != sequence.key(i)) return false;
+    }
+    return true;
+  }
+
+  static boolean containsSubsequence(Object actual, Object subsequence) {
+    if (!haveSameType(actual, subsequence)) return false;
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray subsequenceArray = primitiveArray(subsequence);
+    int subsequenceIndex = 0;
+    for (int actualIndex = 0; actualIndex < actualArray.length()
+                              && subsequenceIndex < subsequenceArray.length(); actualIndex++) {
+      if (actualArray.key(actualIndex) == subsequenceArray.key(subsequenceIndex)) subsequenceIndex++;
+    }
+    return subsequenceIndex == subsequenceArray.length();
+  }
+
+  static boolean doesNotContain(Object actual, Object values) {
+    if (!haveSameType(actual, values)) return false;
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    for (int i = 0; i < actualArray.length(); i++) {
+      if (indexOf(sortedValues, actualArray.key(i)) >= 0) return false;
+    }
+    return true;
+  }
+
+  static boolean doesNotHaveDuplicates(Object actual) {
+    if (!isPrimitiveArray(actual)) return false;
+    PrimitiveArray sortedActual = primitiveArray(actual).sortedCopy();
+    for (int i = 1; i < sortedActual.length(); i++) {
+      if (sortedActual.key(i - 1) == sortedActual.key(i)) return false;
+    }
+    return true;
+  }
+
+  static boolean isSorted(Object actual) {
+    return isPrimitiveArray(actual) && indexOfFirstUnsortedElement(actual) < 0;
+  }
+
+  // failure details, the arrays are primitive arrays of the same type
+
+  /**
+   * Returns the values not found in actual, in values order and keeping duplicates.
+   */
+  static List<Object> valuesNotFound(Object actual, Object values) {
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    boolean[] found = foundFlags(sortedValues);
+    countNotFound(primitiveArray(actual), sortedValues, found);
+    return valuesFlagged(values, sortedValues, found, false);
+  }
+
+  /**
+   * Returns the values found in actual, in values order and keeping duplicates.
+   */
+  static List<Object> valuesFound(Object actual, Object values) {
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    boolean[] found = foundFlags(sortedValues);
+    countNotFound(primitiveArray(actual), sortedValues, found);
+    return valuesFlagged(values, sortedValues, found, true);
+  }
+
+  /**
+   * Returns the values found more than once in actual, in values order and keeping duplicates.
+   */
+  static List<Object> valuesFoundMoreThanOnce(Object actual, Object values) {
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    boolean[] found = foundFlags(sortedValues);
+    boolean[] foundMoreThanOnce = foundFlags(sortedValues);
+    for (int i = 0; i < actualArray.length(); i++) {
+      int valueIndex = indexOf(sortedValues, actualArray.key(i));
+      if (valueIndex < 0) continue;
+      if (found[valueIndex]) foundMoreThanOnce[valueIndex] = true;
+      found[valueIndex] = true;
+    }
+    return valuesFlagged(values, sortedValues, foundMoreThanOnce, true);
+  }
+
+  /**
+   * Returns the actual elements that are not in values, in actual order and keeping duplicates.
+   */
+  static List<Object> elementsNotIn(Object actual, Object values) {
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sortedValues = primitiveArray(values).sortedCopy();
+    List<Object> elementsNotInValues = new ArrayList<>();
+    for (int i = 0; i < actualArray.length(); i++) {
+      if (indexOf(sortedValues, actualArray.key(i)) < 0) elementsNotInValues.add(Array.get(actual, i));
+    }
+    return elementsNotInValues;
+  }
+
+  /**
+   * Returns the same difference as {@link IterableDiff#diff(Iterable, Iterable, ComparisonStrategy)} with the standard
+   * comparison strategy: each value matches one element of actual, the elements of actual left are unexpected and the
+   * values left are missing.
+   */
+  static IterableDiff diff(Object actual, Object values) {
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray valuesArray = primitiveArray(values);
+    PrimitiveArray sortedValues = valuesArray.sortedCopy();
+    // number of elements of actual matched by the values having the same key, indexed by the first of these values
+    int[] matchCounts = new int[sortedValues.length()];
+    List<Object> unexpected = new ArrayList<>();
+    for (int i = 0; i < actualArray.length(); i++) {
+      long key = actualArray.key(i);
+      int valueIndex = indexOf(sortedValues, key);
+      if (valueIndex >= 0 && valueIndex + matchCounts[valueIndex] < sortedValues.length()
+          && sortedValues.key(valueIndex + matchCounts[valueIndex]) == key) {
+        matchCounts[valueIndex]++;
+      } else {
+        unexpected.add(Array.get(actual, i));
+      }
+    }
+    List<Object> missing = new ArrayList<>();
+    for (int i = 0; i < valuesArray.length(); i++) {
+      int valueIndex = indexOf(sortedValues, valuesArray.key(i));
+      if (matchCounts[valueIndex] > 0) matchCounts[valueIndex]--;
+      else missing.add(Array.get(values, i));
+    }
+    return new IterableDiff(unexpected, missing);
+  }
+
+  /**
+   * Returns the elements found more than once in actual, ordered by their second occurrence.
+   */
+  static Set<Object> duplicates(Object actual) {
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray sortedActual = actualArray.sortedCopy();
+    // sorted indices of the first copy of each duplicated element
+    int[] duplicatedIndices = new int[sortedActual.length() / 2];
+    int duplicatedCount = 0;
+    for (int i = 1; i < sortedActual.length(); i++) {
+      if (sortedActual.key(i - 1) == sortedActual.key(i) && isFirstOfItsKey(sortedActual, i - 1)) {
+        duplicatedIndices[duplicatedCount++] = i - 1;
+      }
+    }
+    byte[] occurrences = new byte[duplicatedCount];
+    Set<Object> duplicates = new LinkedHashSet<>();
+    for (int i = 0; i < actualArray.length() && duplicates.size() < duplicatedCount; i++) {
+      int sortedIndex = indexOf(sortedActual, actualArray.key(i));
+      int duplicatedIndex = binarySearch(duplicatedIndices, 0, duplicatedCount, sortedIndex);
+      if (duplicatedIndex < 0 || occurrences[duplicatedIndex] == 2) continue;
+      if (++occurrences[duplicatedIndex] == 2) duplicates.add(Array.get(actual, i));
+    }
+    return duplicates;
+  }
+
+  /**
+   * Returns the index of the first element whose key differs from the value at the same index, -1 if there are none.
+   */
+  static int indexOfFirstDifference(Object actual, Object values) {
+    PrimitiveArray actualArray = primitiveArray(actual);
+    PrimitiveArray valuesArray = primitiveArray(values);
+    int length = Math.min(actualArray.length(), valuesArray.length());
+    for (int i = 0; i < length; i++) {
+      if (actualArray.key(i) != valuesArray.key(i)) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first element greater than the next one, -1 if the array is sorted.
+   */
+  static int indexOfFirstUnsortedElement(Object actual) {
+    PrimitiveArray actualArray = primitiveArray(actual);
+    for (int i = 0; i < actualArray.length() - 1; i++) {
+      if (actualArray.key(i) > actualArray.key(i + 1)) return i;
+    }
+    return -1;
+  }
+
+  // one flag per value, only the flags of the first value of each key are used
+  private static boolean[] foundFlags(PrimitiveArray sortedValues) {
+    return new boolean[sortedValues.length()];
+  }
+
+  private static int countNotFound(PrimitiveArray actual, PrimitiveArray sortedValues, boolean[] found) {
+    int notFoundCount = distinctCount(sortedValues);
+    for (int i = 0; i < actual.length() && notFoundCount > 0; i++) {
+      int valueIndex = indexOf(sortedValues, actual.key(i));
+      if (valueIndex >= 0 && !found[valueIndex]) {
+        found[valueIndex] = true;
+        notFoundCount--;
+      }
+    }
+    return notFoundCount;
+  }
+
+  private static List<Object> valuesFlagged(Object values, PrimitiveArray sortedValues, boolean[] flags,
+                                            boolean flag) {
+    PrimitiveArray valuesArray = primitiveArray(values);
+    List<Object> flaggedValues = new ArrayList<>();
+    for (int i = 0; i < valuesArray.length(); i++) {
+      if (flags[indexOf(sortedValues, valuesArray.key(i))] == flag) flaggedValues.add(Array.get(values, i));
+    }
+    return flaggedValues;
+  }
+
+  private static int distinctCount(PrimitiveArray sorted) {
+    int distinctCount = 0;
+    for (int i = 0; i < sorted.length(); i++) {
+      if (isFirstOfItsKey(sorted, i)) distinctCount++;
+    }
+    return distinctCount;
+  }
+
+  private static boolean isFirstOfItsKey(PrimitiveArray sorted, int index) {
+    return index == 0 || sorted.key(index - 1) != sorted.key(index);
+  }
+
+  // index of the first element having the given key in the sorted array, -1 if there are none
+  private static int indexOf(PrimitiveArray sorted, long key) {
+    int low = 0;
+    int high = sorted.length();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted.key(middle) < key) low = middle + 1;
+      else high = middle;
+    }
+    return low < sorted.length() && sorted.key(low) == key ? low : -1;
+  }
+
+  private static int sizeOf(Object array) {
+    return Array.getLength(array);
+  }
+
+  private static PrimitiveArray primitiveArray(Object array) {
+    if (array instanceof int[]) return new IntArray((int[]) array);
+    if (array instanceof long[]) return new LongArray((long[]) array);
+    if (array instanceof double[]) return new DoubleArray((double[]) array);
+    if (array instanceof float[]) return new FloatArray((float[]) array);
+    if (array instanceof byte[]) return new ByteArray((byte[]) array);
+    if (array instanceof short[]) return new ShortArray((short[]) array);
+    if (array instanceof char[]) return new CharArray((char[]) array);
+    if (array instanceof boolean[]) return new BooleanArray((boolean[]) array);
+    return null;
+  }
+
+  private interface PrimitiveArray {
+
+    int length();
+
+    /**
+     * Returns the key of the element at the given index, two keys are equal if and only if the boxed elements are and
+     * keys are ordered like the boxed elements.
+     */
+    long key(int index);
+
+    /**
+     * Returns a view of a sorted copy of the array, the copy has the same primitive type.
+     */
+    PrimitiveArray sortedCopy();
+  }
+
+  private static final class IntArray implements PrimitiveArray {
+    private final int[] array;
+
+    private IntArray(int[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      int[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new IntArray(sortedCopy);
+    }
+  }
+
+  private static final class LongArray implements PrimitiveArray {
+    private final long[] array;
+
+    private LongArray(long[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      long[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new LongArray(sortedCopy);
+    }
+  }
+
+  private static final class DoubleArray implements PrimitiveArray {
+    private final double[] array;
+
+    private DoubleArray(double[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      // flips the magnitude bits of negative values to order the keys like the values
+      long bits = doubleToLongBits(array[index]);
+      return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      double[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new DoubleArray(sortedCopy);
+    }
+  }
+
+  private static final class FloatArray implements PrimitiveArray {
+    private final float[] array;
+
+    private FloatArray(float[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      // flips the magnitude bits of negative values to order the keys like the values
+      int bits = floatToIntBits(array[index]);
+      return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      float[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new FloatArray(sortedCopy);
+    }
+  }
+
+  private static final class ByteArray implements PrimitiveArray {
+    private final byte[] array;
+
+    private ByteArray(byte[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      byte[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new ByteArray(sortedCopy);
+    }
+  }
+
+  private static final class ShortArray implements PrimitiveArray {
+    private final short[] array;
+
+    private ShortArray(short[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      short[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new ShortArray(sortedCopy);
+    }
+  }
+
+  private static final class CharArray implements PrimitiveArray {
+    private final char[] array;
+
+    private CharArray(char[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      return array[index];
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      char[] sortedCopy = array.clone();
+      sort(sortedCopy);
+      return new CharArray(sortedCopy);
+    }
+  }
+
+  private static final class BooleanArray implements PrimitiveArray {
+    private final boolean[] array;
+
+    private BooleanArray(boolean[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int length() {
+      return array.length;
+    }
+
+    @Override
+    public long key(int index) {
+      return array[index] ? 1 : 0;
+    }
+
+    @Override
+    public PrimitiveArray sortedCopy() {
+      boolean[] sortedCopy = new boolean[array.length];
+      int falseCount = 0;
+      for (boolean element : array) {
+        if (!element) falseCount++;
+      }
+      java.util.Arrays.fill(sortedCopy, falseCount, sortedCopy.length, true);
+      return new BooleanArray(sortedCopy);
+    }
+  }
+}
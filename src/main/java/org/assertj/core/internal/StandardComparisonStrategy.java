@@ -140,9 +140,12 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
    *         empty {@link Iterable} is returned.
    */
-  // overridden to write javadoc.
   @Override
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
+    // subclasses may compare elements differently
+    if (getClass() == StandardComparisonStrategy.class && iterable != null && HashedElements.canIndex(iterable)) {
+      return HashedElements.duplicatesFrom(iterable, HashedElements::keyOf);
+    }
     return super.duplicatesFrom(iterable);
   }
 
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.DoubleComparator;
@@ -51,9 +52,15 @@ public class TypeComparators {
     }
   };
 
+  // marks the classes resolved to no comparator as ConcurrentHashMap does not accept null values
+  private static final Comparator<?> NO_COMPARATOR = (o1, o2) -> 0;
+
   @VisibleForTesting
   Map<Class<?>, Comparator<?>> typeComparators;
 
+  // most relevant comparator of the classes already looked up, invalidated when registered comparators change
+  private final Map<Class<?>, Comparator<?>> resolvedComparators = new ConcurrentHashMap<>();
+
   public static TypeComparators defaultTypeComparators() {
     TypeComparators comparatorByType = new TypeComparators();
     comparatorByType.put(Double.class, DEFAULT_DOUBLE_COMPARATOR);
@@ -77,6 +84,15 @@ public class TypeComparators {
    * @return the most relevant comparator, or {@code null} if no comparator could be found
    */
   public Comparator<?> get(Class<?> clazz) {
+    Comparator<?> comparator = resolvedComparators.get(clazz);
+    if (comparator == null) {
+      comparator = resolve(clazz);
+      resolvedComparators.put(clazz, comparator == null ? NO_COMPARATOR : comparator);
+    }
+    return comparator == NO_COMPARATOR ? null : comparator;
+  }
+
+  private Comparator<?> resolve(Class<?> clazz) {
     Comparator<?> comparator = typeComparators.get(clazz);
     if (comparator == null) {
       for (Class<?> superClass : ClassUtils.getAllSuperclasses(clazz)) {
@@ -106,6 +122,7 @@ public class TypeComparators {
    */
   public <T> void put(Class<T> clazz, Comparator<? super T> comparator) {
     typeComparators.put(clazz, comparator);
+    resolvedComparators.clear();
   }
 
   /**
@@ -120,6 +137,7 @@ public class TypeComparators {
    */
   public void clear() {
     typeComparators.clear();
+    resolvedComparators.clear();
   }
 
   public Stream<Entry<Class<?>, Comparator<?>>> comparatorByTypes() {
@@ -41,6 +41,12 @@ public class BinaryRepresentation extends StandardRepresentation {
     return super.toStringOf(object);
   }
 
+  // only some elements are formatted differently
+  @Override
+  protected boolean appendsContainersElementByElement() {
+    return true;
+  }
+
   protected String toStringOf(Representation representation, String s) {
     return concat("\"", representation.toStringOf(s.toCharArray()), "\"");
   }
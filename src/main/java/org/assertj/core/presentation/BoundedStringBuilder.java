@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * A {@link StringBuilder} like {@link Appendable} that keeps at most a given number of characters, the characters
+ * appended once this budget is exhausted are dropped and the built {@code String} ends with
+ * {@value #TRUNCATION_MARKER}.
+ * <p>
+ * It is used with {@link Representation#appendStringOf(Object, BoundedStringBuilder)} so that representing a huge value
+ * can stop as soon as the budget is exhausted instead of building its complete representation.
+ */
+public final class BoundedStringBuilder implements Appendable {
+
+  public static final String TRUNCATION_MARKER = "...";
+
+  private final StringBuilder builder = new StringBuilder();
+  private final int maxLength;
+  private boolean truncated;
+
+  /**
+   * Creates a new <code>{@link BoundedStringBuilder}</code>.
+   *
+   * @param maxLength the maximum number of characters to keep.
+   * @throws IllegalArgumentException if the given maximum length is negative.
+   */
+  public BoundedStringBuilder(int maxLength) {
+    checkArgument(maxLength >= 0, "The maximum length must be greater or equal to 0 but was %s", maxLength);
+    this.maxLength = maxLength;
+  }
+
+  @Override
+  public BoundedStringBuilder append(CharSequence csq) {
+    CharSequence charSequence = csq == null ? "null" : csq;
+    return append(charSequence, 0, charSequence.length());
+  }
+
+  @Override
+  public BoundedStringBuilder append(CharSequence csq, int start, int end) {
+    if (csq == null) return append("null", start, end);
+    if (truncated || start == end) return this;
+    int remaining = maxLength - builder.length();
+    if (end - start <= remaining) {
+      builder.append(csq, start, end);
+      return this;
+    }
+    int keptEnd = start + remaining;
+    // do not split a surrogate pair
+    if (remaining > 0 && Character.isHighSurrogate(csq.charAt(keptEnd - 1))) keptEnd--;
+    builder.append(csq, start, keptEnd);
+    truncated = true;
+    return this;
+  }
+
+  @Override
+  public BoundedStringBuilder append(char c) {
+    if (truncated) return this;
+    if (builder.length() < maxLength) builder.append(c);
+    else truncated = true;
+    return this;
+  }
+
+  /**
+   * Returns whether some appended characters were dropped, representations should stop appending as soon as it is the
+   * case.
+   *
+   * @return whether some appended characters were dropped.
+   */
+  public boolean isTruncated() {
+    return truncated;
+  }
+
+  /**
+   * Returns the number of characters kept so far.
+   *
+   * @return the number of characters kept so far.
+   */
+  public int length() {
+    return builder.length();
+  }
+
+  /**
+   * Returns the kept characters followed by {@value #TRUNCATION_MARKER} if some appended characters were dropped.
+   *
+   * @return the built {@code String}.
+   */
+  @Override
+  public String toString() {
+    return truncated ? builder + TRUNCATION_MARKER : builder.toString();
+  }
+}
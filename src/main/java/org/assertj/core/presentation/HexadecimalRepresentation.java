@@ -42,6 +42,12 @@ public class HexadecimalRepresentation extends StandardRepresentation {
     return super.toStringOf(object);
   }
 
+  // only some elements are formatted differently
+  @Override
+  protected boolean appendsContainersElementByElement() {
+    return true;
+  }
+
   @Override
   protected String toStringOf(Number number) {
     if (number instanceof Byte) return toStringOf((Byte) number);
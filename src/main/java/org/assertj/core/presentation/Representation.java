@@ -61,4 +61,20 @@ public interface Representation {
    */
   String unambiguousToStringOf(Object object);
 
+  /**
+   * Appends the {@link #toStringOf(Object)} representation of the given object to the given builder, the appended
+   * representation is truncated once the builder has exhausted its budget.
+   * <p>
+   * The default implementation appends the complete {@link #toStringOf(Object)} representation, implementations
+   * representing huge values (like {@link StandardRepresentation} for collections, maps and arrays) should override it
+   * to stop as soon as the builder {@link BoundedStringBuilder#isTruncated() is truncated}.
+   *
+   * @param object the object to represent.
+   * @param builder the builder to append the representation to.
+   * @since 3.16.0
+   */
+  default void appendStringOf(Object object, BoundedStringBuilder builder) {
+    builder.append(toStringOf(object));
+  }
+
 }
@@ -14,6 +14,8 @@ package org.assertj.core.presentation;
 
 import static java.lang.Integer.toHexString;
 import static java.lang.reflect.Array.getLength;
+import static org.assertj.core.configuration.Configuration.MAX_ELEMENTS_FOR_PRINTING;
+import static org.assertj.core.configuration.Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
@@ -31,7 +33,6 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -53,8 +54,8 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.function.Function;
 
-import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationSnapshot;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
@@ -93,11 +94,6 @@ public class StandardRepresentation implements Representation {
   public static final String ELEMENT_SEPARATOR = ",";
   public static final String ELEMENT_SEPARATOR_WITH_NEWLINE = ELEMENT_SEPARATOR + System.lineSeparator();
 
-  private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
-  private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
-
-  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
-
   /**
    * It resets the static defaults for the standard representation.
    * <p>
@@ -108,30 +104,30 @@ public class StandardRepresentation implements Representation {
    * </ul>
    */
   public static void resetDefaults() {
-    maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
-    maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    ConfigurationSnapshot.update(settings -> settings.withMaxElementsForPrinting(MAX_ELEMENTS_FOR_PRINTING)
+                                                     .withMaxLengthForSingleLineDescription(MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION));
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
     ConfigurationProvider.loadRegisteredConfiguration();
     checkArgument(value > 0, "maxLengthForSingleLineDescription must be > 0 but was %s", value);
-    maxLengthForSingleLineDescription = value;
+    ConfigurationSnapshot.update(settings -> settings.withMaxLengthForSingleLineDescription(value));
   }
 
   @VisibleForTesting
   public static int getMaxLengthForSingleLineDescription() {
-    return maxLengthForSingleLineDescription;
+    return ConfigurationSnapshot.current().maxLengthForSingleLineDescription();
   }
 
   public static void setMaxElementsForPrinting(int value) {
     ConfigurationProvider.loadRegisteredConfiguration();
     checkArgument(value >= 1, "maxElementsForPrinting must be >= 1, but was %s", value);
-    maxElementsForPrinting = value;
+    ConfigurationSnapshot.update(settings -> settings.withMaxElementsForPrinting(value));
   }
 
   @VisibleForTesting
   public static int getMaxElementsForPrinting() {
-    return maxElementsForPrinting;
+    return ConfigurationSnapshot.current().maxElementsForPrinting();
   }
 
   /**
@@ -142,14 +138,14 @@ public class StandardRepresentation implements Representation {
    * @param formatter the formatter
    */
   public static <T> void registerFormatterForType(Class<T> type, Function<T, String> formatter) {
-    customFormatterByType.put(type, formatter);
+    ConfigurationSnapshot.update(settings -> settings.withFormatterForType(type, formatter));
   }
 
   /**
    * Clear all formatters registered per type with {@link #registerFormatterForType(Class, Function)}.
    */
   public static void removeAllRegisteredFormatters() {
-    customFormatterByType.clear();
+    ConfigurationSnapshot.update(ConfigurationSnapshot::withoutFormatters);
   }
 
   /**
@@ -197,15 +193,54 @@ public class StandardRepresentation implements Representation {
     return fallbackToStringOf(object);
   }
 
+  /**
+   * Appends the {@link #toStringOf(Object)} representation of the given object to the given builder, collections, maps
+   * and arrays are represented element by element so that representing them stops as soon as the builder is truncated.
+   *
+   * @param object the object to represent.
+   * @param builder the builder to append the representation to.
+   */
+  @Override
+  public void appendStringOf(Object object, BoundedStringBuilder builder) {
+    if (builder.isTruncated()) return;
+    if (object == null || hasCustomFormatterFor(object) || object instanceof Comparator
+        || !appendsContainersElementByElement()) {
+      builder.append(toStringOf(object));
+    } else if (isArray(object)) {
+      if (isObjectArray(object)) appendSmartFormat((Object[]) object, builder);
+      else appendPrimitiveArray(object, builder);
+    } else if (object instanceof Collection<?>) {
+      appendSmartFormat((Collection<?>) object, builder);
+    } else if (object instanceof Map<?, ?>) {
+      appendMap((Map<?, ?>) object, builder);
+    } else {
+      builder.append(toStringOf(object));
+    }
+  }
+
+  /**
+   * Returns whether {@link #appendStringOf(Object, BoundedStringBuilder)} can represent collections, maps and arrays
+   * element by element like this class does, otherwise they are represented with {@link #toStringOf(Object)}.
+   * <p>
+   * Only {@link StandardRepresentation} itself opts in by default as subclasses may format containers their own way,
+   * subclasses that only change how some elements are formatted should override this method to return {@code true}.
+   *
+   * @return whether collections, maps and arrays can be represented element by element.
+   * @since 3.16.0
+   */
+  protected boolean appendsContainersElementByElement() {
+    return getClass() == StandardRepresentation.class;
+  }
+
   @SuppressWarnings("unchecked")
   protected <T> String customFormat(T object) {
     if (object == null) return null;
-    return ((Function<T, String>) customFormatterByType.get(object.getClass())).apply(object);
+    return ((Function<T, String>) ConfigurationSnapshot.current().formatterForType(object.getClass())).apply(object);
   }
 
   protected boolean hasCustomFormatterFor(Object object) {
     if (object == null) return false;
-    return customFormatterByType.containsKey(object.getClass());
+    return ConfigurationSnapshot.current().hasFormatterForType(object.getClass());
   }
 
   @Override
@@ -335,6 +370,7 @@ public class StandardRepresentation implements Representation {
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
     int printedElements = 0;
+    int maxElementsForPrinting = getMaxElementsForPrinting();
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
       if (printedElements == maxElementsForPrinting) {
@@ -350,12 +386,42 @@ public class StandardRepresentation implements Representation {
 
   private static Map<?, ?> toSortedMapIfPossible(Map<?, ?> map) {
     try {
-      return new TreeMap<>(map);
+      // only keep the entries that can be printed and the one telling that some entries were not
+      TreeMap<Object, Object> sortedMap = new TreeMap<>();
+      int maxElementsForPrinting = getMaxElementsForPrinting();
+      for (Entry<?, ?> entry : map.entrySet()) {
+        sortedMap.put(entry.getKey(), entry.getValue());
+        if (sortedMap.size() - 1 > maxElementsForPrinting) sortedMap.pollLastEntry();
+      }
+      return sortedMap;
     } catch (ClassCastException | NullPointerException e) {
       return map;
     }
   }
 
+  private void appendMap(Map<?, ?> map, BoundedStringBuilder builder) {
+    Iterator<? extends Entry<?, ?>> entriesIterator = toSortedMapIfPossible(map).entrySet().iterator();
+    builder.append("{");
+    int maxElementsForPrinting = getMaxElementsForPrinting();
+    for (int printedElements = 0; entriesIterator.hasNext() && !builder.isTruncated(); printedElements++) {
+      Entry<?, ?> entry = entriesIterator.next();
+      if (printedElements == maxElementsForPrinting) {
+        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      appendMapElement(map, entry.getKey(), builder);
+      builder.append('=');
+      appendMapElement(map, entry.getValue(), builder);
+      if (entriesIterator.hasNext()) builder.append(", ");
+    }
+    builder.append("}");
+  }
+
+  private void appendMapElement(Map<?, ?> map, Object o, BoundedStringBuilder builder) {
+    if (o == map) builder.append("(this Map)");
+    else appendStringOf(o, builder);
+  }
+
   private String format(Map<?, ?> map, Object o) {
     return o == map ? "(this Map)" : toStringOf(o);
   }
@@ -440,6 +506,7 @@ public class StandardRepresentation implements Representation {
     StringBuilder desc = new StringBuilder();
     desc.append(DEFAULT_START);
     alreadyFormatted.add(array); // used to avoid infinite recursion when array contains itself
+    int maxElementsForPrinting = getMaxElementsForPrinting();
     int i = 0;
     while (true) {
       Object element = array[i];
@@ -466,6 +533,51 @@ public class StandardRepresentation implements Representation {
     }
   }
 
+  private void appendSmartFormat(Object[] array, BoundedStringBuilder builder) {
+    BoundedStringBuilder singleLineDescription = new BoundedStringBuilder(getMaxLengthForSingleLineDescription());
+    appendFormat(array, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, new HashSet<>(), singleLineDescription);
+    if (doesDescriptionFitOnSingleLine(singleLineDescription)) builder.append(singleLineDescription.toString());
+    else appendFormat(array, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, new HashSet<>(), builder);
+  }
+
+  private void appendFormat(Object[] array, String elementSeparator, String indentation,
+                            Set<Object[]> alreadyFormatted, BoundedStringBuilder builder) {
+    builder.append(DEFAULT_START);
+    alreadyFormatted.add(array); // used to avoid infinite recursion when array contains itself
+    int maxElementsForPrinting = getMaxElementsForPrinting();
+    for (int i = 0; i < array.length && !builder.isTruncated(); i++) {
+      // do not indent first element
+      if (i != 0) builder.append(indentation);
+      if (i == maxElementsForPrinting) {
+        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      Object element = array[i];
+      if (!isArray(element)) appendStringOf(element, builder);
+      else if (isArrayTypePrimitive(element)) appendPrimitiveArray(element, builder);
+      else if (alreadyFormatted.contains(element)) builder.append("(this array)");
+      else appendFormat((Object[]) element, elementSeparator, indentation, alreadyFormatted, builder);
+      if (i != array.length - 1) builder.append(elementSeparator);
+    }
+    alreadyFormatted.remove(array);
+    builder.append(DEFAULT_END);
+  }
+
+  private void appendPrimitiveArray(Object array, BoundedStringBuilder builder) {
+    int size = getLength(array);
+    builder.append(DEFAULT_START);
+    int maxElementsForPrinting = getMaxElementsForPrinting();
+    for (int i = 0; i < size && !builder.isTruncated(); i++) {
+      if (i != 0) builder.append(ELEMENT_SEPARATOR).append(INDENTATION_FOR_SINGLE_LINE);
+      if (i == maxElementsForPrinting) {
+        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      builder.append(toStringOf(Array.get(array, i)));
+    }
+    builder.append(DEFAULT_END);
+  }
+
   protected String formatPrimitiveArray(Object o) {
     if (!isArray(o)) return null;
     if (!isArrayTypePrimitive(o)) throw Arrays.notAnArrayOfPrimitives(o);
@@ -474,6 +586,7 @@ public class StandardRepresentation implements Representation {
     StringBuilder buffer = new StringBuilder();
     buffer.append(DEFAULT_START);
     buffer.append(toStringOf(Array.get(o, 0)));
+    int maxElementsForPrinting = getMaxElementsForPrinting();
     for (int i = 1; i < size; i++) {
       buffer.append(ELEMENT_SEPARATOR)
             .append(INDENTATION_FOR_SINGLE_LINE);
@@ -496,6 +609,7 @@ public class StandardRepresentation implements Representation {
     StringBuilder desc = new StringBuilder(start);
     boolean firstElement = true;
     int printedElements = 0;
+    int maxElementsForPrinting = getMaxElementsForPrinting();
     while (true) {
       Object element = iterator.next();
       // do not indent first element
@@ -538,8 +652,41 @@ public class StandardRepresentation implements Representation {
     return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
   }
 
+  private void appendSmartFormat(Iterable<?> iterable, BoundedStringBuilder builder) {
+    BoundedStringBuilder singleLineDescription = new BoundedStringBuilder(getMaxLengthForSingleLineDescription());
+    appendFormat(iterable, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, singleLineDescription);
+    if (doesDescriptionFitOnSingleLine(singleLineDescription)) builder.append(singleLineDescription.toString());
+    else appendFormat(iterable, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, builder);
+  }
+
+  private void appendFormat(Iterable<?> iterable, String elementSeparator, String indentation,
+                            BoundedStringBuilder builder) {
+    Iterator<?> iterator = iterable.iterator();
+    builder.append(DEFAULT_START);
+    int maxElementsForPrinting = getMaxElementsForPrinting();
+    for (int printedElements = 0; iterator.hasNext() && !builder.isTruncated(); printedElements++) {
+      Object element = iterator.next();
+      // do not indent first element
+      if (printedElements != 0) builder.append(indentation);
+      if (printedElements == maxElementsForPrinting) {
+        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      if (element == iterable) builder.append("(this Collection)");
+      else appendStringOf(element, builder);
+      if (iterator.hasNext()) builder.append(elementSeparator);
+    }
+    builder.append(DEFAULT_END);
+  }
+
+  // the single line description is built with a budget of maxLengthForSingleLineDescription characters
+  private static boolean doesDescriptionFitOnSingleLine(BoundedStringBuilder singleLineDescription) {
+    return !singleLineDescription.isTruncated()
+           && singleLineDescription.length() < getMaxLengthForSingleLineDescription();
+  }
+
   private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() < maxLengthForSingleLineDescription;
+    return singleLineDescription == null || singleLineDescription.length() < getMaxLengthForSingleLineDescription();
   }
 
 }
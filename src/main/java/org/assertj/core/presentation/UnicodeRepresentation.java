@@ -37,6 +37,12 @@ public class UnicodeRepresentation extends StandardRepresentation {
     return super.toStringOf(object);
   }
 
+  // only some elements are formatted differently
+  @Override
+  protected boolean appendsContainersElementByElement() {
+    return true;
+  }
+
   @Override
   protected String toStringOf(Character string) {
     return escapeUnicode(string.toString());
@@ -47,6 +47,11 @@ public class DateUtil {
    */
   private static final DateFormat ISO_DATE_TIME_FORMAT_WITH_MS = newIsoDateTimeWithMsFormat();
 
+  // SimpleDateFormat is not thread safe (sigh), each thread uses its own copy instead of synchronizing on a shared one.
+  private static final ThreadLocal<DateFormat> ISO_DATE_FORMAT_COPY = perThread(ISO_DATE_FORMAT);
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT_COPY = perThread(ISO_DATE_TIME_FORMAT);
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_MS_FORMAT_COPY = perThread(ISO_DATE_TIME_FORMAT_WITH_MS);
+
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
    * @return a {@code yyyy-MM-dd} {@link DateFormat}
@@ -105,32 +110,35 @@ public class DateUtil {
     return dateFormat;
   }
 
+  // copies keep the time zone of the given date format
+  private static ThreadLocal<DateFormat> perThread(DateFormat dateFormat) {
+    return ThreadLocal.withInitial(() -> (DateFormat) dateFormat.clone());
+  }
+
   /**
    * Formats the given date using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br>
-   * Method is synchronized
-   * because SimpleDateFormat is not thread safe (sigh).
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetime(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT.format(date);
+  public static String formatAsDatetime(Date date) {
+    return date == null ? null : ISO_DATE_TIME_FORMAT_COPY.get().format(date);
   }
 
   /**
    * Formats the given date using the ISO 8601 date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss:SSS).<br>
-   * Method
-   * is synchronized because SimpleDateFormat is not thread safe (sigh).
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetimeWithMs(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.format(date);
+  public static String formatAsDatetimeWithMs(Date date) {
+    return date == null ? null : ISO_DATE_TIME_MS_FORMAT_COPY.get().format(date);
   }
 
   /**
@@ -153,9 +161,9 @@ public class DateUtil {
    * @return the corresponding Date or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parse(String dateAsString) {
+  public static Date parse(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_FORMAT_COPY.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -171,9 +179,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetime(String dateAsString) {
+  public static Date parseDatetime(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_COPY.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -190,9 +198,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetimeWithMs(String dateAsString) {
+  public static Date parseDatetimeWithMs(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_MS_FORMAT_COPY.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
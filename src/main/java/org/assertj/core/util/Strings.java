@@ -79,6 +79,8 @@ public final class Strings {
    * @return the formatted string if any args were given
    */
   public static String formatIfArgs(String message, Object... args) {
+    // nothing to format, no need to parse the message
+    if (Arrays.isNullOrEmpty(args) && message != null && message.indexOf('%') < 0) return message;
     return Arrays.isNullOrEmpty(args)
         // here we need to format %n but not other % since we do not have arguments.
         // => we replace all % to %% except if they are followed by a 'n'.
@@ -21,6 +21,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -68,16 +69,11 @@ public final class Throwables {
   }
 
   private static List<StackTraceElement> stackTraceInCurrentThread(String methodToStartFrom) {
-    List<StackTraceElement> filtered = stackTraceInCurrentThread();
-    List<StackTraceElement> toRemove = new ArrayList<>();
-    for (StackTraceElement e : filtered) {
-      if (methodToStartFrom.equals(e.getMethodName())) {
-        break;
-      }
-      toRemove.add(e);
+    List<StackTraceElement> stackTrace = stackTraceInCurrentThread();
+    for (int i = 0; i < stackTrace.size(); i++) {
+      if (methodToStartFrom.equals(stackTrace.get(i).getMethodName())) return stackTrace.subList(i, stackTrace.size());
     }
-    filtered.removeAll(toRemove);
-    return filtered;
+    return new ArrayList<>();
   }
 
   private static List<StackTraceElement> stackTraceInCurrentThread() {
@@ -111,27 +107,33 @@ public final class Throwables {
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    // single pass filtering, removing elements from a list would be quadratic for deep stack traces
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    int filteredLength = 0;
     StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
-      if (element.getClassName().contains(ORG_ASSERTJ)) {
-        filtered.remove(element);
+    for (StackTraceElement element : stackTrace) {
+      String className = element.getClassName();
+      if (className.contains(ORG_ASSERTJ)) {
         // Handle the case when AssertJ builds a ComparisonFailure/AssertionFailedError by reflection
         // (see ShouldBeEqual.newAssertionError method), the stack trace looks like:
         //
         // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
         // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
         //
-        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
+        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ,
+        // it is the last kept element since it is not an AssertJ one.
         if (previous != null && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(previous.getClassName())
-            && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
-          filtered.remove(previous);
+            && className.contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
+          filteredLength--;
         }
+      } else {
+        filtered[filteredLength++] = element;
       }
       previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[filtered.size()]);
-    throwable.setStackTrace(newStackTrace);
+    if (filteredLength == stackTrace.length) return;
+    throwable.setStackTrace(Arrays.copyOf(filtered, filteredLength));
   }
 
   /**
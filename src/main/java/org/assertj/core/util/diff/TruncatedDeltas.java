@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The deltas of a diff that did not compare the texts up to their end or did not report all their differences, it
+ * describes where the diff was truncated.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 3.16.0
+ */
+public class TruncatedDeltas<T> extends AbstractList<Delta<T>> {
+
+  private final List<Delta<T>> deltas;
+  private final String truncation;
+
+  /**
+   * Creates a new <code>{@link TruncatedDeltas}</code>.
+   *
+   * @param deltas the reported deltas.
+   * @param truncation the description of where and why the diff was truncated.
+   */
+  public TruncatedDeltas(List<Delta<T>> deltas, String truncation) {
+    this.deltas = unmodifiableList(deltas);
+    this.truncation = requireNonNull(truncation, "The truncation description should not be null");
+  }
+
+  /**
+   * @return the description of where and why the diff was truncated.
+   */
+  public String getTruncation() {
+    return truncation;
+  }
+
+  @Override
+  public Delta<T> get(int index) {
+    return deltas.get(index);
+  }
+
+  @Override
+  public int size() {
+    return deltas.size();
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the Myers differencing algorithm: instead of keeping every explored path like
+ * {@link MyersDiff}, it looks for the middle snake of the edit graph with a forward and a backward search and recursively
+ * diffs the sequences parts before and after it (see section 4b of the Myers paper).
+ * <p>
+ * The search is given up once the edit distance exceeds the configured maximum, the patch then holds a single coarse
+ * delta replacing everything between the sequences common prefix and suffix, this bounds the time spent diffing
+ * sequences having too many differences to be worth reporting individually.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final int maxEditDistance;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm.
+   *
+   * @param maxEditDistance the edit distance above which a single coarse delta is computed.
+   * @throws IllegalArgumentException if {@code maxEditDistance} is negative.
+   */
+  public LinearSpaceMyersDiff(int maxEditDistance) {
+    checkArgument(maxEditDistance >= 0, "The maximum edit distance must be greater or equal to 0 but was %s",
+                  maxEditDistance);
+    this.maxEditDistance = maxEditDistance;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    Patch<T> patch = new Patch<>();
+    new Differ(original, revised, patch).diff();
+    return patch;
+  }
+
+  private class Differ {
+
+    private final List<T> original;
+    private final List<T> revised;
+    private final Patch<T> patch;
+    // the pending edit, consecutive edits are merged into a single delta
+    private int editOriginalStart = -1;
+    private int editOriginalEnd;
+    private int editRevisedStart;
+    private int editRevisedEnd;
+
+    private Differ(List<T> original, List<T> revised, Patch<T> patch) {
+      this.original = original;
+      this.revised = revised;
+      this.patch = patch;
+    }
+
+    private void diff() {
+      diff(0, original.size(), 0, revised.size(), maxEditDistance);
+      flushEdit();
+    }
+
+    private void diff(int originalStart, int originalEnd, int revisedStart, int revisedEnd, int maxDistance) {
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equal(original.get(originalStart), revised.get(revisedStart))) {
+        originalStart++;
+        revisedStart++;
+      }
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equal(original.get(originalEnd - 1), revised.get(revisedEnd - 1))) {
+        originalEnd--;
+        revisedEnd--;
+      }
+      if (originalStart == originalEnd || revisedStart == revisedEnd) {
+        edit(originalStart, originalEnd, revisedStart, revisedEnd);
+        return;
+      }
+      MiddleSnake middleSnake = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd, maxDistance);
+      if (middleSnake == null) {
+        // too many differences, give up on the detailed diff
+        edit(originalStart, originalEnd, revisedStart, revisedEnd);
+        return;
+      }
+      // the edit distances of the parts before and after the middle snake are less than the whole one
+      diff(originalStart, middleSnake.originalStart, revisedStart, middleSnake.revisedStart, Integer.MAX_VALUE);
+      diff(middleSnake.originalEnd, originalEnd, middleSnake.revisedEnd, revisedEnd, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the middle snake of the edit graph of the given sequences parts, both are expected not to be empty and to
+     * start and end with different elements.
+     *
+     * @return the middle snake or {@code null} if the edit distance is greater than {@code maxDistance}.
+     */
+    private MiddleSnake middleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd,
+                                    int maxDistance) {
+      final int n = originalEnd - originalStart;
+      final int m = revisedEnd - revisedStart;
+      final int delta = n - m;
+      final boolean odd = (delta & 1) != 0;
+      // a path of edit distance D is made of a forward and a backward path of edit distance at most ceil(D/2)
+      final int maxD = (int) Math.min((n + m + 1) / 2, (maxDistance + 1L) / 2);
+      final int offset = maxD + 1;
+      // furthest reaching x on each diagonal, measured from the start for the forward search and from the end for the
+      // backward search
+      final int[] forward = new int[2 * offset + 1];
+      final int[] backward = new int[2 * offset + 1];
+      for (int d = 0; d <= maxD; d++) {
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+              ? forward[offset + k + 1]
+              : forward[offset + k - 1] + 1;
+          int y = x - k;
+          final int snakeStartX = x;
+          final int snakeStartY = y;
+          while (x < n && y < m && equal(original.get(originalStart + x), revised.get(revisedStart + y))) {
+            x++;
+            y++;
+          }
+          forward[offset + k] = x;
+          // the backward diagonal matching the forward diagonal k
+          int c = delta - k;
+          if (odd && c >= -(d - 1) && c <= d - 1 && x + backward[offset + c] >= n) {
+            if (2 * d - 1 > maxDistance) return null;
+            return new MiddleSnake(originalStart + snakeStartX, originalStart + x,
+                                   revisedStart + snakeStartY, revisedStart + y);
+          }
+        }
+        for (int c = -d; c <= d; c += 2) {
+          int x = c == -d || (c != d && backward[offset + c - 1] < backward[offset + c + 1])
+              ? backward[offset + c + 1]
+              : backward[offset + c - 1] + 1;
+          int y = x - c;
+          final int snakeStartX = x;
+          final int snakeStartY = y;
+          while (x < n && y < m
+                 && equal(original.get(originalEnd - 1 - x), revised.get(revisedEnd - 1 - y))) {
+            x++;
+            y++;
+          }
+          backward[offset + c] = x;
+          // the forward diagonal matching the backward diagonal c
+          int k = delta - c;
+          if (!odd && k >= -d && k <= d && x + forward[offset + k] >= n) {
+            if (2 * d > maxDistance) return null;
+            return new MiddleSnake(originalEnd - x, originalEnd - snakeStartX,
+                                   revisedEnd - y, revisedEnd - snakeStartY);
+          }
+        }
+      }
+      return null;
+    }
+
+    private void edit(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      if (originalStart == originalEnd && revisedStart == revisedEnd) return;
+      if (editOriginalStart >= 0 && editOriginalEnd == originalStart && editRevisedEnd == revisedStart) {
+        editOriginalEnd = originalEnd;
+        editRevisedEnd = revisedEnd;
+        return;
+      }
+      flushEdit();
+      editOriginalStart = originalStart;
+      editOriginalEnd = originalEnd;
+      editRevisedStart = revisedStart;
+      editRevisedEnd = revisedEnd;
+    }
+
+    private void flushEdit() {
+      if (editOriginalStart < 0) return;
+      Chunk<T> originalChunk = new Chunk<>(editOriginalStart, copyOfRange(original, editOriginalStart, editOriginalEnd));
+      Chunk<T> revisedChunk = new Chunk<>(editRevisedStart, copyOfRange(revised, editRevisedStart, editRevisedEnd));
+      Delta<T> delta;
+      if (originalChunk.size() == 0) {
+        delta = new InsertDelta<>(originalChunk, revisedChunk);
+      } else if (revisedChunk.size() == 0) {
+        delta = new DeleteDelta<>(originalChunk, revisedChunk);
+      } else {
+        delta = new ChangeDelta<>(originalChunk, revisedChunk);
+      }
+      patch.addDelta(delta);
+      editOriginalStart = -1;
+    }
+  }
+
+  private static class MiddleSnake {
+    private final int originalStart;
+    private final int originalEnd;
+    private final int revisedStart;
+    private final int revisedEnd;
+
+    private MiddleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      this.originalStart = originalStart;
+      this.originalEnd = originalEnd;
+      this.revisedStart = revisedStart;
+      this.revisedEnd = revisedEnd;
+    }
+  }
+
+  private static <T> boolean equal(T original, T revised) {
+    return original.equals(revised);
+  }
+
+  private static <T> List<T> copyOfRange(List<T> list, int fromIndex, int toIndex) {
+    return new ArrayList<>(list.subList(fromIndex, toIndex));
+  }
+}
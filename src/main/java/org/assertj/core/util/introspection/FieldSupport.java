@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationSnapshot;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -49,7 +50,8 @@ public enum FieldSupport {
 
   private static final String SEPARATOR = ".";
 
-  private boolean allowUsingPrivateFields;
+  // only used by EXTRACTION_OF_PUBLIC_FIELD_ONLY, the other instances read and update the configuration snapshot
+  private volatile boolean allowUsingPrivateFields;
 
   /**
    * Returns the instance dedicated to extraction of fields.
@@ -80,6 +82,8 @@ public enum FieldSupport {
 
   @VisibleForTesting
   public boolean isAllowedToUsePrivateFields() {
+    if (this == EXTRACTION) return ConfigurationSnapshot.current().extractingPrivateFieldsEnabled();
+    if (this == COMPARISON) return ConfigurationSnapshot.current().comparingPrivateFieldsEnabled();
     return allowUsingPrivateFields;
   }
 
@@ -91,7 +95,13 @@ public enum FieldSupport {
    */
   public void setAllowUsingPrivateFields(boolean allowUsingPrivateFields) {
     ConfigurationProvider.loadRegisteredConfiguration();
-    this.allowUsingPrivateFields = allowUsingPrivateFields;
+    if (this == EXTRACTION) {
+      ConfigurationSnapshot.update(settings -> settings.withExtractingPrivateFields(allowUsingPrivateFields));
+    } else if (this == COMPARISON) {
+      ConfigurationSnapshot.update(settings -> settings.withComparingPrivateFields(allowUsingPrivateFields));
+    } else {
+      this.allowUsingPrivateFields = allowUsingPrivateFields;
+    }
   }
 
   /**
@@ -205,7 +215,7 @@ public enum FieldSupport {
   @SuppressWarnings("unchecked")
   private <T> T readSimpleField(String fieldName, Class<T> clazz, Object target) {
     try {
-      Object fieldValue = readField(target, fieldName, allowUsingPrivateFields);
+      Object fieldValue = readField(target, fieldName, isAllowedToUsePrivateFields());
       if (clazz.isPrimitive()) {
         switch (clazz.getSimpleName()) {
         case BYTE:
@@ -250,7 +260,7 @@ public enum FieldSupport {
   }
 
   public boolean isAllowedToRead(Field field) {
-    if (allowUsingPrivateFields) return true;
+    if (isAllowedToUsePrivateFields()) return true;
     // only read public field
     return isPublic(field.getModifiers());
   }
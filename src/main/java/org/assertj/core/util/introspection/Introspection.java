@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
 import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.configuration.ConfigurationSnapshot;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -33,8 +34,6 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public final class Introspection {
 
-  private static boolean bareNamePropertyMethods = true;
-
   /**
    * Returns the getter {@link Method} for a property matching the given name in the given object.
    *
@@ -58,19 +57,24 @@ public final class Introspection {
       }
       getter.invoke(target);
     } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target), t);
+      throw propertyNotFoundError(propertyName, target, t);
     }
     return getter;
   }
 
+  // the error reported when the getter of the given property can't be found, can't be accessed or fails
+  static IntrospectionError propertyNotFoundError(String propertyName, Object target, Throwable cause) {
+    return new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target), cause);
+  }
+
   public static void setExtractBareNamePropertyMethods(boolean barenamePropertyMethods) {
     ConfigurationProvider.loadRegisteredConfiguration();
-    bareNamePropertyMethods = barenamePropertyMethods;
+    ConfigurationSnapshot.update(settings -> settings.withBareNamePropertyExtraction(barenamePropertyMethods));
   }
 
   @VisibleForTesting
   public static boolean canIntrospectExtractBareNamePropertyMethods() {
-    return bareNamePropertyMethods;
+    return ConfigurationSnapshot.current().bareNamePropertyExtractionEnabled();
   }
 
   private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
@@ -83,17 +87,21 @@ public final class Introspection {
   }
 
   private static Method findGetter(String propertyName, Object target) {
+    return findGetter(propertyName, target.getClass());
+  }
+
+  static Method findGetter(String propertyName, Class<?> clazz) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, clazz);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods) {
+    if (canIntrospectExtractBareNamePropertyMethods()) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, clazz);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, clazz);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -101,8 +109,7 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers());
   }
 
-  private static Method findMethod(String name, Object target) {
-    Class<?> clazz = target.getClass();
+  private static Method findMethod(String name, Class<?> clazz) {
     // try public methods only
     try {
       return clazz.getMethod(name);
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.assertj.core.util.introspection.Introspection.findGetter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the resolved way to read a property or field of a class, the first lookup of a (class, name) pair walks the
+ * class hierarchy looking for a getter then for a field, the following ones reuse the resolved {@link MethodHandle}.
+ * <p>
+ * Names that can't be read as a property nor as a field are cached too so that the (expensive) lookup is not repeated,
+ * reading them goes through the regular introspection path which reports the appropriate error.
+ * <p>
+ * A cache is only valid for the configuration it was created with (private fields usage and bare name property
+ * methods), {@link #isValidFor(boolean, boolean)} tells whether it must be replaced.
+ */
+final class PropertyOrFieldAccessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  static final MethodHandle UNRESOLVED = null;
+
+  private final boolean allowUsingPrivateFields;
+  private final boolean bareNamePropertyMethods;
+  private final ClassValue<Map<String, Accessor>> accessorsByClass = new ClassValue<Map<String, Accessor>>() {
+    @Override
+    protected Map<String, Accessor> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  PropertyOrFieldAccessors(boolean allowUsingPrivateFields, boolean bareNamePropertyMethods) {
+    this.allowUsingPrivateFields = allowUsingPrivateFields;
+    this.bareNamePropertyMethods = bareNamePropertyMethods;
+  }
+
+  boolean isValidFor(boolean allowUsingPrivateFields, boolean bareNamePropertyMethods) {
+    return this.allowUsingPrivateFields == allowUsingPrivateFields && this.bareNamePropertyMethods == bareNamePropertyMethods;
+  }
+
+  /**
+   * Returns a {@link MethodHandle} of type {@code (Object)Object} reading the given property or field of the instances of
+   * the given class or {@link #UNRESOLVED} if it can't be read as a property nor as a field.
+   *
+   * @param name the property or field name.
+   * @param type the class of the objects to read the property or field from.
+   * @return the resolved accessor or {@link #UNRESOLVED}.
+   */
+  MethodHandle accessorFor(String name, Class<?> type) {
+    Map<String, Accessor> accessors = accessorsByClass.get(type);
+    Accessor accessor = accessors.get(name);
+    if (accessor == null) {
+      accessor = new Accessor(resolve(name, type));
+      accessors.put(name, accessor);
+    }
+    return accessor.handle;
+  }
+
+  private MethodHandle resolve(String name, Class<?> type) {
+    MethodHandle getter = getterHandle(name, type);
+    return getter != UNRESOLVED ? getter : fieldHandle(name, type);
+  }
+
+  // same resolution rules as Introspection.getPropertyGetter
+  private static MethodHandle getterHandle(String name, Class<?> type) {
+    try {
+      Method getter = findGetter(name, type);
+      if (getter == null) return UNRESOLVED;
+      // force access for static class with public getter
+      if (isPublic(getter.getModifiers())) getter.setAccessible(true);
+      return LOOKUP.unreflect(getter).asType(methodType(Object.class, Object.class));
+    } catch (Exception e) {
+      return UNRESOLVED;
+    }
+  }
+
+  // same resolution rules as FieldUtils.readField
+  private MethodHandle fieldHandle(String name, Class<?> type) {
+    try {
+      Field field = FieldUtils.getField(type, name, allowUsingPrivateFields);
+      if (field == null) return UNRESOLVED;
+      MemberUtils.setAccessibleWorkaround(field);
+      MethodHandle fieldGetter = LOOKUP.unreflectGetter(field);
+      // static field getters don't take the target object as parameter
+      if (isStatic(field.getModifiers())) fieldGetter = MethodHandles.dropArguments(fieldGetter, 0, Object.class);
+      return fieldGetter.asType(methodType(Object.class, Object.class));
+    } catch (Exception e) {
+      return UNRESOLVED;
+    }
+  }
+
+  // wraps the handle to be able to cache unresolved accessors in a ConcurrentHashMap
+  private static final class Accessor {
+    private final MethodHandle handle;
+
+    private Accessor(MethodHandle handle) {
+      this.handle = handle;
+    }
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A property or field name (possibly nested like {@code "address.street.number"}) ready to be read from many objects:
+ * the name is split once and each step remembers the accessor it resolved for the last class it has read, reading the
+ * same property from objects of the same class does not look up the accessors again.
+ * <p>
+ * The values read are the same as the ones of {@link PropertyOrFieldSupport#getValueOf(String, Object)}.
+ * <p>
+ * Instances are obtained with {@link PropertyOrFieldSupport#pathOf(String)} and can be shared between threads.
+ *
+ * @since 3.16.0
+ */
+public final class PropertyOrFieldPath {
+
+  private static final String SEPARATOR = ".";
+
+  private final String propertyOrFieldName;
+  private final PropertyOrFieldSupport propertyOrFieldSupport;
+  private final Step[] steps;
+
+  PropertyOrFieldPath(String propertyOrFieldName, PropertyOrFieldSupport propertyOrFieldSupport) {
+    this.propertyOrFieldName = propertyOrFieldName;
+    this.propertyOrFieldSupport = propertyOrFieldSupport;
+    List<Step> names = new ArrayList<>();
+    String remainingNames = propertyOrFieldName;
+    // same split as PropertyOrFieldSupport.getValueOf
+    while (isNested(remainingNames)) {
+      int separatorIndex = remainingNames.indexOf(SEPARATOR);
+      names.add(new Step(remainingNames.substring(0, separatorIndex)));
+      remainingNames = remainingNames.substring(separatorIndex + 1);
+    }
+    names.add(new Step(remainingNames));
+    steps = names.toArray(new Step[0]);
+  }
+
+  /**
+   * Returns the value of this property or field in the given object, {@code null} if one of the intermediate nested
+   * values is {@code null}.
+   *
+   * @param input the object to read the property or field from.
+   * @return the value of this property or field.
+   * @throws IllegalArgumentException if the given object is {@code null}.
+   * @throws IntrospectionError if one of the names can't be read as a property, a field or a map key.
+   */
+  public Object valueOf(Object input) {
+    checkArgument(input != null, "The object to extract property/field from should not be null");
+    PropertyOrFieldAccessors accessors = propertyOrFieldSupport.accessors();
+    Object value = input;
+    for (Step step : steps) {
+      // when one of the intermediate nested property/field value is null, return null
+      if (value == null) return null;
+      value = step.valueOf(value, accessors, propertyOrFieldSupport);
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return propertyOrFieldName;
+  }
+
+  private static boolean isNested(String propertyOrFieldName) {
+    return propertyOrFieldName.contains(SEPARATOR)
+           && !propertyOrFieldName.startsWith(SEPARATOR)
+           && !propertyOrFieldName.endsWith(SEPARATOR);
+  }
+
+  private static final class Step {
+
+    private final String name;
+    // accessor resolved for the last class read, immutable to be shared safely between threads
+    private Resolution lastResolution;
+
+    private Step(String name) {
+      this.name = name;
+    }
+
+    private Object valueOf(Object input, PropertyOrFieldAccessors accessors,
+                           PropertyOrFieldSupport propertyOrFieldSupport) {
+      Class<?> type = input.getClass();
+      Resolution resolution = lastResolution;
+      if (resolution == null || resolution.type != type || resolution.accessors != accessors) {
+        resolution = new Resolution(accessors, type, accessors.accessorFor(name, type));
+        lastResolution = resolution;
+      }
+      return propertyOrFieldSupport.getSimpleValue(name, input, resolution.accessor);
+    }
+  }
+
+  private static final class Resolution {
+
+    private final PropertyOrFieldAccessors accessors;
+    private final Class<?> type;
+    private final MethodHandle accessor;
+
+    private Resolution(PropertyOrFieldAccessors accessors, Class<?> type, MethodHandle accessor) {
+      this.accessors = accessors;
+      this.type = type;
+      this.accessor = accessor;
+    }
+  }
+
+}
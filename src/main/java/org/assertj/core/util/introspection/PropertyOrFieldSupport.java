@@ -14,7 +14,9 @@ package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.PropertyOrFieldAccessors.UNRESOLVED;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Map;
 
 import org.assertj.core.util.VisibleForTesting;
@@ -23,6 +25,7 @@ public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  private volatile PropertyOrFieldAccessors accessors = new PropertyOrFieldAccessors(false, false);
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -61,32 +64,83 @@ public class PropertyOrFieldSupport {
   }
 
   public Object getSimpleValue(String name, Object input) {
+    if (input == null) return introspectSimpleValue(name, input);
+    return getSimpleValue(name, input, accessors().accessorFor(name, input.getClass()));
+  }
+
+  /**
+   * Returns a {@link PropertyOrFieldPath} reading the given property or field (which may be nested) from objects, the
+   * path is split once and resolves the accessors of each class it reads once.
+   *
+   * @param propertyOrFieldName the name of the property or field to read, it may be nested (e.g. "address.street").
+   * @return the path of the given property or field.
+   * @throws IllegalArgumentException if the given name is {@code null} or empty.
+   * @since 3.16.0
+   */
+  public PropertyOrFieldPath pathOf(String propertyOrFieldName) {
+    checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
+    checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
+    return new PropertyOrFieldPath(propertyOrFieldName, this);
+  }
+
+  // input must not be null, accessor is the one resolved for the input class
+  Object getSimpleValue(String name, Object input, MethodHandle accessor) {
+    if (accessor != UNRESOLVED) {
+      try {
+        return accessor.invokeExact(input);
+      } catch (Throwable e) {
+        // only a getter can fail, fall back to the field or map key like introspection does without calling it again
+        return fieldOrMapValue(name, input, Introspection.propertyNotFoundError(name, input, e));
+      }
+    }
+    // neither a property nor a field, try name as a map key
+    if (input instanceof Map) return ((Map<?, ?>) input).get(name);
+    return introspectSimpleValue(name, input);
+  }
+
+  PropertyOrFieldAccessors accessors() {
+    boolean allowUsingPrivateFields = fieldSupport.isAllowedToUsePrivateFields();
+    boolean bareNamePropertyMethods = Introspection.canIntrospectExtractBareNamePropertyMethods();
+    PropertyOrFieldAccessors currentAccessors = accessors;
+    // configuration has changed since the accessors were resolved, they must be resolved again
+    if (!currentAccessors.isValidFor(allowUsingPrivateFields, bareNamePropertyMethods)) {
+      currentAccessors = new PropertyOrFieldAccessors(allowUsingPrivateFields, bareNamePropertyMethods);
+      accessors = currentAccessors;
+    }
+    return currentAccessors;
+  }
+
+  private Object introspectSimpleValue(String name, Object input) {
     // try to get name as a property, then try as a field, then try as a map key
     try {
       return propertySupport.propertyValueOf(name, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
       // no luck as a property, let's try as a field
-      try {
-        return fieldSupport.fieldValue(name, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // neither field nor property found with given name
-
-        // if the input object is a map, try name as a map key
-        if (input instanceof Map) {
-          Map<?, ?> map = (Map<?, ?>) input;
-          return map.get(name);
-        }
-
-        // no value found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                name, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
+      return fieldOrMapValue(name, input, propertyIntrospectionError);
+    }
+  }
+
+  private Object fieldOrMapValue(String name, Object input, IntrospectionError propertyIntrospectionError) {
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // neither field nor property found with given name
+
+      // if the input object is a map, try name as a map key
+      if (input instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) input;
+        return map.get(name);
       }
+
+      // no value found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              name, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
     }
   }
 
@@ -0,0 +1,238 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class Assertions_assertThat_with_Stream_inSinglePass_Test {
+
+  @Test
+  public void should_pass_if_all_checks_pass() {
+    assertThat(IntStream.range(0, 1_000_000)).inSinglePass()
+                                             .allMatch(i -> i >= 0)
+                                             .noneMatch(i -> i < 0)
+                                             .contains(0, 999_999)
+                                             .isSorted()
+                                             .hasSize(1_000_000)
+                                             .verify();
+  }
+
+  @Test
+  public void should_consume_the_stream_once_and_close_it() {
+    // GIVEN
+    AtomicInteger consumedElements = new AtomicInteger();
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Integer> stream = Stream.of(1, 2, 3).peek(i -> consumedElements.incrementAndGet())
+                                   .onClose(() -> closed.set(true));
+    // WHEN
+    assertThat(stream).inSinglePass()
+                      .containsOnly(1, 2, 3)
+                      .isSortedAccordingTo(Integer::compare)
+                      .verify();
+    // THEN
+    then(consumedElements).hasValue(3);
+    then(closed).isTrue();
+  }
+
+  @Test
+  public void should_stop_consuming_the_stream_once_no_check_needs_more_elements() {
+    // GIVEN
+    Stream<Integer> infiniteStream = Stream.iterate(0, i -> i + 1);
+    // WHEN/THEN
+    assertThat(infiniteStream).inSinglePass()
+                              .contains(5, 10)
+                              .verify();
+  }
+
+  @Test
+  public void should_stop_at_the_first_failure() {
+    // GIVEN
+    Stream<Integer> infiniteStream = Stream.iterate(0, i -> i + 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(infiniteStream).inSinglePass()
+                                                                                         .withSampleSize(3)
+                                                                                         .allMatch(i -> i < 5)
+                                                                                         .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting all elements of:%n" +
+                                           "  <Stream starting with [0, 1, 2]>%n" +
+                                           "to match given predicate but this element did not:%n" +
+                                           "  <5>"));
+  }
+
+  @Test
+  public void should_describe_the_whole_stream_when_failing_on_its_last_element() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                                                              .allMatch(i -> i < 3)
+                                                                                              .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting all elements of:%n" +
+                                           "  <[1, 2, 3]>%n" +
+                                           "to match given predicate but this element did not:%n" +
+                                           "  <3>"));
+  }
+
+  @Test
+  public void should_fail_if_stream_has_more_elements_than_expected() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                                                              .hasSize(2)
+                                                                                              .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%nExpected size:<2> but had more elements in:%n<[1, 2, 3]>"));
+  }
+
+  @Test
+  public void should_fail_if_stream_has_less_elements_than_expected() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                                                              .hasSize(4)
+                                                                                              .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%nExpected size:<4> but was:<3> in:%n<[1, 2, 3]>"));
+  }
+
+  @Test
+  public void should_fail_if_stream_contains_unexpected_element() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                                                              .containsOnly(1, 3)
+                                                                                              .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting:%n" +
+                                           "  <Stream starting with [1, 2]>%n" +
+                                           "to contain only:%n" +
+                                           "  <[1, 3]>%n" +
+                                           "but the following elements were unexpected:%n" +
+                                           "  <[2]>%n"));
+  }
+
+  @Test
+  public void should_fail_if_stream_does_not_contain_values() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                                                              .contains(1, 4)
+                                                                                              .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting:%n" +
+                                           " <[1, 2, 3]>%n" +
+                                           "to contain:%n" +
+                                           " <[1, 4]>%n" +
+                                           "but could not find:%n" +
+                                           " <[4]>%n"));
+  }
+
+  @Test
+  public void should_fail_if_stream_is_not_sorted() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 3, 2, 4)).inSinglePass()
+                                                                                                 .isSorted()
+                                                                                                 .verify());
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "group is not sorted because element 1:%n" +
+                                           " <3>%n" +
+                                           "is not less or equal than element 2:%n" +
+                                           " <2>%n" +
+                                           "group was:%n" +
+                                           " <Stream starting with [1, 3, 2]>"));
+  }
+
+  @Test
+  public void should_fail_if_stream_is_null() {
+    // GIVEN
+    Stream<Integer> stream = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(stream).inSinglePass());
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  public void should_report_a_forgotten_verify_when_creating_the_next_single_pass_assertion() {
+    // GIVEN
+    StreamAssert<Integer> unverifiedAssertion = assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                                             .noneMatch(i -> i == 2);
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass());
+    // THEN
+    then(unverifiedAssertion).isNotNull();
+    then(error).isInstanceOf(IllegalStateException.class)
+               .hasMessageContaining("verify() must be called");
+    // reported only once
+    assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                  .hasSize(3)
+                                  .verify();
+  }
+
+  @Test
+  public void should_not_report_a_failed_verify_when_creating_the_next_single_pass_assertion() {
+    // GIVEN
+    expectAssertionError(() -> assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                                             .noneMatch(i -> i == 2)
+                                                             .verify());
+    // WHEN/THEN
+    assertThat(Stream.of(1, 2, 3)).inSinglePass()
+                                  .hasSize(3)
+                                  .verify();
+  }
+
+  @Test
+  public void should_collect_the_verify_errors_of_soft_assertions() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(list(1, 2, 3)).inSinglePass()
+                                    .noneMatch(i -> i == 2)
+                                    .verify();
+    softly.assertThat(list(1, 2, 3)).inSinglePass()
+                                    .hasSize(3)
+                                    .verify();
+    // THEN
+    then(softly.errorsCollected()).hasSize(1);
+    then(softly.errorsCollected().get(0)).hasMessageContaining("Expecting no elements of");
+  }
+
+  @Test
+  public void should_collect_the_verify_errors_of_bdd_soft_assertions() {
+    // GIVEN
+    BDDSoftAssertions softly = new BDDSoftAssertions();
+    // WHEN
+    softly.then(list(1, 2, 3)).inSinglePass()
+                              .hasSize(2)
+                              .verify();
+    softly.then(list(3, 2, 1)).inSinglePass()
+                              .isSorted()
+                              .verify();
+    // THEN
+    then(softly.errorsCollected()).hasSize(2);
+  }
+}
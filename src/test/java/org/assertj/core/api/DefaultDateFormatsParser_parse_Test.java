@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.assertj.core.util.DateUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for <code>{@link DefaultDateFormatsParser#parse(String)}</code>.
+ */
+public class DefaultDateFormatsParser_parse_Test {
+
+  private static final TimeZone PARIS = TimeZone.getTimeZone("Europe/Paris");
+
+  private final DefaultDateFormatsParser parser = new DefaultDateFormatsParser(PARIS);
+
+  @Test
+  public void should_parse_dates_like_the_default_date_formats() throws ParseException {
+    then(parser.parse("2003-04-26T03:01:02.999+02")).isEqualTo(parse(DateUtil.newIsoDateTimeWithMsAndIsoTimeZoneFormat(),
+                                                                     "2003-04-26T03:01:02.999+02"));
+    then(parser.parse("2003-04-26T03:01:02.999")).isEqualTo(parse(DateUtil.newIsoDateTimeWithMsFormat(),
+                                                                  "2003-04-26T03:01:02.999"));
+    then(parser.parse("2003-04-26 03:01:02.999")).isEqualTo(parse(DateUtil.newTimestampDateFormat(),
+                                                                  "2003-04-26 03:01:02.999"));
+    then(parser.parse("2003-04-26T03:01:02Z")).isEqualTo(parse(DateUtil.newIsoDateTimeWithIsoTimeZoneFormat(),
+                                                               "2003-04-26T03:01:02Z"));
+    then(parser.parse("2003-04-26T03:01:02-05:00")).isEqualTo(parse(DateUtil.newIsoDateTimeWithIsoTimeZoneFormat(),
+                                                                    "2003-04-26T03:01:02-05:00"));
+    then(parser.parse("2003-04-26T03:01:02")).isEqualTo(parse(DateUtil.newIsoDateTimeFormat(), "2003-04-26T03:01:02"));
+    then(parser.parse("2003-04-26")).isEqualTo(parse(DateUtil.newIsoDateFormat(), "2003-04-26"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2003-4-26", // single digit month are accepted by the default date formats
+      "2003-04-26T03:01", // parsed as a date by the default date formats
+      "2003-04-26 03:01:02", // parsed as a date by the default date formats
+      "2003-04-26T03:01:02+01:30", // minutes are ignored by the default date formats
+      "2003-04-31",
+      "2003-02-29",
+      "2003-04-26T24:00:00",
+      "2003-04-26T03:01:02.99",
+      "2003-04-26T03:01:02+15",
+      "1500-04-26", // julian calendar
+      "2003-03-30T02:30:00", // gap
+      "2003-10-26T02:30:00", // overlap
+      "" })
+  public void should_let_the_default_date_formats_parse(String dateAsString) {
+    then(parser.parse(dateAsString)).isNull();
+  }
+
+  @Test
+  public void should_return_a_new_date_for_each_parsing() {
+    // GIVEN
+    Date date = parser.parse("2003-04-26");
+    // WHEN
+    date.setTime(0);
+    // THEN
+    then(parser.parse("2003-04-26")).isNotEqualTo(date);
+  }
+
+  private static Date parse(DateFormat dateFormat, String dateAsString) throws ParseException {
+    dateFormat.setTimeZone(PARIS);
+    return dateFormat.parse(dateAsString);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SoftAssertions_stack_trace_filtering_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  public void setup() {
+    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    softly = new SoftAssertions();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(true);
+  }
+
+  @Test
+  public void should_filter_the_stack_trace_of_collected_errors() {
+    // GIVEN
+    softly.assertThat(5).isLessThan(0);
+    softly.assertThat("Frodo").isEqualTo("Sam");
+    // WHEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    // THEN
+    then(errorsCollected).hasSize(2)
+                         .noneMatch(error -> hasStackTraceElementRelatedToAssertJ(error));
+  }
+
+  @Test
+  public void should_keep_the_stack_trace_of_collected_errors_if_filtering_is_disabled() {
+    // GIVEN
+    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    softly.assertThat(5).isLessThan(0);
+    // WHEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    // THEN
+    then(errorsCollected).hasSize(1)
+                         .allMatch(error -> hasStackTraceElementRelatedToAssertJ(error));
+  }
+
+  @Test
+  public void should_filter_the_stack_trace_of_collected_errors_according_to_the_setting_at_failure_time() {
+    // GIVEN
+    softly.assertThat(5).isLessThan(0);
+    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    softly.assertThat("Frodo").isEqualTo("Sam");
+    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    // WHEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    // THEN
+    then(errorsCollected).hasSize(2);
+    then(hasStackTraceElementRelatedToAssertJ(errorsCollected.get(0))).isFalse();
+    then(hasStackTraceElementRelatedToAssertJ(errorsCollected.get(1))).isTrue();
+  }
+
+  @Test
+  public void should_filter_the_stack_trace_of_errors_created_but_not_collected_during_soft_assertions() {
+    // GIVEN
+    AtomicReference<Throwable> nestedError = new AtomicReference<>();
+    // WHEN
+    softly.assertThat("Frodo")
+          .satisfies(name -> nestedError.set(catchThrowable(() -> Assertions.assertThat(name).isEqualTo("Sam"))));
+    // THEN
+    then(softly.errorsCollected()).isEmpty();
+    then(hasStackTraceElementRelatedToAssertJ(nestedError.get())).isFalse();
+  }
+
+  @Test
+  public void should_filter_the_stack_trace_of_errors_thrown_after_soft_assertions() {
+    // GIVEN
+    softly.assertThat(5).isLessThan(0);
+    // WHEN
+    Throwable error = catchThrowable(() -> Assertions.assertThat(5).isLessThan(0));
+    // THEN
+    then(hasStackTraceElementRelatedToAssertJ(error)).isFalse();
+  }
+}
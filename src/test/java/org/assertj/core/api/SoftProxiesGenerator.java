@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isPublic;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+
+/**
+ * Build time generator of the soft assertion proxies of AssertJ assert classes, it is run by the maven build once the
+ * test classes are compiled and writes the proxy classes next to the main classes so that they are shipped in the jar
+ * while the generator itself is not.
+ * <p>
+ * {@link SoftProxies} loads these proxies instead of generating them at runtime, custom assert classes proxies are still
+ * generated at runtime.
+ * <p>
+ * Usage: {@code SoftProxiesGenerator <classes directory>}
+ */
+class SoftProxiesGenerator {
+
+  private static final String ASSERT_CLASSES_PACKAGE = SoftProxiesGenerator.class.getPackage().getName();
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) throw new IllegalArgumentException("Usage: SoftProxiesGenerator <classes directory>");
+    File classesDirectory = new File(args[0]);
+    generateProxyClasses(proxyableAssertClasses(classesDirectory), classesDirectory);
+  }
+
+  static void generateProxyClasses(List<Class<?>> assertClasses, File outputDirectory) throws IOException {
+    // pre-generated proxies are shipped in the jar, they must be loadable by the oldest supported java version and be
+    // the same from one build to another
+    ByteBuddy byteBuddy = new ByteBuddy(ClassFileVersion.JAVA_V8).with(new EnumeratingNamingStrategy("AssertJ$SoftProxies"))
+                                                                 .with(TypeValidation.DISABLED);
+    for (Class<?> assertClass : assertClasses) {
+      DynamicType.Unloaded<?> proxyClass = SoftProxies.proxyDefinition(byteBuddy.subclass(assertClass)
+                                                                                .name(SoftProxies.pregeneratedProxyClassName(assertClass)))
+                                                      .make();
+      // the proxy would need to be initialized after being loaded which SoftProxies does not do for pre-generated proxies
+      if (proxyClass.hasAliveLoadedTypeInitializers())
+        throw new IllegalStateException(String.format("%s soft assertion proxy can't be pre-generated", assertClass.getName()));
+      proxyClass.saveIn(outputDirectory);
+    }
+  }
+
+  // the assert classes that can be proxied are the public concrete AbstractAssert subclasses
+  private static List<Class<?>> proxyableAssertClasses(File classesDirectory) {
+    File assertClassesDirectory = new File(classesDirectory, ASSERT_CLASSES_PACKAGE.replace('.', File.separatorChar));
+    File[] classFiles = assertClassesDirectory.listFiles((directory, name) -> name.endsWith(".class") && !name.contains("$"));
+    if (classFiles == null) throw new IllegalArgumentException(String.format("%s is not a directory", assertClassesDirectory));
+    // the listing order depends on the file system
+    Arrays.sort(classFiles);
+    List<Class<?>> assertClasses = new ArrayList<>();
+    for (File classFile : classFiles) {
+      String className = ASSERT_CLASSES_PACKAGE + "." + classFile.getName().replace(".class", "");
+      Class<?> type = loadClass(className);
+      if (AbstractAssert.class.isAssignableFrom(type) && isProxyable(type.getModifiers())) assertClasses.add(type);
+    }
+    return assertClasses;
+  }
+
+  private static boolean isProxyable(int modifiers) {
+    return isPublic(modifiers) && !isAbstract(modifiers) && !isFinal(modifiers);
+  }
+
+  private static Class<?> loadClass(String className) {
+    try {
+      return Class.forName(className, false, SoftProxiesGenerator.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Names the auxiliary types of a proxy (ex: the method calls delegated to {@link ErrorCollector}) after the proxy name,
+   * a suffix and their rank instead of a random string, so that rebuilding the same assert classes gives the same proxies.
+   */
+  static class EnumeratingNamingStrategy implements AuxiliaryType.NamingStrategy {
+
+    private final String suffix;
+    private final Map<String, Integer> auxiliaryTypesCountByInstrumentedType = new HashMap<>();
+
+    EnumeratingNamingStrategy(String suffix) {
+      this.suffix = suffix;
+    }
+
+    @Override
+    public String name(TypeDescription instrumentedType) {
+      int rank = auxiliaryTypesCountByInstrumentedType.merge(instrumentedType.getName(), 1, Integer::sum);
+      return String.format("%s$%s$%s", instrumentedType.getName(), suffix, rank);
+    }
+
+  }
+
+}
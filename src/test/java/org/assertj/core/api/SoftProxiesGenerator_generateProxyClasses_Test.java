@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SoftProxiesGenerator_generateProxyClasses_Test {
+
+  @TempDir
+  File outputDirectory;
+
+  @Test
+  public void should_write_the_proxy_classes_of_the_given_assert_classes() throws IOException {
+    // WHEN
+    SoftProxiesGenerator.generateProxyClasses(list(StringAssert.class, IterableSizeAssert.class), outputDirectory);
+    // THEN
+    assertThat(new File(outputDirectory, classFileOf(StringAssert.class))).isFile();
+    assertThat(new File(outputDirectory, classFileOf(IterableSizeAssert.class))).isFile();
+  }
+
+  @Test
+  public void should_give_the_same_names_to_the_proxy_classes_generated_twice() throws IOException {
+    // GIVEN
+    File firstOutputDirectory = new File(outputDirectory, "first");
+    File secondOutputDirectory = new File(outputDirectory, "second");
+    SoftProxiesGenerator.generateProxyClasses(list(StringAssert.class), firstOutputDirectory);
+    // WHEN
+    SoftProxiesGenerator.generateProxyClasses(list(StringAssert.class), secondOutputDirectory);
+    // THEN
+    assertThat(classFilesIn(secondOutputDirectory)).isNotEmpty()
+                                                   .isEqualTo(classFilesIn(firstOutputDirectory));
+  }
+
+  private static List<Path> classFilesIn(File directory) throws IOException {
+    try (Stream<Path> files = Files.walk(directory.toPath())) {
+      return files.filter(Files::isRegularFile)
+                  .map(directory.toPath()::relativize)
+                  .sorted()
+                  .collect(Collectors.toList());
+    }
+  }
+
+  private static String classFileOf(Class<?> assertClass) {
+    return SoftProxies.pregeneratedProxyClassName(assertClass).replace('.', File.separatorChar) + ".class";
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The proxies of AssertJ assert classes are generated by the maven build (see {@link SoftProxiesGenerator}) before the
+ * tests are run.
+ */
+public class SoftProxies_pregenerated_proxies_Test {
+
+  @Test
+  public void should_load_the_pregenerated_proxy_of_assertj_assert_classes() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    StringAssert proxy = softly.assertThat("Frodo");
+    // THEN
+    assertThat(proxy.getClass().getName()).isEqualTo(SoftProxies.pregeneratedProxyClassName(StringAssert.class));
+  }
+
+  @Test
+  public void should_generate_the_proxy_of_custom_assert_classes_at_runtime() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    TolkienCharacterAssert proxy = softly.proxy(TolkienCharacterAssert.class, String.class, "Frodo");
+    // THEN
+    assertThat(proxy.getClass().getName()).isNotEqualTo(SoftProxies.pregeneratedProxyClassName(TolkienCharacterAssert.class))
+                                          .startsWith(TolkienCharacterAssert.class.getName());
+  }
+
+  public static class TolkienCharacterAssert extends AbstractStringAssert<TolkienCharacterAssert> {
+
+    public TolkienCharacterAssert(String actual) {
+      super(actual, TolkienCharacterAssert.class);
+    }
+
+  }
+
+}
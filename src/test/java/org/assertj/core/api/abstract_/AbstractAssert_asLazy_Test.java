@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.abstract_;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ConcreteAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractAssert#asLazy(Supplier)}</code>.
+ */
+public class AbstractAssert_asLazy_Test {
+
+  private ConcreteAssert assertions;
+  private AtomicInteger supplierCalls;
+  private Supplier<String> descriptionSupplier;
+
+  @BeforeEach
+  public void setUp() {
+    assertions = new ConcreteAssert(6L);
+    supplierCalls = new AtomicInteger();
+    descriptionSupplier = () -> {
+      supplierCalls.incrementAndGet();
+      return "row 1 col 2";
+    };
+  }
+
+  @Test
+  public void should_set_description() {
+    assertions.asLazy(descriptionSupplier);
+    assertThat(assertions.descriptionText()).isEqualTo("row 1 col 2");
+  }
+
+  @Test
+  public void should_return_this() {
+    assertThat(assertions.asLazy(descriptionSupplier)).isSameAs(assertions);
+  }
+
+  @Test
+  public void should_not_evaluate_description_when_assertion_succeeds() {
+    // WHEN
+    assertThat(6L).asLazy(descriptionSupplier).isEqualTo(6L);
+    // THEN
+    assertThat(supplierCalls).hasValue(0);
+  }
+
+  @Test
+  public void should_evaluate_description_once_when_assertion_fails() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(6L).asLazy(descriptionSupplier).isEqualTo(7L));
+    // THEN
+    assertThat(error).hasMessageStartingWith("[row 1 col 2] ");
+    assertThat(supplierCalls).hasValue(1);
+  }
+
+  @Test
+  public void should_fail_if_description_supplier_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertions.asLazy(null))
+                                    .withMessage("The description supplier should not be null");
+  }
+
+}
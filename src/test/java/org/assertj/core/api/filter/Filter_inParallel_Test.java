@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.filter;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.filter.Filters.filter;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.test.Player;
+import org.assertj.core.test.WithPlayerData;
+import org.junit.jupiter.api.Test;
+
+public class Filter_inParallel_Test extends WithPlayerData {
+
+  @Test
+  public void should_filter_iterable_elements_in_parallel() {
+    // WHEN
+    Iterable<Player> filteredPlayers = filter(players).inParallel()
+                                                      .with("team").in("Los Angeles Lakers", "Chicago Bulls")
+                                                      .and("name.last").notEqualsTo("Johnson")
+                                                      .get();
+    // THEN
+    assertThat(filteredPlayers).containsExactly(jordan, kobe);
+  }
+
+  @Test
+  public void should_keep_elements_order_when_filtering_in_parallel() {
+    // GIVEN
+    List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(toList());
+    Condition<Integer> even = new Condition<>(number -> number % 2 == 0, "even");
+    // WHEN
+    List<Integer> evenNumbers = filter(numbers).inParallel().being(even).get();
+    // THEN
+    assertThat(evenNumbers).hasSize(5_000)
+                           .isSorted();
+  }
+
+}
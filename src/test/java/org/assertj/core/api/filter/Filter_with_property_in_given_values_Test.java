@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.filter.Filters.filter;
 
+import org.assertj.core.test.Name;
 import org.assertj.core.test.Player;
 import org.assertj.core.test.WithPlayerData;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -38,6 +39,16 @@ public class Filter_with_property_in_given_values_Test extends WithPlayerData {
     assertThat(players).hasSize(4);
   }
 
+  @Test
+  public void should_filter_iterable_elements_with_property_in_given_values_of_different_kinds() {
+    Iterable<Player> filteredPlayers = filter(players).with("name").in(null, "Jordan", new Name("Tim", "Duncan"), 23)
+                                                      .get();
+    assertThat(filteredPlayers).containsOnly(duncan);
+
+    filteredPlayers = filter(players).with("pointsPerGame").in(19, 19L, "30").get();
+    assertThat(filteredPlayers).containsOnly(magic, duncan);
+  }
+
   @Test
   public void should_fail_if_property_to_filter_on_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> filter(players).with(null).in("foo", "bar"))
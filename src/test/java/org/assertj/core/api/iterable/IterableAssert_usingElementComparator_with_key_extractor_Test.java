@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.assertj.core.api.AbstractIterableAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIterableAssert#usingElementComparator(Comparator, Function)}</code>.
+ */
+public class IterableAssert_usingElementComparator_with_key_extractor_Test {
+
+  private final List<String> hobbits = list("Frodo", "Sam", "Merry", null);
+
+  @Test
+  public void should_compare_elements_with_the_given_comparator() {
+    assertThat(hobbits).usingElementComparator(String.CASE_INSENSITIVE_ORDER, String::toLowerCase)
+                       .contains("FRODO", "sam")
+                       .containsOnly("sam", "MERRY", "frodo", null)
+                       .containsOnlyOnce("merry")
+                       .containsAnyOf("Pippin", "SAM")
+                       .doesNotContain("Pippin")
+                       .doesNotHaveDuplicates()
+                       .isSubsetOf("FRODO", "SAM", "MERRY", "PIPPIN", null);
+    assertThat(hobbits.toArray(new String[0])).usingElementComparator(nullsFirst(String.CASE_INSENSITIVE_ORDER),
+                                                                      String::toLowerCase)
+                                              .contains("FRODO", "sam")
+                                              .containsOnlyOnce("merry")
+                                              .doesNotContain("Pippin")
+                                              .isSubsetOf("FRODO", "SAM", "MERRY", "PIPPIN", null);
+  }
+
+  @Test
+  public void should_report_duplicates_according_to_the_given_comparator() {
+    // GIVEN
+    List<String> actual = list("Frodo", "FRODO", "Sam");
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).usingElementComparator(String.CASE_INSENSITIVE_ORDER,
+                                                                                     String::toLowerCase)
+                                                             .doesNotHaveDuplicates());
+    // THEN
+    assertThat(error).hasMessageContaining("Found duplicate(s)")
+                     .hasMessageContaining("[\"FRODO\"]");
+  }
+
+  @Test
+  public void should_not_consider_null_elements_equal_to_elements_with_a_null_key() {
+    // GIVEN
+    Function<String, String> nameKey = name -> name.isEmpty() ? null : name.toLowerCase();
+    Comparator<String> comparator = nullsFirst(comparing(nameKey, nullsFirst(naturalOrder())));
+    // THEN
+    assertThat(list("Frodo", "")).usingElementComparator(comparator, nameKey)
+                                 .doesNotContain(null, "Sam", "Merry", "Pippin", "Bilbo", "Gandalf", "Aragorn", "Legolas");
+    assertThat(list("Frodo", "Sam", "Merry", "Pippin", "Bilbo", "Gandalf", "", null)).usingElementComparator(comparator,
+                                                                                                             nameKey)
+                                                                                      .containsOnlyOnce("frodo", "sam",
+                                                                                                        "merry", "pippin",
+                                                                                                        "bilbo", "gandalf",
+                                                                                                        "", null)
+                                                                                      .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_compare_elements_with_the_given_comparator_when_looking_up_many_values() {
+    // GIVEN
+    List<String> fellowship = list("Frodo", "Sam", "Merry", "Pippin", "Gandalf", "Aragorn", "Legolas", "Gimli", "Boromir");
+    // THEN
+    assertThat(fellowship).usingElementComparator(String.CASE_INSENSITIVE_ORDER, String::toLowerCase)
+                          .contains("FRODO", "SAM", "MERRY", "PIPPIN", "GANDALF", "ARAGORN", "LEGOLAS", "GIMLI")
+                          .containsOnlyOnce("frodo", "sam", "merry", "pippin", "gandalf", "aragorn", "legolas", "gimli")
+                          .containsAnyOf("Bilbo", "Elrond", "Galadriel", "Faramir", "Eowyn", "Theoden", "Treebeard", "boromir")
+                          .doesNotContain("Bilbo", "Elrond", "Galadriel", "Faramir", "Eowyn", "Theoden", "Treebeard", "Sauron")
+                          .isSubsetOf("FRODO", "SAM", "MERRY", "PIPPIN", "GANDALF", "ARAGORN", "LEGOLAS", "GIMLI", "BOROMIR");
+  }
+
+  @Test
+  public void should_fail_if_key_extractor_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThat(hobbits).usingElementComparator(String.CASE_INSENSITIVE_ORDER,
+                                                                                                 null))
+                                    .withMessage("The key extractor should not be null");
+  }
+
+}
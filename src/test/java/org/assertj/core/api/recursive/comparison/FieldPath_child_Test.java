@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FieldPath child")
+public class FieldPath_child_Test {
+
+  @Test
+  public void should_return_the_same_path_for_the_same_field() {
+    // GIVEN
+    FieldPath root = FieldPath.root();
+    // WHEN
+    FieldPath street = root.child("address").child("street");
+    // THEN
+    assertThat(root.child("address").child("street")).isSameAs(street);
+  }
+
+  @Test
+  public void should_build_the_path_from_the_parent_path() {
+    // GIVEN
+    FieldPath address = FieldPath.root().child("address");
+    // WHEN
+    FieldPath number = address.child("street").child("number");
+    // THEN
+    assertThat(address.getConcatenatedPath()).isEqualTo("address");
+    assertThat(number.getConcatenatedPath()).isEqualTo("address.street.number");
+    assertThat(number.getFieldName()).isEqualTo("number");
+    assertThat(number.toList()).isEqualTo(list("address", "street", "number"));
+  }
+
+  @Test
+  public void root_should_have_an_empty_path() {
+    // GIVEN
+    FieldPath root = FieldPath.root();
+    // THEN
+    assertThat(root.isRoot()).isTrue();
+    assertThat(root.getConcatenatedPath()).isEmpty();
+    assertThat(root.toList()).isEmpty();
+  }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.internal.objects.data.Person;
+import org.assertj.core.internal.objects.data.PersonDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecursiveComparisonAssert isEqualTo with parallelism")
+public class RecursiveComparisonAssert_isEqualTo_withParallelism_Test {
+
+  @Test
+  public void should_pass_when_object_graphs_are_equal() {
+    // GIVEN
+    List<Person> actual = people(1000);
+    List<PersonDto> expected = peopleDtos(1000);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withParallelism(4)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  public void should_report_the_same_differences_as_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = people(1000);
+    List<PersonDto> expected = peopleDtos(1000);
+    for (int i = 0; i < expected.size(); i += 7) {
+      expected.get(i).name = "changed";
+      expected.get(i).neighbour.home.address.number = -i;
+    }
+    AssertionError sequentialError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                  .isEqualTo(expected));
+    // WHEN
+    AssertionError parallelError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                .withParallelism(4)
+                                                                                .isEqualTo(expected));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  public void should_report_the_same_differences_as_the_sequential_comparison_when_values_are_shared() {
+    // GIVEN
+    List<Person> actual = peopleWithSharedValues(100);
+    List<PersonDto> expected = peopleDtosWithSharedValues(100);
+    for (int i = 0; i < expected.size(); i += 7) {
+      // interned strings and cached boxed ints give the same actual/expected pairs in different places of the graph
+      expected.get(i).name = "Jane";
+      expected.get(i).home.address.number = 2;
+    }
+    AssertionError sequentialError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                  .isEqualTo(expected));
+    for (int run = 0; run < 50; run++) {
+      // WHEN
+      AssertionError parallelError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                  .withParallelism(4)
+                                                                                  .isEqualTo(expected));
+      // THEN
+      then(parallelError).hasMessage(sequentialError.getMessage());
+    }
+  }
+
+  @Test
+  public void should_not_compare_again_sequentially_when_identical_values_are_shared() {
+    // GIVEN
+    Person neighbour = new Person("Jack");
+    List<Person> actual = peopleWithSameNeighbour(1000, neighbour);
+    List<Person> expected = peopleWithSameNeighbour(1000, neighbour);
+    AtomicInteger comparedNames = new AtomicInteger();
+    Comparator<String> nameComparator = (name, otherName) -> {
+      comparedNames.incrementAndGet();
+      return name.compareTo(otherName);
+    };
+    for (int run = 0; run < 50; run++) {
+      comparedNames.set(0);
+      // WHEN
+      assertThat(actual).usingRecursiveComparison()
+                        .withComparatorForType(nameComparator, String.class)
+                        .withParallelism(4)
+                        .isEqualTo(expected);
+      // THEN
+      // a sequential comparison done again after the parallel one would compare the names twice
+      then(comparedNames).hasValue(1000);
+    }
+  }
+
+  @Test
+  public void should_fail_when_parallelism_is_less_than_one() {
+    // GIVEN
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    // WHEN/THEN
+    assertThatIllegalArgumentException().isThrownBy(() -> recursiveComparisonConfiguration.setParallelism(0))
+                                        .withMessage("The parallelism must be greater or equal to 1 but was 0");
+  }
+
+  private static List<Person> people(int count) {
+    List<Person> people = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Person person = new Person("person " + i);
+      person.home.address.number = i;
+      person.neighbour = new Person("neighbour " + i);
+      person.neighbour.home.address.number = i + 1;
+      people.add(person);
+    }
+    return people;
+  }
+
+  // all the people share the same names, address numbers and neighbour, either directly or as their neighbour's neighbour
+  private static List<Person> peopleWithSharedValues(int count) {
+    Person neighbour = new Person("Jack");
+    neighbour.home.address.number = 5;
+    List<Person> people = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Person person = new Person("John");
+      person.home.address.number = 1;
+      if (i % 2 == 0) {
+        person.neighbour = neighbour;
+      } else {
+        person.neighbour = new Person("Joe");
+        person.neighbour.neighbour = neighbour;
+      }
+      people.add(person);
+    }
+    return people;
+  }
+
+  private static List<PersonDto> peopleDtosWithSharedValues(int count) {
+    PersonDto neighbour = new PersonDto("Jack");
+    neighbour.home.address.number = 6;
+    List<PersonDto> people = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      PersonDto person = new PersonDto("John");
+      person.home.address.number = 1;
+      if (i % 2 == 0) {
+        person.neighbour = neighbour;
+      } else {
+        person.neighbour = new PersonDto("Joe");
+        person.neighbour.neighbour = neighbour;
+      }
+      people.add(person);
+    }
+    return people;
+  }
+
+  // names are equal but not identical, the other values are identical: shared neighbour, null dates, cached boxed ints
+  private static List<Person> peopleWithSameNeighbour(int count, Person neighbour) {
+    List<Person> people = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Person person = new Person(new String("person " + i));
+      person.home.address.number = i % 100;
+      person.neighbour = neighbour;
+      people.add(person);
+    }
+    return people;
+  }
+
+  private static List<PersonDto> peopleDtos(int count) {
+    List<PersonDto> people = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      PersonDto person = new PersonDto("person " + i);
+      person.home.address.number = i;
+      person.neighbour = new PersonDto("neighbour " + i);
+      person.neighbour.home.address.number = i + 1;
+      people.add(person);
+    }
+    return people;
+  }
+
+}
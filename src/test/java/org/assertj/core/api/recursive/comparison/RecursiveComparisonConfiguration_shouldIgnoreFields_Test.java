@@ -318,6 +318,20 @@ public class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
     assertThat(ignored).isTrue();
   }
 
+  @Test
+  public void should_honor_fields_to_ignore_registered_after_a_first_evaluation() {
+    // GIVEN
+    DualValue dualValue = dualKeyWithPath("foo", "bar");
+    recursiveComparisonConfiguration.ignoreFields("foo.baz");
+    boolean ignoredBefore = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("foo\\.b.r");
+    // WHEN
+    boolean ignored = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    assertThat(ignoredBefore).isFalse();
+    assertThat(ignored).isTrue();
+  }
+
   static DualValue dualValue(Object value1, Object value2) {
     return new DualValue(randomPath(), value1, value2);
   }
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StructuralFingerprint_of_Test {
+
+  private static final FieldPath PATH = FieldPath.root().child("foo");
+
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  @BeforeEach
+  public void setup() {
+    recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+  }
+
+  @Test
+  public void should_be_the_same_for_objects_of_different_types_with_the_same_fields_values() {
+    // GIVEN
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int lightFingerprint = fingerprint.of(new Light(Color.RED), PATH);
+    int lightDtoFingerprint = fingerprint.of(new LightDto(ColorDto.RED), PATH);
+    // THEN
+    assertThat(lightFingerprint).isEqualTo(lightDtoFingerprint);
+  }
+
+  @Test
+  public void should_differ_for_objects_with_different_fields_values() {
+    // GIVEN
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int redLightFingerprint = fingerprint.of(new Light(Color.RED), PATH);
+    int blueLightFingerprint = fingerprint.of(new Light(Color.BLUE), PATH);
+    // THEN
+    assertThat(redLightFingerprint).isNotEqualTo(blueLightFingerprint);
+  }
+
+  @Test
+  public void should_not_depend_on_ignored_fields() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("foo.color");
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int redLightFingerprint = fingerprint.of(new Light(Color.RED), PATH);
+    int blueLightFingerprint = fingerprint.of(new Light(Color.BLUE), PATH);
+    // THEN
+    assertThat(redLightFingerprint).isEqualTo(blueLightFingerprint);
+  }
+
+  @Test
+  public void should_not_depend_on_fields_compared_with_a_custom_comparator() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForField((c1, c2) -> 0, FieldLocation.fielLocation("foo.color"));
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int redLightFingerprint = fingerprint.of(new Light(Color.RED), PATH);
+    int blueLightFingerprint = fingerprint.of(new Light(Color.BLUE), PATH);
+    // THEN
+    assertThat(redLightFingerprint).isEqualTo(blueLightFingerprint);
+  }
+
+  @Test
+  public void should_not_depend_on_elements_order_when_collection_order_is_ignored() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int fingerprint1 = fingerprint.of(list(new Light(Color.RED), new Light(Color.BLUE)), PATH);
+    int fingerprint2 = fingerprint.of(newLinkedHashSet(new Light(Color.BLUE), new Light(Color.RED)), PATH);
+    // THEN
+    assertThat(fingerprint1).isEqualTo(fingerprint2);
+  }
+
+  @Test
+  public void should_handle_cycles() {
+    // GIVEN
+    Node node = new Node();
+    node.next = node;
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int nodeFingerprint = fingerprint.of(node, PATH);
+    // THEN
+    assertThat(nodeFingerprint).isEqualTo(fingerprint.of(node, PATH));
+  }
+
+  static class Node {
+    Node next;
+  }
+
+}
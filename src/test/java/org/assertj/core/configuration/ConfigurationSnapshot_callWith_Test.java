@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.filter.Filters.filter;
+import static org.assertj.core.configuration.ConfigurationSnapshot.overrideForCurrentThread;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.configuration.ConfigurationSnapshot.ThreadOverride;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ConfigurationSnapshot_callWith_Test {
+
+  @AfterEach
+  public void afterEach() {
+    Configuration.DEFAULT_CONFIGURATION.apply();
+  }
+
+  @Test
+  public void should_run_task_of_another_thread_with_the_given_settings() throws Exception {
+    try (ThreadOverride override = overrideForCurrentThread(settings -> settings.withMaxElementsForPrinting(2))) {
+      // GIVEN
+      ConfigurationSnapshot settings = ConfigurationSnapshot.current();
+      // WHEN
+      CompletableFuture<Integer> maxElementsForPrinting = CompletableFuture.supplyAsync(
+        () -> ConfigurationSnapshot.callWith(settings, () -> ConfigurationSnapshot.current().maxElementsForPrinting()));
+      // THEN
+      assertThat(maxElementsForPrinting.get()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  public void should_filter_in_parallel_with_the_settings_of_the_current_thread() {
+    // GIVEN
+    Assertions.setAllowExtractingPrivateFields(false);
+    List<PrivateValue> values = privateValues(10_000);
+    try (ThreadOverride override = overrideForCurrentThread(settings -> settings.withExtractingPrivateFields(true))) {
+      // WHEN
+      List<PrivateValue> filteredValues = filter(values).inParallel().with("value").notEqualsTo(-1).get();
+      // THEN
+      assertThat(filteredValues).hasSameSizeAs(values);
+    }
+  }
+
+  @Test
+  public void should_compare_recursively_in_parallel_with_the_settings_of_the_current_thread() {
+    // GIVEN
+    Assertions.setAllowComparingPrivateFields(false);
+    List<PrivateValue> actual = privateValues(1_000);
+    List<PrivateValue> expected = privateValues(1_000);
+    expected.set(500, new PrivateValue(-1));
+    try (ThreadOverride override = overrideForCurrentThread(settings -> settings.withComparingPrivateFields(true))) {
+      AssertionError sequentialError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                  .isEqualTo(expected));
+      // WHEN
+      AssertionError parallelError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                .withParallelism(4)
+                                                                                .isEqualTo(expected));
+      // THEN
+      assertThat(parallelError).hasMessage(sequentialError.getMessage());
+    }
+  }
+
+  private static List<PrivateValue> privateValues(int count) {
+    return IntStream.range(0, count).mapToObj(PrivateValue::new).collect(toList());
+  }
+
+  private static class PrivateValue {
+    private final int value;
+
+    private PrivateValue(int value) {
+      this.value = value;
+    }
+  }
+
+}
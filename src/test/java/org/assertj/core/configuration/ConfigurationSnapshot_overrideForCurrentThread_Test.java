@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.configuration.ConfigurationSnapshot.overrideForCurrentThread;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.configuration.ConfigurationSnapshot.ThreadOverride;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ConfigurationSnapshot_overrideForCurrentThread_Test {
+
+  @AfterEach
+  public void afterEach() {
+    Configuration.DEFAULT_CONFIGURATION.apply();
+  }
+
+  @Test
+  public void should_only_apply_to_the_current_thread() throws Exception {
+    // GIVEN
+    ThreadOverride override = overrideForCurrentThread(settings -> settings.withMaxElementsForPrinting(2));
+    try {
+      // WHEN
+      int otherThreadMaxElementsForPrinting = CompletableFuture.supplyAsync(StandardRepresentation::getMaxElementsForPrinting)
+                                                               .get();
+      // THEN
+      assertThat(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(2);
+      assertThat(otherThreadMaxElementsForPrinting).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    } finally {
+      override.close();
+    }
+    assertThat(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+  }
+
+  @Test
+  public void should_discard_the_settings_changed_while_overridden_when_closed() {
+    // GIVEN
+    ConfigurationSnapshot global = ConfigurationSnapshot.global();
+    try (ThreadOverride override = overrideForCurrentThread(settings -> settings)) {
+      // WHEN
+      Assertions.setMaxLengthForSingleLineDescription(10);
+      Assertions.setRemoveAssertJRelatedElementsFromStackTrace(false);
+      // THEN
+      assertThat(ConfigurationSnapshot.current().maxLengthForSingleLineDescription()).isEqualTo(10);
+      assertThat(ConfigurationSnapshot.current().removeAssertJRelatedElementsFromStackTraceEnabled()).isFalse();
+      assertThat(ConfigurationSnapshot.global()).isSameAs(global);
+    }
+    assertThat(ConfigurationSnapshot.current()).isSameAs(global);
+  }
+
+  @Test
+  public void should_restore_the_enclosing_override_when_closed() {
+    try (ThreadOverride outer = overrideForCurrentThread(settings -> settings.withMaxElementsForPrinting(5))) {
+      try (ThreadOverride inner = overrideForCurrentThread(settings -> settings.withComparingPrivateFields(false))) {
+        assertThat(ConfigurationSnapshot.current().maxElementsForPrinting()).isEqualTo(5);
+        assertThat(ConfigurationSnapshot.current().comparingPrivateFieldsEnabled()).isFalse();
+      }
+      assertThat(ConfigurationSnapshot.current().maxElementsForPrinting()).isEqualTo(5);
+      assertThat(ConfigurationSnapshot.current().comparingPrivateFieldsEnabled()).isTrue();
+    }
+  }
+
+  @Test
+  public void should_fail_to_be_closed_by_another_thread() throws Exception {
+    // GIVEN
+    try (ThreadOverride override = overrideForCurrentThread(settings -> settings.withMaxElementsForPrinting(5))) {
+      // WHEN
+      Throwable thrown = CompletableFuture.runAsync(override::close)
+                                          .handle((result, error) -> error.getCause())
+                                          .get();
+      // THEN
+      assertThatIllegalStateException().isThrownBy(() -> { throw thrown; })
+                                       .withMessage("A settings override must be closed by the thread that created it");
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.configuration.ConfigurationSnapshot.DEFAULT_SNAPSHOT;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class ConfigurationSnapshot_with_Test {
+
+  @Test
+  public void should_return_a_new_snapshot_and_leave_the_original_one_unchanged() {
+    // WHEN
+    ConfigurationSnapshot snapshot = DEFAULT_SNAPSHOT.withMaxElementsForPrinting(10)
+                                                     .withMaxLengthForSingleLineDescription(20)
+                                                     .withBareNamePropertyExtraction(false)
+                                                     .withExtractingPrivateFields(false)
+                                                     .withComparingPrivateFields(false)
+                                                     .withRemoveAssertJRelatedElementsFromStackTrace(false);
+    // THEN
+    assertThat(snapshot.maxElementsForPrinting()).isEqualTo(10);
+    assertThat(snapshot.maxLengthForSingleLineDescription()).isEqualTo(20);
+    assertThat(snapshot.bareNamePropertyExtractionEnabled()).isFalse();
+    assertThat(snapshot.extractingPrivateFieldsEnabled()).isFalse();
+    assertThat(snapshot.comparingPrivateFieldsEnabled()).isFalse();
+    assertThat(snapshot.removeAssertJRelatedElementsFromStackTraceEnabled()).isFalse();
+    assertThat(DEFAULT_SNAPSHOT.maxElementsForPrinting()).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING);
+    assertThat(DEFAULT_SNAPSHOT.maxLengthForSingleLineDescription()).isEqualTo(Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION);
+    assertThat(DEFAULT_SNAPSHOT.bareNamePropertyExtractionEnabled()).isTrue();
+    assertThat(DEFAULT_SNAPSHOT.extractingPrivateFieldsEnabled()).isTrue();
+    assertThat(DEFAULT_SNAPSHOT.comparingPrivateFieldsEnabled()).isTrue();
+    assertThat(DEFAULT_SNAPSHOT.removeAssertJRelatedElementsFromStackTraceEnabled()).isTrue();
+  }
+
+  @Test
+  public void should_not_share_formatters_with_the_original_snapshot() {
+    // GIVEN
+    Function<Integer, String> formatter = i -> "#" + i;
+    // WHEN
+    ConfigurationSnapshot snapshot = DEFAULT_SNAPSHOT.withFormatterForType(Integer.class, formatter);
+    // THEN
+    assertThat(snapshot.formatterForType(Integer.class)).isSameAs(formatter);
+    assertThat(snapshot.withoutFormatters().hasFormatterForType(Integer.class)).isFalse();
+    assertThat(DEFAULT_SNAPSHOT.hasFormatterForType(Integer.class)).isFalse();
+  }
+
+  @Test
+  public void should_fail_if_max_elements_for_printing_is_less_than_one() {
+    assertThatIllegalArgumentException().isThrownBy(() -> DEFAULT_SNAPSHOT.withMaxElementsForPrinting(0))
+                                        .withMessage("maxElementsForPrinting must be >= 1, but was 0");
+  }
+
+  @Test
+  public void should_fail_if_max_length_for_single_line_description_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> DEFAULT_SNAPSHOT.withMaxLengthForSingleLineDescription(0))
+                                        .withMessage("maxLengthForSingleLineDescription must be > 0 but was 0");
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.description;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link LazyTextDescription#value()}</code>.
+ */
+public class LazyTextDescription_value_Test {
+
+  @Test
+  public void should_return_supplied_value_computed_once() {
+    // GIVEN
+    AtomicInteger supplierCalls = new AtomicInteger();
+    LazyTextDescription description = new LazyTextDescription(() -> "Robin " + supplierCalls.incrementAndGet());
+    // WHEN
+    String value = description.value();
+    // THEN
+    assertThat(value).isEqualTo("Robin 1");
+    assertThat(description.value()).isEqualTo("Robin 1");
+    assertThat(description).hasToString("Robin 1");
+  }
+
+  @Test
+  public void should_return_empty_value_if_supplied_value_is_null() {
+    LazyTextDescription description = new LazyTextDescription(() -> null);
+    assertThat(description.value()).isEmpty();
+  }
+}
@@ -42,4 +42,21 @@ public class TextDescription_value_Test {
     TextDescription description = new TextDescription("{} Robin %s", "Hood");
     assertThat(description.value()).isEqualTo("{} Robin Hood");
   }
+
+  @Test
+  public void should_not_format_value_before_it_is_read() {
+    // GIVEN
+    StringBuilder name = new StringBuilder("Robin");
+    TextDescription description = new TextDescription("%s Hood", name);
+    // WHEN
+    name.append(" of Locksley");
+    // THEN
+    assertThat(description.value()).isEqualTo("Robin of Locksley Hood");
+  }
+
+  @Test
+  public void should_not_interpret_percent_when_no_args_are_given() {
+    TextDescription description = new TextDescription("100%% %s%nRobin");
+    assertThat(description.value()).isEqualTo("100%% %s" + System.lineSeparator() + "Robin");
+  }
 }
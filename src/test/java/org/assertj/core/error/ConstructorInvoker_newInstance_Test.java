@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -39,4 +40,34 @@ public class ConstructorInvoker_newInstance_Test {
     then(o).isInstanceOf(Exception.class);
     then((Exception) o).hasMessage("Hi");
   }
+
+  @Test
+  public void should_use_the_constructor_matching_the_given_parameter_types() throws Exception {
+    // GIVEN
+    invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, new Object[] { "Hi" });
+    Throwable cause = new Throwable();
+    // WHEN
+    Object o = invoker.newInstance("java.lang.Exception", new Class<?>[] { Throwable.class }, new Object[] { cause });
+    // THEN
+    then((Exception) o).hasCause(cause);
+  }
+
+  @Test
+  public void should_fail_if_class_cannot_be_found() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("org.assertj.core.error.Unknown", new Class<?>[0]));
+    // THEN
+    then(thrown).isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  public void should_look_up_an_unknown_class_only_once() {
+    // GIVEN
+    Throwable firstFailure = catchThrowable(() -> invoker.newInstance("org.assertj.core.error.NotThere", new Class<?>[0]));
+    // WHEN
+    Throwable secondFailure = catchThrowable(() -> new ConstructorInvoker().newInstance("org.assertj.core.error.NotThere",
+                                                                                        new Class<?>[0]));
+    // THEN
+    then(secondFailure).isSameAs(firstFailure);
+  }
 }
@@ -68,6 +68,40 @@ public class MessageFormatter_format_Test {
     verify(descriptionFormatter).format(description);
   }
 
+  @Test
+  public void should_truncate_arguments_exceeding_the_maximum_length_for_arguments() {
+    // GIVEN
+    messageFormatter.maxLengthForArguments = 10;
+    // WHEN
+    String s = messageFormatter.format(null, STANDARD_REPRESENTATION, "%s and %s and %s", "Luke", "Yoda", "Leia");
+    // THEN
+    then(s).isEqualTo("\"Lu... and \"Yo... and \"Lei...");
+  }
+
+  @Test
+  public void should_give_the_length_not_used_by_small_arguments_to_the_truncated_ones() {
+    // GIVEN
+    messageFormatter.maxLengthForArguments = 20;
+    String actual = "a very long value";
+    String expected = "Yoda";
+    // WHEN
+    String s = messageFormatter.format(null, STANDARD_REPRESENTATION, "%s but was %s", expected, actual);
+    // THEN
+    then(s).isEqualTo("\"Yoda\" but was \"a very long v...");
+  }
+
+  @Test
+  public void should_represent_small_arguments_in_full_when_another_argument_exceeds_the_maximum_length_for_arguments() {
+    // GIVEN
+    messageFormatter.maxLengthForArguments = 20;
+    String actual = "a very long value";
+    String expected = "Yoda";
+    // WHEN
+    String s = messageFormatter.format(null, STANDARD_REPRESENTATION, "%s and %s", actual, expected);
+    // THEN
+    then(s).isEqualTo("\"a very long v... and \"Yoda\"");
+  }
+
   @ParameterizedTest
   @MethodSource("messages")
   public void should_format_message_and_correctly_escape_percentage(String input, String formatted) {
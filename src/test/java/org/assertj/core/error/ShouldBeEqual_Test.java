@@ -15,8 +15,11 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.description.TextDescription;
 import org.assertj.core.util.CaseInsensitiveStringComparator;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
@@ -44,4 +47,41 @@ public class ShouldBeEqual_Test {
                                   "but was not."));
   }
 
+  @Test
+  public void should_represent_actual_and_expected_once() {
+    // GIVEN
+    ToStringCounter actual = new ToStringCounter("Luke");
+    ToStringCounter expected = new ToStringCounter("Yoda");
+    ShouldBeEqual shouldBeEqual = (ShouldBeEqual) shouldBeEqual(actual, expected, STANDARD_REPRESENTATION);
+    // do not create an AssertionFailedError as it also calls toString
+    shouldBeEqual.constructorInvoker = new ConstructorInvoker() {
+      @Override
+      public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) {
+        return null;
+      }
+    };
+    // WHEN
+    AssertionError error = shouldBeEqual.newAssertionError(new TextDescription("Jedi"), STANDARD_REPRESENTATION);
+    // THEN
+    then(error).hasMessage(format("[Jedi] %nExpecting:%n <Luke>%nto be equal to:%n <Yoda>%nbut was not."));
+    then(actual.toStringCalls).isEqualTo(1);
+    then(expected.toStringCalls).isEqualTo(1);
+  }
+
+  private static class ToStringCounter {
+
+    private final String name;
+    private int toStringCalls;
+
+    private ToStringCounter(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls++;
+      return name;
+    }
+  }
+
 }
@@ -16,11 +16,17 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.util.Lists.list;
 
 import java.io.ByteArrayInputStream;
+import java.util.List;
 
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.TruncatedDeltas;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -55,4 +61,20 @@ public class ShouldHaveSameContent_create_Test {
     then(factory.create(new TextDescription("Test"), new StandardRepresentation())).isEqualTo(expectedErrorMessage);
   }
 
+  @Test
+  public void should_create_error_message_describing_where_the_diff_was_truncated() {
+    // GIVEN
+    Delta<String> delta = new DeleteDelta<>(new Chunk<>(2, list("line2")), new Chunk<>(2, emptyList()));
+    List<Delta<String>> diffs = new TruncatedDeltas<>(list(delta), "The diff was truncated.");
+    ErrorMessageFactory factory = shouldHaveSameContent(new FakeFile("abc"), new FakeFile("xyz"), diffs);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %nFile:%n  <abc>%nand file:%n  <xyz>%ndo not have same content:%n%n"
+                                   + "Missing content at line 3:%n"
+                                   + "  [\"line2\"]%n"
+                                   + "%n"
+                                   + "The diff was truncated."));
+  }
+
 }
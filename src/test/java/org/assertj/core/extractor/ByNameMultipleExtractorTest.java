@@ -15,6 +15,7 @@ package org.assertj.core.extractor;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,16 @@ public class ByNameMultipleExtractorTest {
 	assertThat(extractedValues).isEqualTo(tuple(1L, "Yoda", 800));
   }
 
+  @Test
+  public void should_extract_values_into_the_given_list_without_tuples() {
+	ByNameMultipleExtractor<Employee> extractor = new ByNameMultipleExtractor<>("id", "name.first", "age");
+	List<Object> values = new ArrayList<>();
+
+	extractor.extractValuesInto(yoda, values);
+	extractor.extractValuesInto(new Employee(2L, new Name("Luke"), 26), values);
+	assertThat(values).containsExactly(1L, "Yoda", 800, 2L, "Luke", 26);
+  }
+
   @Test
   public void should_throw_error_when_no_property_nor_public_field_match_one_of_given_names() {
 	assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> new ByNameMultipleExtractor<Employee>("id", "name.first", "unknown").apply(yoda));
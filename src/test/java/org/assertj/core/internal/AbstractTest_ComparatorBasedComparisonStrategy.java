@@ -24,5 +24,7 @@ public class AbstractTest_ComparatorBasedComparisonStrategy {
       caseInsensitiveStringComparator);
   protected ComparatorBasedComparisonStrategy describedComparisonStrategy = new ComparatorBasedComparisonStrategy(
     caseInsensitiveStringComparator, "Case-insensitive comparator for String class");
+  protected ComparatorBasedComparisonStrategy keyedCaseInsensitiveComparisonStrategy = new ComparatorBasedComparisonStrategy(
+    caseInsensitiveStringComparator, null, (String s) -> s.toLowerCase());
 
 }
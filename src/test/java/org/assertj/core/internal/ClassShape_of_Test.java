@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class ClassShape_of_Test {
+
+  @Test
+  public void should_return_the_same_shape_for_a_class() {
+    assertThat(ClassShape.of(Child.class)).isSameAs(ClassShape.of(Child.class));
+  }
+
+  @Test
+  public void should_list_class_fields_first_then_inherited_ones_ignoring_static_fields() {
+    // WHEN
+    ClassShape shape = ClassShape.of(Child.class);
+    // THEN
+    assertThat(shape.getFieldsNames()).containsExactly("name", "age", "id");
+    assertThat(shape.getFields()).hasSize(4);
+    assertThat(shape.getField("name").getDeclaringClass()).isEqualTo(Child.class);
+    assertThat(shape.getField("id").getDeclaringClass()).isEqualTo(Parent.class);
+    assertThat(shape.getField("CONSTANT")).isNull();
+  }
+
+  @Test
+  public void should_detect_overridden_equals_and_hashCode_in_superclasses() {
+    assertThat(ClassShape.of(Child.class).hasOverriddenEquals()).isTrue();
+    assertThat(ClassShape.of(Child.class).hasOverriddenHashCode()).isTrue();
+    assertThat(ClassShape.of(Object.class).hasOverriddenEquals()).isFalse();
+    assertThat(ClassShape.of(Object.class).hasOverriddenHashCode()).isFalse();
+  }
+
+  @Test
+  public void should_classify_classes() {
+    assertThat(ClassShape.of(ArrayList.class).isContainer()).isTrue();
+    assertThat(ClassShape.of(ArrayList.class).isOrderedCollection()).isTrue();
+    assertThat(ClassShape.of(TreeSet.class).isOrderedCollection()).isTrue();
+    assertThat(ClassShape.of(HashSet.class).isOrderedCollection()).isFalse();
+    assertThat(ClassShape.of(Optional.class).isContainer()).isTrue();
+    assertThat(ClassShape.of(int[].class).isArray()).isTrue();
+    assertThat(ClassShape.of(int[].class).isContainer()).isTrue();
+    assertThat(ClassShape.of(Color.class).isEnum()).isTrue();
+    assertThat(ClassShape.of(Child.class).isContainer()).isFalse();
+  }
+
+  @Test
+  public void should_fail_if_class_is_null() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> ClassShape.of(null));
+    // THEN
+    assertThat(throwable).isInstanceOf(NullPointerException.class)
+                         .hasMessage("expecting Class parameter not to be null");
+  }
+
+  private enum Color {
+    RED
+  }
+
+  private static class Parent {
+    static final String CONSTANT = "constant";
+    int id;
+    String name;
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Parent && ((Parent) obj).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+  }
+
+  private static class Child extends Parent {
+    String name;
+    int age;
+  }
+}
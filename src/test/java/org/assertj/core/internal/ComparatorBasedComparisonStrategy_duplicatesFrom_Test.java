@@ -39,6 +39,13 @@ public class ComparatorBasedComparisonStrategy_duplicatesFrom_Test extends Abstr
     assertThat(caseInsensitiveComparisonStrategy.iterableContains(duplicates, null)).isTrue();
   }
 
+  @Test
+  public void should_return_existing_duplicates_using_the_key_extractor() {
+    Iterable<Object> duplicates = (Iterable<Object>) keyedCaseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList("Merry", "Frodo", "Merry",
+        "Sam", "FrODO", null, null));
+    assertThat(duplicates).containsExactly("Merry", "FrODO", null);
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = caseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
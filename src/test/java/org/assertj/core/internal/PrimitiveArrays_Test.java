@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.DoubleArrays.arrayOf;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class for testing <code>{@link PrimitiveArrays}</code>
+ */
+public class PrimitiveArrays_Test {
+
+  @Test
+  public void should_compare_doubles_like_their_boxed_values() {
+    // GIVEN
+    double[] actual = arrayOf(Double.NaN, 0.0, 1.0);
+    // THEN
+    assertThat(PrimitiveArrays.contains(actual, arrayOf(Double.NaN))).isTrue();
+    assertThat(PrimitiveArrays.containsOnly(actual, arrayOf(1.0, Double.NaN, 0.0))).isTrue();
+    assertThat(PrimitiveArrays.contains(actual, arrayOf(-0.0))).isFalse();
+    assertThat(PrimitiveArrays.doesNotContain(actual, arrayOf(-0.0))).isTrue();
+  }
+
+  @Test
+  public void should_order_doubles_like_their_boxed_values() {
+    assertThat(PrimitiveArrays.isSorted(arrayOf(-0.0, 0.0, 1.0, Double.NaN))).isTrue();
+    assertThat(PrimitiveArrays.isSorted(arrayOf(0.0, -0.0))).isFalse();
+  }
+
+  @Test
+  public void should_not_check_arrays_of_different_types() {
+    assertThat(PrimitiveArrays.contains(new int[] { 1, 2 }, new long[] { 1L })).isFalse();
+    assertThat(PrimitiveArrays.containsExactly(new Object[] { 1 }, new Object[] { 1 })).isFalse();
+  }
+
+  @Test
+  public void should_check_large_arrays() {
+    // GIVEN
+    int[] actual = new int[1_000_000];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = i % 1000;
+    }
+    int[] values = new int[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = values.length - 1 - i;
+    }
+    // THEN
+    assertThat(PrimitiveArrays.containsOnly(actual, values)).isTrue();
+    assertThat(PrimitiveArrays.containsSubsequence(actual, new int[] { 999, 0, 999 })).isTrue();
+    assertThat(PrimitiveArrays.containsSequence(actual, new int[] { 999, 0, 1 })).isTrue();
+    assertThat(PrimitiveArrays.containsOnlyOnce(actual, new int[] { 1 })).isFalse();
+    assertThat(PrimitiveArrays.doesNotHaveDuplicates(actual)).isFalse();
+    assertThat(PrimitiveArrays.doesNotHaveDuplicates(values)).isTrue();
+    assertThat(PrimitiveArrays.isSorted(actual)).isFalse();
+  }
+
+  @Test
+  public void should_compare_elements_in_any_order_with_their_multiplicity() {
+    assertThat(PrimitiveArrays.containsExactlyInAnyOrder(new char[] { 'a', 'b', 'a' },
+                                                         new char[] { 'b', 'a', 'a' })).isTrue();
+    assertThat(PrimitiveArrays.containsExactlyInAnyOrder(new char[] { 'a', 'b', 'b' },
+                                                         new char[] { 'b', 'a', 'a' })).isFalse();
+  }
+
+  @Test
+  public void should_compute_failure_details_like_the_boxed_elements() {
+    // GIVEN
+    int[] actual = { 3, 1, 2, 1, 4, 3, 1 };
+    int[] values = { 5, 1, 1, 6, 5, 2 };
+    // WHEN
+    IterableDiff diff = PrimitiveArrays.diff(actual, values);
+    // THEN
+    assertThat(PrimitiveArrays.valuesNotFound(actual, values)).containsExactly(5, 6, 5);
+    assertThat(PrimitiveArrays.valuesFound(actual, values)).containsExactly(1, 1, 2);
+    assertThat(PrimitiveArrays.valuesFoundMoreThanOnce(actual, values)).containsExactly(1, 1);
+    assertThat(PrimitiveArrays.elementsNotIn(actual, values)).containsExactly(3, 4, 3);
+    assertThat(diff.unexpected).containsExactly(3, 4, 3, 1);
+    assertThat(diff.missing).containsExactly(5, 6, 5);
+    assertThat(PrimitiveArrays.duplicates(actual)).containsExactly(1, 3);
+    assertThat(PrimitiveArrays.indexOfFirstUnsortedElement(actual)).isEqualTo(0);
+    assertThat(PrimitiveArrays.indexOfFirstDifference(actual, new int[] { 3, 1, 5 })).isEqualTo(2);
+  }
+
+  @Test
+  public void should_compute_failure_details_of_doubles_like_their_boxed_values() {
+    // GIVEN
+    double[] actual = arrayOf(Double.NaN, -0.0, 1.0, -2.0, Double.NaN);
+    double[] unsorted = arrayOf(-2.0, -0.0, 0.0, 1.0, Double.NaN, 1.0);
+    // THEN
+    assertThat(PrimitiveArrays.valuesNotFound(actual, arrayOf(0.0, -2.0))).containsExactly(0.0);
+    assertThat(PrimitiveArrays.duplicates(actual)).containsExactly(Double.NaN);
+    assertThat(PrimitiveArrays.indexOfFirstUnsortedElement(unsorted)).isEqualTo(4);
+  }
+
+  @Test
+  public void should_compute_failure_details_of_large_arrays() {
+    // GIVEN
+    int[] actual = new int[1_000_000];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = i;
+    }
+    actual[actual.length - 1] = 0;
+    // THEN
+    assertThat(PrimitiveArrays.duplicates(actual)).containsExactly(0);
+    assertThat(PrimitiveArrays.elementsNotIn(actual, new int[] { 0 })).hasSize(actual.length - 2);
+    assertThat(PrimitiveArrays.valuesNotFound(actual, new int[] { -1, 0, 1_000_000 })).containsExactly(-1, 1_000_000);
+    assertThat(PrimitiveArrays.indexOfFirstUnsortedElement(actual)).isEqualTo(actual.length - 2);
+  }
+}
@@ -95,6 +95,29 @@ public class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  public void should_take_comparators_put_after_a_lookup_into_account() {
+    Comparator<I3> i3Comparator = newComparator();
+    Comparator<Bar> barComparator = newComparator();
+    assertThat(typeComparators.get(Foo.class)).isNull();
+
+    typeComparators.put(I3.class, i3Comparator);
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(i3Comparator);
+
+    typeComparators.put(Bar.class, barComparator);
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(barComparator);
+  }
+
+  @Test
+  public void should_find_no_comparator_after_a_lookup_once_cleared() {
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.put(Foo.class, fooComparator);
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(fooComparator);
+
+    typeComparators.clear();
+    assertThat(typeComparators.get(Foo.class)).isNull();
+  }
+
   @Test
   public void should_be_empty() {
     typeComparators.clear();
@@ -19,12 +19,14 @@ import static org.assertj.core.util.Arrays.array;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.TextFileWriter;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.TruncatedDeltas;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -139,4 +141,107 @@ public class Diff_diff_File_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 2:%n"
                                                 + "  [\"line_1\"]%n"));
   }
+
+  @Test
+  public void should_report_diffs_located_after_a_long_common_prefix_at_their_line() throws IOException {
+    // GIVEN
+    List<String> expectedLines = lines(5000);
+    List<String> actualLines = lines(5000);
+    actualLines.set(4000, "changed");
+    writer.write(actual, actualLines.toArray(new String[0]));
+    writer.write(expected, expectedLines.toArray(new String[0]));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 4001:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line4000\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"changed\"]%n"));
+  }
+
+  @Test
+  public void should_only_report_diffs_within_the_window_following_the_first_divergence() throws IOException {
+    // GIVEN
+    Diff windowedDiff = new Diff(10, 100);
+    List<String> expectedLines = lines(100);
+    List<String> actualLines = lines(100);
+    actualLines.remove(20);
+    actualLines.set(50, "changed");
+    writer.write(actual, actualLines.toArray(new String[0]));
+    writer.write(expected, expectedLines.toArray(new String[0]));
+    // WHEN
+    List<Delta<String>> diffs = windowedDiff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Missing content at line 21:%n"
+                                                + "  [\"line20\"]%n"));
+  }
+
+  @Test
+  public void should_report_at_most_max_deltas_diffs() throws IOException {
+    // GIVEN
+    Diff cappedDiff = new Diff(1000, 2);
+    writer.write(actual, "line_0", "line1", "line_2", "line3", "line_4");
+    writer.write(expected, "line0", "line1", "line2", "line3", "line4");
+    // WHEN
+    List<Delta<String>> diffs = cappedDiff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    assertThat(diffs).extracting(Delta::lineNumber).containsExactly(1, 3);
+  }
+
+  @Test
+  public void should_describe_where_the_diff_was_truncated_when_reporting_max_deltas_diffs() throws IOException {
+    // GIVEN
+    Diff cappedDiff = new Diff(1000, 2);
+    writer.write(actual, "line_0", "line1", "line_2", "line3", "line_4");
+    writer.write(expected, "line0", "line1", "line2", "line3", "line4");
+    // WHEN
+    List<Delta<String>> diffs = cappedDiff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    assertThat(diffs).isInstanceOf(TruncatedDeltas.class);
+    String truncation = ((TruncatedDeltas<String>) diffs).getTruncation();
+    assertThat(truncation).isEqualTo("The diff was truncated to its first 2 differences, "
+                                     + "the next ones start at line 5.");
+  }
+
+  @Test
+  public void should_describe_where_the_diff_was_truncated_when_files_have_lines_after_the_window() throws IOException {
+    // GIVEN
+    Diff windowedDiff = new Diff(10, 100);
+    List<String> expectedLines = lines(100);
+    List<String> actualLines = lines(100);
+    actualLines.set(20, "changed");
+    writer.write(actual, actualLines.toArray(new String[0]));
+    writer.write(expected, expectedLines.toArray(new String[0]));
+    // WHEN
+    List<Delta<String>> diffs = windowedDiff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    assertThat(diffs).hasSize(1)
+                     .isInstanceOf(TruncatedDeltas.class);
+    String truncation = ((TruncatedDeltas<String>) diffs).getTruncation();
+    assertThat(truncation).isEqualTo("The diff was truncated to the 10 lines following the first difference, "
+                                     + "lines from line 31 were not compared.");
+  }
+
+  @Test
+  public void should_not_truncate_the_diff_of_files_differing_only_within_the_window() throws IOException {
+    // GIVEN
+    writer.write(actual, "line0", "changed", "line2");
+    writer.write(expected, "line0", "line1", "line2");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    assertThat(diffs).hasSize(1)
+                     .isNotInstanceOf(TruncatedDeltas.class);
+  }
+
+  private static List<String> lines(int count) {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      lines.add("line" + i);
+    }
+    return lines;
+  }
 }
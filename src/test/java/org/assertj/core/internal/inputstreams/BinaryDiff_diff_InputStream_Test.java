@@ -82,6 +82,36 @@ public class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  public void should_return_diff_located_after_the_first_read_chunk() throws IOException {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    byte[] otherContent = content.clone();
+    otherContent[150_003] = (byte) 0xCA;
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(new ByteArrayInputStream(content), new ByteArrayInputStream(otherContent));
+    // THEN
+    assertThat(result.offset).isEqualTo(150_003);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  public void should_return_no_diff_if_inputstreams_returning_partial_reads_have_equal_content() throws IOException {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    InputStream partiallyReadStream = new ByteArrayInputStream(content) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        return super.read(b, off, Math.min(len, 1000));
+      }
+    };
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(partiallyReadStream, new ByteArrayInputStream(content));
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -27,6 +27,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -128,6 +129,45 @@ public class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
                              shouldContainOnly(actual, expected, newArrayList("Obiwan"), newArrayList()));
   }
 
+  @Test
+  public void should_report_duplicated_unexpected_and_missing_elements() {
+    AssertionInfo info = someInfo();
+    actual.addAll(newArrayList("Leia", "Han"));
+    Object[] expected = { "Luke", "Yoda", "Obiwan", "Obiwan" };
+
+    Throwable error = catchThrowable(() -> iterables.assertContainsOnly(info, actual, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldContainOnly(actual, expected, newArrayList("Obiwan", "Obiwan"),
+                                                     newArrayList("Leia", "Leia", "Han")));
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_given_arrays_only_compared_by_content() {
+    List<Object> arrays = newArrayList(new int[] { 1, 2 }, new String[] { "a" }, new Object[] { new int[] { 3 } });
+    iterables.assertContainsOnly(someInfo(), arrays, array(new Integer[] { 1, 2 }, new String[] { "a" },
+                                                           new Object[] { new Integer[] { 3 } }));
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_elements_overriding_equals_but_not_hashCode() {
+    List<Object> actual = newArrayList(new EqualsOnly("Luke"), new EqualsOnly("Yoda"));
+    iterables.assertContainsOnly(someInfo(), actual, array(new EqualsOnly("Yoda"), new EqualsOnly("Luke")));
+  }
+
+  private static class EqualsOnly {
+    private final String name;
+
+    private EqualsOnly(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsOnly && ((EqualsOnly) obj).name.equals(name);
+    }
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -27,6 +27,7 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -101,6 +102,31 @@ public class Iterables_assertContains_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContain(actual, expected, newLinkedHashSet("Han")));
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_arrays_compared_by_content() {
+    List<Object> arrays = newArrayList(new int[] { 1, 2 }, new String[] { "a" }, new Object[] { new int[] { 3 } });
+    iterables.assertContains(someInfo(), arrays, array(new Integer[] { 1, 2 }, new Object[] { new Integer[] { 3 } }));
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_given_values_overriding_equals_but_not_hashCode() {
+    List<Object> actual = newArrayList("Luke", new EqualsOnly("Yoda"));
+    iterables.assertContains(someInfo(), actual, array(new EqualsOnly("Yoda"), "Luke"));
+  }
+
+  private static class EqualsOnly {
+    private final String name;
+
+    private EqualsOnly(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsOnly && ((EqualsOnly) obj).name.equals(name);
+    }
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
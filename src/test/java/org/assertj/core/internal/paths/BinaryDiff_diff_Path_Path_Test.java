@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.nio.file.Path, java.nio.file.Path)}</code>.
+ */
+public class BinaryDiff_diff_Path_Path_Test {
+
+  // bigger than the chunks used to read the paths
+  private static final int CONTENT_SIZE = 300_000;
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE));
+    Path expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_no_diff_if_paths_are_empty() throws IOException {
+    // GIVEN
+    Path actual = write("actual", new byte[0]);
+    Path expected = write("expected", new byte[0]);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_the_first_diff_located_after_the_first_chunk() throws IOException {
+    // GIVEN
+    byte[] expectedContent = content(CONTENT_SIZE);
+    expectedContent[200_005] = (byte) 0xCA;
+    expectedContent[200_006] = (byte) 0xFE;
+    Path actual = write("actual", content(CONTENT_SIZE));
+    Path expected = write("expected", expectedContent);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(200_005);
+    assertThat(result.actual).isEqualTo("0x" + Integer.toHexString(200_005 % 251).toUpperCase());
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  public void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE - 1));
+    Path expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(CONTENT_SIZE - 1);
+    assertThat(result.actual).isEqualTo("EOF");
+  }
+
+  @Test
+  public void should_return_diff_if_expected_is_shorter_and_ends_on_a_chunk_boundary() throws IOException {
+    // GIVEN
+    int chunkSize = 64 * 1024;
+    Path actual = write("actual", content(chunkSize + 1));
+    Path expected = write("expected", content(chunkSize));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(chunkSize);
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  public void should_compare_path_with_byte_array_content() throws IOException {
+    // GIVEN
+    Path actual = write("actual", content(CONTENT_SIZE));
+    byte[] expected = content(CONTENT_SIZE);
+    // WHEN
+    BinaryDiffResult sameContentResult = binaryDiff.diff(actual, expected);
+    BinaryDiffResult longerContentResult = binaryDiff.diff(actual, Arrays.copyOf(expected, CONTENT_SIZE + 1));
+    // THEN
+    assertThat(sameContentResult.hasNoDiff()).isTrue();
+    assertThat(longerContentResult.offset).isEqualTo(CONTENT_SIZE);
+    assertThat(longerContentResult.actual).isEqualTo("EOF");
+    assertThat(longerContentResult.expected).isEqualTo("0x0");
+  }
+
+  private Path write(String fileName, byte[] content) throws IOException {
+    return Files.write(tempDir.resolve(fileName), content);
+  }
+
+  private static byte[] content(int size) {
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    return content;
+  }
+
+}
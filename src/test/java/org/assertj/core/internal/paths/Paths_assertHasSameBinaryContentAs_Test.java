@@ -13,7 +13,6 @@
 package org.assertj.core.internal.paths;
 
 import static java.nio.charset.Charset.defaultCharset;
-import static java.nio.file.Files.readAllBytes;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
@@ -41,14 +40,12 @@ public class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
 
   private Path actual;
   private Path expected;
-  private byte[] expectedBytes;
 
   @BeforeEach
   public void setUpOnce() throws IOException {
     // Does not matter if the values differ, the actual comparison is mocked in this test
     actual = createTempPathWithContent("foo", defaultCharset());
     expected = createTempPathWithContent("bar", defaultCharset());
-    expectedBytes = readAllBytes(expected);
     when(nioFilesWrapper.exists(actual)).thenReturn(true);
     when(nioFilesWrapper.isReadable(actual)).thenReturn(true);
     when(nioFilesWrapper.exists(expected)).thenReturn(true);
@@ -58,7 +55,7 @@ public class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
   @Test
   public void should_pass_if_path_has_same_binary_content_as_expected() throws IOException {
     // GIVEN
-    given(binaryDiff.diff(actual, expectedBytes)).willReturn(noDiff());
+    given(binaryDiff.diff(actual, expected)).willReturn(noDiff());
     // WHEN/THEN
     paths.assertHasSameBinaryContentAs(someInfo(), actual, expected);
   }
@@ -130,7 +127,7 @@ public class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
   public void should_throw_error_wrapping_caught_IOException() throws IOException {
     // GIVEN
     IOException cause = new IOException();
-    given(binaryDiff.diff(actual, expectedBytes)).willThrow(cause);
+    given(binaryDiff.diff(actual, expected)).willThrow(cause);
     // WHEN
     UncheckedIOException uioe = catchThrowableOfType(() -> paths.assertHasSameBinaryContentAs(someInfo(), actual, expected),
                                                      UncheckedIOException.class);
@@ -142,7 +139,7 @@ public class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
   public void should_fail_if_path_does_not_have_expected_binary_content() throws IOException {
     // GIVEN
     BinaryDiffResult diff = new BinaryDiffResult(15, (byte) 0xCA, (byte) 0xFE);
-    when(binaryDiff.diff(actual, expectedBytes)).thenReturn(diff);
+    when(binaryDiff.diff(actual, expected)).thenReturn(diff);
     // WHEN
     expectAssertionError(() -> paths.assertHasSameBinaryContentAs(someInfo(), actual, expected));
     // THEN
@@ -59,4 +59,29 @@ public class ContainsOnlyPerfTest {
     assertThat(objects).usingElementComparator(Integer::compare)
                        .containsOnly(0, 1);
   }
+
+  @Test
+  @Timeout(value = 10)
+  public void test_containsOnly_10mElements() {
+    final ArrayList<Object> objects = new ArrayList<>();
+    for (int i = 0; i < 10_000_000; i++) {
+      objects.add(ThreadLocalRandom.current().nextBoolean());
+    }
+    assertThat(objects).containsOnly(TRUE, FALSE);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  public void test_containsOnly_10mElements_against_thousands_of_expected_values() {
+    final int expectedValuesCount = 5_000;
+    final ArrayList<Integer> objects = new ArrayList<>();
+    for (int i = 0; i < 10_000_000; i++) {
+      objects.add(i % expectedValuesCount);
+    }
+    Integer[] expectedValues = new Integer[expectedValuesCount];
+    for (int i = 0; i < expectedValuesCount; i++) {
+      expectedValues[i] = i;
+    }
+    assertThat(objects).containsOnly(expectedValues);
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Looking up a few values in a large iterable must stop at the first equal element instead of indexing the whole
+ * iterable: 10,000 lookups of a value at the start of a 1 million elements list take well under a second, indexing the
+ * list on each lookup takes minutes.
+ */
+public class ContainsPerfTest {
+
+  private static final int LOOKUPS = 10_000;
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  @Timeout(value = 1)
+  public void should_look_up_a_single_value_in_1m_elements_without_indexing_them() {
+    // GIVEN
+    List<Integer> objects = oneMillionIntegers();
+    // WHEN/THEN
+    for (int i = 0; i < LOOKUPS; i++) {
+      assertThat(objects).contains(0)
+                         .containsAnyOf(0);
+    }
+  }
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  @Timeout(value = 1)
+  public void should_look_up_a_single_value_in_1m_elements_array_without_indexing_them() {
+    // GIVEN
+    Integer[] objects = oneMillionIntegers().toArray(new Integer[0]);
+    // WHEN/THEN
+    for (int i = 0; i < LOOKUPS; i++) {
+      assertThat(objects).contains(0)
+                         .containsAnyOf(0);
+    }
+  }
+
+  private static List<Integer> oneMillionIntegers() {
+    List<Integer> objects = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      objects.add(i);
+    }
+    return objects;
+  }
+}
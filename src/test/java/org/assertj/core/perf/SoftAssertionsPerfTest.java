@@ -51,6 +51,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 /**
  * results in 3.9.0  : ~3000ms
@@ -271,4 +272,29 @@ public class SoftAssertionsPerfTest extends BaseAssertionsTest {
     catchThrowable(() -> softly.assertAll());
   }
 
+  // 10 rounds of 20,000 failing soft assertions, half of them with a nested proxy call
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  @Timeout(value = 10)
+  public void should_collect_many_failing_soft_assertions_quickly() {
+    int rounds = 10;
+    int failuresPerRound = 10_000;
+    for (int i = 0; i < rounds; i++) {
+      List<Throwable> errors = collectFailingSoftAssertions(failuresPerRound);
+      assertThat(errors).hasSize(2 * failuresPerRound);
+    }
+  }
+
+  private static List<Throwable> collectFailingSoftAssertions(int count) {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < count; i++) {
+      // isFalse() calls isEqualTo(false) which is also proxied: nested proxy call
+      softly.assertThat(true).isFalse();
+      softly.assertThat(i).isNegative();
+    }
+    assertThat(softly.wasSuccess()).isFalse();
+    return softly.errorsCollected();
+  }
+
 }
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
+import org.assertj.core.internal.TypeComparators;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +46,51 @@ public class TypeComparatorsPerfTest {
     System.out.println("execution time for " + total + " -> " + duration + "ms");
   }
 
+  // execution time for 1000000 lookups of classes with 4 superclasses and 4 interfaces and no registered comparator:
+  // walking the hierarchy on each lookup: ~370ms
+  // with resolved comparators cache : ~25ms
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  public void run_1_000_000_type_comparators_lookups_missing_on_deep_hierarchies() {
+    long start = System.currentTimeMillis();
+    // GIVEN
+    int total = 1_000_000;
+    TypeComparators typeComparators = TypeComparators.defaultTypeComparators();
+    Class<?>[] types = { Level4.class, Level3.class, Level2.class, Level1.class };
+    // WHEN
+    for (int i = 0; i < total; i++) {
+      assertThat(typeComparators.get(types[i % types.length])).isNull();
+    }
+    // THEN
+    long end = System.currentTimeMillis();
+    long duration = ChronoUnit.MILLIS.between(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end));
+    System.out.println("execution time for " + total + " -> " + duration + "ms");
+  }
+
+  private interface Level1Interface {
+  }
+
+  private interface Level2Interface extends Level1Interface {
+  }
+
+  private interface Level3Interface extends Level2Interface {
+  }
+
+  private interface Level4Interface extends Level3Interface {
+  }
+
+  private static class Level1 implements Level1Interface {
+  }
+
+  private static class Level2 extends Level1 implements Level2Interface {
+  }
+
+  private static class Level3 extends Level2 implements Level3Interface {
+  }
+
+  private static class Level4 extends Level3 implements Level4Interface {
+  }
+
 }
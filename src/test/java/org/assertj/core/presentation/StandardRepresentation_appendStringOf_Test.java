@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StandardRepresentation#appendStringOf(Object, BoundedStringBuilder)}.
+ */
+public class StandardRepresentation_appendStringOf_Test extends AbstractBaseRepresentationTest {
+
+  private static final StandardRepresentation STANDARD_REPRESENTATION = new StandardRepresentation();
+
+  @Test
+  public void should_append_the_same_representation_as_toStringOf() {
+    // GIVEN
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("key", new Object[] { 1, "two", new int[] { 3, 4 } });
+    map.put("list", list("a very long string to be sure that the collection is formatted on multiple lines", 'c'));
+    Object[] array = { map, null, 5L };
+    BoundedStringBuilder builder = new BoundedStringBuilder(Integer.MAX_VALUE);
+    // WHEN
+    STANDARD_REPRESENTATION.appendStringOf(array, builder);
+    // THEN
+    then(builder.isTruncated()).isFalse();
+    then(builder.toString()).isEqualTo(STANDARD_REPRESENTATION.toStringOf(array));
+  }
+
+  @Test
+  public void should_truncate_the_representation_exceeding_the_builder_budget() {
+    // GIVEN
+    List<String> list = list("Luke", "Yoda", "Leia");
+    BoundedStringBuilder builder = new BoundedStringBuilder(10);
+    // WHEN
+    STANDARD_REPRESENTATION.appendStringOf(list, builder);
+    // THEN
+    then(builder.isTruncated()).isTrue();
+    then(builder.toString()).isEqualTo("[\"Luke\", \"...");
+  }
+
+  @Test
+  public void should_stop_representing_elements_once_the_builder_budget_is_exhausted() {
+    // GIVEN
+    AccessCountingList hugeList = new AccessCountingList(100_000_000);
+    BoundedStringBuilder builder = new BoundedStringBuilder(1_000);
+    // WHEN
+    STANDARD_REPRESENTATION.appendStringOf(list(hugeList, hugeList), builder);
+    // THEN
+    then(builder.length()).isEqualTo(1_000);
+    then(hugeList.accessedElements).isLessThan(1_000);
+  }
+
+  @Test
+  public void should_use_toStringOf_for_representations_formatting_containers_their_own_way() {
+    // GIVEN
+    Representation representation = new StandardRepresentation() {
+      @Override
+      public String toStringOf(Object object) {
+        return object instanceof List ? "a list" : super.toStringOf(object);
+      }
+    };
+    BoundedStringBuilder builder = new BoundedStringBuilder(100);
+    // WHEN
+    representation.appendStringOf(list("Luke"), builder);
+    // THEN
+    then(builder.toString()).isEqualTo("a list");
+  }
+
+  @Test
+  public void should_append_containers_element_by_element_for_representations_opting_in() {
+    // GIVEN
+    AccessCountingList hugeList = new AccessCountingList(100_000_000);
+    BoundedStringBuilder builder = new BoundedStringBuilder(1_000);
+    // WHEN
+    HexadecimalRepresentation.HEXA_REPRESENTATION.appendStringOf(hugeList, builder);
+    // THEN
+    then(builder.length()).isEqualTo(1_000);
+    then(hugeList.accessedElements).isLessThan(1_000);
+  }
+
+  private static class AccessCountingList extends AbstractList<String> {
+
+    private final int size;
+    private int accessedElements;
+
+    private AccessCountingList(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public String get(int index) {
+      accessedElements++;
+      return "element" + index;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
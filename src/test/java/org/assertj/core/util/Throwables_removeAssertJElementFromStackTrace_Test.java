@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,25 @@ public class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  public void should_remove_reflection_constructor_element_used_to_build_assertion_errors() {
+    // GIVEN
+    StackTraceElement test = new StackTraceElement("com.example.MyTest", "test", "MyTest.java", 12);
+    StackTraceElement constructor = new StackTraceElement("java.lang.reflect.Constructor", "newInstance",
+                                                          "Constructor.java", 501);
+    StackTraceElement constructorInvoker = new StackTraceElement("org.assertj.core.error.ConstructorInvoker",
+                                                                 "newInstance", "ConstructorInvoker.java", 34);
+    StackTraceElement shouldBeEqual = new StackTraceElement("org.assertj.core.error.ShouldBeEqual", "newAssertionError",
+                                                            "ShouldBeEqual.java", 81);
+    StackTraceElement runner = new StackTraceElement("com.example.Runner", "run", "Runner.java", 5);
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(constructor, constructorInvoker, shouldBeEqual, test, runner));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    assertThat(throwable.getStackTrace()).containsExactly(test, runner);
+  }
+
   private static class AssertJThrowable extends Throwable {
     private static final long serialVersionUID = 1L;
   }
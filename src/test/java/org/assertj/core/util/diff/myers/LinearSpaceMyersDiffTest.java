@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+public class LinearSpaceMyersDiffTest {
+
+  private final LinearSpaceMyersDiff<String> diff = new LinearSpaceMyersDiff<>(Integer.MAX_VALUE);
+
+  @Test
+  public void should_return_no_deltas_for_equal_lists() {
+    // WHEN
+    Patch<String> patch = diff.diff(newArrayList("aaa", "bbb"), newArrayList("aaa", "bbb"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  public void should_detect_insertion() {
+    // WHEN
+    Patch<String> patch = diff.diff(newArrayList("hhh"), newArrayList("hhh", "jjj", "kkk"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(1, emptyList()),
+                                                                    new Chunk<>(1, newArrayList("jjj", "kkk"))));
+  }
+
+  @Test
+  public void should_detect_deletion() {
+    // WHEN
+    Patch<String> patch = diff.diff(newArrayList("ddd", "fff", "ggg"), newArrayList("ggg"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new DeleteDelta<>(new Chunk<>(0, newArrayList("ddd", "fff")),
+                                                                    new Chunk<>(0, emptyList())));
+  }
+
+  @Test
+  public void should_merge_adjacent_deletion_and_insertion_into_a_change() {
+    // WHEN
+    Patch<String> patch = diff.diff(newArrayList("aaa", "bbb", "ccc"), newArrayList("aaa", "zzz", "ccc"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("bbb")),
+                                                                    new Chunk<>(1, newArrayList("zzz"))));
+  }
+
+  @Test
+  public void should_compute_the_same_deltas_as_myers_diff() {
+    // GIVEN
+    List<String> original = newArrayList("line1", "line1a", "line1b", "line2", "line3", "line7", "line5");
+    List<String> revised = newArrayList("line1", "line2", "line3", "line4", "line5", "line 9", "line 10", "line 11");
+    // WHEN
+    Patch<String> patch = diff.diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).isEqualTo(new MyersDiff<String>().diff(original, revised).getDeltas());
+  }
+
+  @Test
+  public void should_compute_a_patch_turning_the_original_list_into_the_revised_one() {
+    // GIVEN
+    List<String> original = new ArrayList<>();
+    List<String> revised = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      original.add("line" + i);
+      if (i % 100 != 0) revised.add("line" + i);
+      if (i % 70 == 0) revised.add("new line" + i);
+    }
+    // WHEN
+    Patch<String> patch = diff.diff(original, revised);
+    // THEN
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  public void should_return_a_single_change_between_common_prefix_and_suffix_when_edit_distance_exceeds_the_maximum() {
+    // GIVEN
+    LinearSpaceMyersDiff<String> cappedDiff = new LinearSpaceMyersDiff<>(3);
+    List<String> original = newArrayList("aaa", "b1", "c1", "d1", "eee");
+    List<String> revised = newArrayList("aaa", "b2", "c2", "eee");
+    // WHEN
+    Patch<String> patch = cappedDiff.diff(original, revised);
+    // THEN
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("b1", "c1", "d1")),
+                                                         new Chunk<>(1, newArrayList("b2", "c2"))));
+  }
+
+  @Test
+  public void should_compute_detailed_deltas_when_edit_distance_equals_the_maximum() {
+    // GIVEN
+    LinearSpaceMyersDiff<String> cappedDiff = new LinearSpaceMyersDiff<>(2);
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd");
+    List<String> revised = newArrayList("aaa", "ccc", "ddd", "eee");
+    // WHEN
+    Patch<String> patch = cappedDiff.diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new DeleteDelta<>(new Chunk<>(1, newArrayList("bbb")),
+                                                                    new Chunk<>(1, emptyList())),
+                                                  new InsertDelta<>(new Chunk<>(4, emptyList()),
+                                                                    new Chunk<>(3, newArrayList("eee"))));
+  }
+
+  @Test
+  public void should_fail_if_max_edit_distance_is_negative() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> new LinearSpaceMyersDiff<>(-1));
+    // THEN
+    assertThat(throwable).isInstanceOf(IllegalArgumentException.class)
+                         .hasMessage("The maximum edit distance must be greater or equal to 0 but was -1");
+  }
+}
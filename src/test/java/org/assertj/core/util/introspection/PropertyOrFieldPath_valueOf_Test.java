@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PropertyOrFieldPath_valueOf_Test {
+
+  private PropertyOrFieldSupport propertyOrFieldSupport;
+  private Employee yoda;
+
+  @BeforeEach
+  public void setup() {
+    propertyOrFieldSupport = PropertyOrFieldSupport.EXTRACTION;
+    yoda = new Employee(1L, new Name("Yoda"), 800);
+    yoda.setRelation("padawan", new Employee(3L, new Name("Luke", "Skywalker"), 24));
+  }
+
+  @Test
+  public void should_extract_the_same_values_as_getValueOf() {
+    String[] names = { "age", "adult", "id", "city", "name.first", "surname.first", "relations.padawan.name.first" };
+    for (String name : names) {
+      // GIVEN
+      PropertyOrFieldPath path = propertyOrFieldSupport.pathOf(name);
+      // WHEN
+      Object value = path.valueOf(yoda);
+      // THEN
+      assertThat(value).as(name).isEqualTo(propertyOrFieldSupport.getValueOf(name, yoda));
+    }
+  }
+
+  @Test
+  public void should_extract_values_from_objects_of_different_classes() {
+    // GIVEN
+    PropertyOrFieldPath path = propertyOrFieldSupport.pathOf("name.first");
+    Employee luke = new Employee(2L, new Name("Luke"), 26) {
+      @Override
+      public Name getName() {
+        return new Name("Young " + super.getName().getFirst());
+      }
+    };
+    // WHEN
+    Object yodaFirstName = path.valueOf(yoda);
+    Object lukeFirstName = path.valueOf(luke);
+    Object yodaFirstNameAgain = path.valueOf(yoda);
+    // THEN
+    assertThat(yodaFirstName).isEqualTo("Yoda");
+    assertThat(lukeFirstName).isEqualTo("Young Luke");
+    assertThat(yodaFirstNameAgain).isEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_take_private_fields_setting_changes_into_account() {
+    // GIVEN
+    PropertyOrFieldSupport publicFieldsOnlySupport = new PropertyOrFieldSupport(new PropertySupport(),
+                                                                                FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+    PropertyOrFieldPath path = publicFieldsOnlySupport.pathOf("city");
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> path.valueOf(yoda));
+    try {
+      // WHEN
+      publicFieldsOnlySupport.setAllowUsingPrivateFields(true);
+      // THEN
+      assertThat(path.valueOf(yoda)).isEqualTo("New York");
+    } finally {
+      publicFieldsOnlySupport.setAllowUsingPrivateFields(false);
+    }
+  }
+
+  @Test
+  public void should_throw_error_when_no_property_nor_field_match_given_name() {
+    PropertyOrFieldPath path = propertyOrFieldSupport.pathOf("name.unknown");
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> path.valueOf(yoda));
+  }
+
+  @Test
+  public void should_throw_exception_if_no_object_is_given() {
+    PropertyOrFieldPath path = propertyOrFieldSupport.pathOf("name");
+    assertThatIllegalArgumentException().isThrownBy(() -> path.valueOf(null))
+                                        .withMessage("The object to extract property/field from should not be null");
+  }
+
+  @Test
+  public void should_throw_exception_when_given_name_is_null() {
+    assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.pathOf(null))
+                                        .withMessage("The name of the property/field to read should not be null");
+  }
+
+  @Test
+  public void should_throw_exception_when_given_name_is_empty() {
+    assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.pathOf(""))
+                                        .withMessage("The name of the property/field to read should not be empty");
+  }
+
+}
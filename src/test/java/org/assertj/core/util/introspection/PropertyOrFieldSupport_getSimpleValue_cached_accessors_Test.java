@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.core.test.Jedi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PropertyOrFieldSupport_getSimpleValue_cached_accessors_Test {
+
+  private FieldSupport fieldSupport = FieldSupport.comparison();
+  private PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport(new PropertySupport(), fieldSupport);
+
+  @AfterEach
+  public void reset() {
+    fieldSupport.setAllowUsingPrivateFields(true);
+    Introspection.setExtractBareNamePropertyMethods(true);
+  }
+
+  @Test
+  public void should_read_values_of_different_instances_of_the_same_class() {
+    // GIVEN
+    Jedi luke = new Jedi("Luke", "Green");
+    Jedi yoda = new Jedi("Yoda", "Blue");
+    // WHEN
+    Object lukeSaberColor = propertyOrFieldSupport.getSimpleValue("lightSaberColor", luke);
+    Object yodaSaberColor = propertyOrFieldSupport.getSimpleValue("lightSaberColor", yoda);
+    // THEN
+    assertThat(lukeSaberColor).isEqualTo("Green");
+    assertThat(yodaSaberColor).isEqualTo("Blue");
+  }
+
+  @Test
+  public void should_keep_failing_when_reading_an_unknown_name_again() {
+    // GIVEN
+    Jedi luke = new Jedi("Luke", "Green");
+    // WHEN/THEN
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> propertyOrFieldSupport.getSimpleValue("unknown", luke));
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> propertyOrFieldSupport.getSimpleValue("unknown", luke));
+  }
+
+  @Test
+  public void should_honor_private_fields_usage_changes() {
+    // GIVEN
+    Jedi luke = new Jedi("Luke", "Green").setStrangeNotReadablePrivateField("secret");
+    assertThat(propertyOrFieldSupport.getSimpleValue("strangeNotReadablePrivateField", luke)).isEqualTo("secret");
+    // WHEN
+    fieldSupport.setAllowUsingPrivateFields(false);
+    // THEN
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> propertyOrFieldSupport.getSimpleValue("strangeNotReadablePrivateField",
+                                                                                                              luke));
+  }
+
+  @Test
+  public void should_honor_bare_name_property_methods_extraction_changes() {
+    // GIVEN
+    BareNameHolder holder = new BareNameHolder();
+    assertThat(propertyOrFieldSupport.getSimpleValue("value", holder)).isEqualTo("bare name property");
+    // WHEN
+    Introspection.setExtractBareNamePropertyMethods(false);
+    // THEN
+    assertThat(propertyOrFieldSupport.getSimpleValue("value", holder)).isEqualTo("field");
+  }
+
+  @Test
+  public void should_fall_back_to_the_field_without_calling_a_failing_getter_again() {
+    // GIVEN
+    FailingGetterHolder holder = new FailingGetterHolder();
+    // WHEN
+    Object value = propertyOrFieldSupport.getSimpleValue("value", holder);
+    // THEN
+    assertThat(value).isEqualTo("field");
+    assertThat(holder.getterCalls).isEqualTo(1);
+  }
+
+  @Test
+  public void should_report_a_failing_getter_like_introspection_when_there_is_no_field_to_fall_back_to() {
+    // GIVEN
+    FailingGetterHolder holder = new FailingGetterHolder();
+    // WHEN
+    Throwable error = catchThrowable(() -> propertyOrFieldSupport.getSimpleValue("otherValue", holder));
+    // THEN
+    assertThat(error).isInstanceOf(IntrospectionError.class)
+                     .hasMessageContaining("Can't find any field or property with name 'otherValue'")
+                     .hasMessageContaining("Unable to find property 'otherValue'");
+    assertThat(holder.getterCalls).isEqualTo(1);
+  }
+
+  public static class FailingGetterHolder {
+    @SuppressWarnings("unused")
+    private final String value = "field";
+    private int getterCalls;
+
+    public String getValue() {
+      getterCalls++;
+      throw new IllegalStateException("boom");
+    }
+
+    public String getOtherValue() {
+      getterCalls++;
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  public static class BareNameHolder {
+    @SuppressWarnings("unused")
+    private final String value = "field";
+
+    public String value() {
+      return "bare name property";
+    }
+  }
+
+}